@@ -15,6 +15,7 @@
  */
 package minium.actions;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import minium.AsIs;
@@ -34,6 +35,11 @@ import minium.AsIs;
  *     .timeout(1, TimeUnit.SECONDS)
  *     .interval(200, TimeUnit.MILLISECONDS)
  *   .done()
+ *   .waitingPreset("adaptive")
+ *     .timeout(10, TimeUnit.SECONDS)
+ *     .interval(1, TimeUnit.SECONDS)
+ *     .waitStrategy(WaitStrategies.progressive(50, TimeUnit.MILLISECONDS))
+ *   .done()
  *   .interactionListeners()
  *     .add(slowMotion(2, TimeUnit.SECONDS))
  *     .add(retry())
@@ -45,7 +51,8 @@ import minium.AsIs;
 public interface Configuration extends AsIs {
 
     /**
-     * A waiting preset is basically a named pair of timeout and interval values. They are very
+     * A waiting preset is basically a named pair of timeout and interval values (plus an optional
+     * {@link WaitStrategy} that computes the actual sleep time from the interval). They are very
      * convenient to reflect specific interaction waiting periods (for instance, some tasks may
      * require a bigger timeout period, so one can create a "slow" waiting preset for that.
      *
@@ -88,8 +95,25 @@ public interface Configuration extends AsIs {
         WaitingPreset interval(long time, TimeUnit unit);
 
         /**
-         * Resets this waiting preset interval, that is, both timeout and interval
-         * periods will be the default values for the corresponding configuration.
+         * Sets this waiting preset wait strategy.
+         *
+         * @param waitStrategy the wait strategy for this waiting preset
+         * @return this waiting preset
+         */
+        WaitingPreset waitStrategy(WaitStrategy waitStrategy);
+
+        /**
+         * Sets if interactions with this waiting preset that fill fields can set their value
+         * directly in the page instead of typing it, whenever the field allows it.
+         *
+         * @param fastFill true to fill fields directly in the page
+         * @return this waiting preset
+         */
+        WaitingPreset fastFill(boolean fastFill);
+
+        /**
+         * Resets this waiting preset interval, that is, timeout and interval periods, as
+         * well as the wait strategy and fast fill, will be the default values for the corresponding configuration.
          *
          * @return this waiting preset
          */
@@ -109,6 +133,21 @@ public interface Configuration extends AsIs {
          */
         Duration interval();
 
+        /**
+         * Gets this waiting preset wait strategy.
+         *
+         * @return this waiting preset wait strategy
+         */
+        WaitStrategy waitStrategy();
+
+        /**
+         * Checks if interactions with this waiting preset that fill fields can set their value
+         * directly in the page.
+         *
+         * @return true if fields are filled directly in the page
+         */
+        boolean fastFill();
+
         /**
          * Goes back to the corresponding configuration.
          *
@@ -150,6 +189,16 @@ public interface Configuration extends AsIs {
          */
         InteractionListenerCollection clear();
 
+        /**
+         * Gets the registered interaction listeners that handle a given event type, in
+         * registration order. The returned list is an immutable snapshot, so it is not affected by
+         * later additions or removals.
+         *
+         * @param type interaction event type
+         * @return listeners that handle events of that type
+         */
+        List<InteractionListener> listeners(InteractionEvent.Type type);
+
         /**
          * Goes back to the corresponding configuration.
          *
@@ -247,6 +296,54 @@ public interface Configuration extends AsIs {
      */
     Configuration defaultInterval(long time, TimeUnit unit);
 
+    /**
+     * Gets the default wait strategy, used by waiting presets without a specific one.
+     *
+     * @return the default wait strategy
+     */
+    WaitStrategy defaultWaitStrategy();
+
+    /**
+     * Sets the default wait strategy.
+     *
+     * @param defaultWaitStrategy the default wait strategy
+     * @return this configuration
+     */
+    Configuration defaultWaitStrategy(WaitStrategy defaultWaitStrategy);
+
+    /**
+     * Checks if, by default, interactions that fill fields set their value directly in the page.
+     *
+     * @return true if fields are filled directly in the page by default
+     */
+    boolean defaultFastFill();
+
+    /**
+     * Sets if, by default, interactions that fill fields set their value directly in the page
+     * instead of typing it. Fields with key handlers are always typed.
+     *
+     * @param defaultFastFill true to fill fields directly in the page by default
+     * @return this configuration
+     */
+    Configuration defaultFastFill(boolean defaultFastFill);
+
+    /**
+     * Checks if interactions that select options use one command per option, like Selenium
+     * {@code Select}, instead of a single script evaluation.
+     *
+     * @return true if options are selected natively
+     */
+    boolean nativeSelection();
+
+    /**
+     * Sets if interactions that select options use one command per option, like Selenium
+     * {@code Select}, instead of a single script evaluation.
+     *
+     * @param nativeSelection true to select options natively
+     * @return this configuration
+     */
+    Configuration nativeSelection(boolean nativeSelection);
+
     /**
      * Gets the waiting preset corresponding to the passed preset value. That waiting
      * can be used to access or update both interval and timeout periods. If that waiting preset
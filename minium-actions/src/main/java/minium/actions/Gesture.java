@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions;
+
+import java.util.concurrent.TimeUnit;
+
+import minium.Elements;
+import minium.Offsets.Offset;
+
+/**
+ * Records a sequence of low-level mouse and keyboard steps that are performed together, as a
+ * single interaction. Existence of all involved elements is checked once, before any step is
+ * performed, and the whole sequence is sent to the browser at once. For instance:
+ *
+ * <pre>
+ * $("#item").gesture()
+ *   .moveTo()
+ *   .clickAndHold()
+ *   .moveTo($("#trash"))
+ *   .release()
+ *   .perform();
+ * </pre>
+ *
+ * Pointer steps without target act at the current mouse location, so gestures usually start
+ * with {@link #moveTo()}. Keyboard steps are sent to the focused element.
+ *
+ * @param <T> {@link Interactable} type returned when the gesture is performed
+ */
+public interface Gesture<T extends Interactable<?>> {
+
+    /**
+     * Moves the mouse to the middle of the first element this gesture was created from.
+     *
+     * @return this gesture
+     */
+    public Gesture<T> moveTo();
+
+    /**
+     * Moves the mouse to the first element this gesture was created from, with the specified offset.
+     *
+     * @param offset offset relative to that element
+     * @return this gesture
+     * @throws IllegalArgumentException if this gesture was created from document roots
+     */
+    public Gesture<T> moveTo(Offset offset);
+
+    /**
+     * Moves the mouse to the middle of the first matched target element.
+     *
+     * @param target elements to move to
+     * @return this gesture
+     */
+    public Gesture<T> moveTo(Elements target);
+
+    /**
+     * Moves the mouse to the first matched target element, with the specified offset.
+     *
+     * @param target elements to move to
+     * @param offset offset relative to the first matched target element
+     * @return this gesture
+     * @throws IllegalArgumentException if target elements are document roots
+     */
+    public Gesture<T> moveTo(Elements target, Offset offset);
+
+    public Gesture<T> clickAndHold();
+
+    public Gesture<T> clickAndHold(Elements target);
+
+    public Gesture<T> release();
+
+    public Gesture<T> release(Elements target);
+
+    public Gesture<T> click();
+
+    public Gesture<T> click(Elements target);
+
+    public Gesture<T> doubleClick();
+
+    public Gesture<T> doubleClick(Elements target);
+
+    public Gesture<T> contextClick();
+
+    public Gesture<T> contextClick(Elements target);
+
+    public Gesture<T> keyDown(Keys keys);
+
+    public Gesture<T> keyUp(Keys keys);
+
+    public Gesture<T> sendKeys(CharSequence ... keys);
+
+    /**
+     * Waits between the previous and the next steps, without ending the gesture.
+     *
+     * @param time time to wait
+     * @param unit time unit
+     * @return this gesture
+     */
+    public Gesture<T> pause(long time, TimeUnit unit);
+
+    /**
+     * Performs all recorded steps as a single interaction.
+     *
+     * @return the {@link Interactable} this gesture was created from
+     */
+    public T perform();
+}
@@ -132,4 +132,12 @@ public interface MouseInteractable<T extends Interactable<?>> extends Interactab
      * @return this {@link Interactable}
      */
     public T dragAndDrop(Elements target);
+
+    /**
+     * Starts recording a gesture, a sequence of mouse and keyboard steps that are performed
+     * together as a single interaction.
+     *
+     * @return a new {@link Gesture} for the first matched element
+     */
+    public Gesture<T> gesture();
 }
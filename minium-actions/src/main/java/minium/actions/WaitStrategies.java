@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Default {@link WaitStrategy} implementations. For instance:
+ *
+ * <pre>
+ * configuration
+ *   .waitingPreset("slow")
+ *     .timeout(20, TimeUnit.SECONDS)
+ *     .interval(1, TimeUnit.SECONDS)
+ *     .waitStrategy(jittered(exponential(2, 5, TimeUnit.SECONDS), 0.2))
+ *   .done()
+ * </pre>
+ */
+public class WaitStrategies {
+
+    private static final WaitStrategy FIXED = new FixedWaitStrategy();
+
+    /**
+     * Sleeps the waiting preset interval between checks.
+     *
+     * @return the wait strategy
+     */
+    public static WaitStrategy fixed() {
+        return FIXED;
+    }
+
+    /**
+     * Starts by sleeping the waiting preset interval, and then multiplies it by
+     * {@code multiplier} after each failed check, up to {@code maxInterval}.
+     *
+     * @param multiplier the factor applied after each failed check (must be at least 1)
+     * @param maxInterval the maximum time to sleep between checks
+     * @param unit the max interval time unit
+     * @return the wait strategy
+     */
+    public static WaitStrategy exponential(double multiplier, long maxInterval, TimeUnit unit) {
+        return new ExponentialWaitStrategy(multiplier, unit.toMillis(maxInterval));
+    }
+
+    /**
+     * Randomly spreads the sleep time computed by another strategy by up to {@code jitter} of
+     * its value, so that concurrent waits don't hit the browser at the same time.
+     *
+     * @param waitStrategy the wait strategy to spread
+     * @param jitter the maximum relative variation, between 0 and 1
+     * @return the wait strategy
+     */
+    public static WaitStrategy jittered(WaitStrategy waitStrategy, double jitter) {
+        return new JitteredWaitStrategy(waitStrategy, jitter);
+    }
+
+    /**
+     * Polls fast right after the first (immediate) check, starting at {@code initialInterval}
+     * and doubling it after each failed check until it reaches the waiting preset interval.
+     * Conditions that are met quickly are detected almost immediately, while long waits
+     * don't overload the browser.
+     *
+     * @param initialInterval the time to sleep after the first failed check
+     * @param unit the initial interval time unit
+     * @return the wait strategy
+     */
+    public static WaitStrategy progressive(long initialInterval, TimeUnit unit) {
+        return new ProgressiveWaitStrategy(unit.toMillis(initialInterval));
+    }
+
+    static long toMillis(Duration duration) {
+        return duration.getUnit().toMillis(duration.getTime());
+    }
+
+    static long grow(long initial, double multiplier, long failedAttempts, long max) {
+        double sleepTime = initial * Math.pow(multiplier, Math.max(0, failedAttempts - 1));
+        return sleepTime >= max ? max : (long) sleepTime;
+    }
+
+    static class FixedWaitStrategy implements WaitStrategy {
+
+        @Override
+        public long computeSleepTime(long failedAttempts, Duration interval) {
+            return toMillis(interval);
+        }
+
+        @Override
+        public String toString() {
+            return "fixed";
+        }
+    }
+
+    static class ExponentialWaitStrategy implements WaitStrategy {
+
+        private final double multiplier;
+        private final long maxInterval;
+
+        public ExponentialWaitStrategy(double multiplier, long maxInterval) {
+            checkArgument(multiplier >= 1, "multiplier must be at least 1");
+            checkArgument(maxInterval >= 0, "max interval must not be negative");
+            this.multiplier = multiplier;
+            this.maxInterval = maxInterval;
+        }
+
+        @Override
+        public long computeSleepTime(long failedAttempts, Duration interval) {
+            long initial = Math.min(toMillis(interval), maxInterval);
+            return grow(initial, multiplier, failedAttempts, maxInterval);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper("exponential")
+                    .add("multiplier", multiplier)
+                    .add("maxInterval", maxInterval)
+                    .toString();
+        }
+    }
+
+    static class JitteredWaitStrategy implements WaitStrategy {
+
+        private final WaitStrategy waitStrategy;
+        private final double jitter;
+
+        public JitteredWaitStrategy(WaitStrategy waitStrategy, double jitter) {
+            checkNotNull(waitStrategy);
+            checkArgument(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+            this.waitStrategy = waitStrategy;
+            this.jitter = jitter;
+        }
+
+        @Override
+        public long computeSleepTime(long failedAttempts, Duration interval) {
+            long sleepTime = waitStrategy.computeSleepTime(failedAttempts, interval);
+            double variation = jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            return Math.max(0, Math.round(sleepTime * (1 + variation)));
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper("jittered")
+                    .add("waitStrategy", waitStrategy)
+                    .add("jitter", jitter)
+                    .toString();
+        }
+    }
+
+    static class ProgressiveWaitStrategy implements WaitStrategy {
+
+        private final long initialInterval;
+
+        public ProgressiveWaitStrategy(long initialInterval) {
+            checkArgument(initialInterval >= 0, "initial interval must not be negative");
+            this.initialInterval = initialInterval;
+        }
+
+        @Override
+        public long computeSleepTime(long failedAttempts, Duration interval) {
+            long maxInterval = toMillis(interval);
+            if (initialInterval == 0) return failedAttempts <= 1 ? 0 : maxInterval;
+            return grow(Math.min(initialInterval, maxInterval), 2, failedAttempts, maxInterval);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper("progressive")
+                    .add("initialInterval", initialInterval)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions;
+
+/**
+ * Computes how long a wait sleeps between two consecutive checks of its condition. Wait
+ * strategies are stateless, so the same instance can be shared by several waiting presets
+ * and waits. Default implementations are available in {@link WaitStrategies}.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Computes the time to sleep before checking the condition again.
+     *
+     * @param failedAttempts number of checks that already failed (starts at 1)
+     * @param interval the waiting preset interval
+     * @return the time to sleep, in milliseconds
+     */
+    long computeSleepTime(long failedAttempts, Duration interval);
+}
@@ -40,7 +40,11 @@ public abstract class AbstractInteractable<T extends Interactable<?>> extends Ch
                 interaction.registerListener(listener);
             }
         }
-        interaction.perform();
+        if (this.is(InteractionRunner.class)) {
+            this.as(InteractionRunner.class).run(interaction);
+        } else {
+            interaction.perform();
+        }
         return myself();
     }
 
@@ -31,6 +31,7 @@ import minium.actions.Interaction;
 import minium.actions.InteractionEvent;
 import minium.actions.InteractionEvent.Type;
 import minium.actions.InteractionListener;
+import minium.actions.WaitStrategy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +49,7 @@ public abstract class AbstractInteraction implements Interaction {
     private static final Logger logger = LoggerFactory.getLogger(AbstractInteraction.class);
 
     private final Set<InteractionListener> listeners = Sets.newLinkedHashSet();
+    private InteractionListenerChains listenerChains = InteractionListenerChains.EMPTY;
     private final Elements originalSource;
     private final boolean canFreeze;
     private Elements source;
@@ -99,7 +101,7 @@ public abstract class AbstractInteraction implements Interaction {
      */
     @Override
     public void registerListener(InteractionListener listener) {
-        listeners.add(listener);
+        if (listeners.add(listener)) listenerChains = new InteractionListenerChains(listeners);
     }
 
     /*
@@ -109,7 +111,7 @@ public abstract class AbstractInteraction implements Interaction {
      */
     @Override
     public void unregisterListener(InteractionListener listener) {
-        listeners.remove(listener);
+        if (listeners.remove(listener)) listenerChains = new InteractionListenerChains(listeners);
     }
 
     protected void waitFor(Predicate<? super Elements> predicate) {
@@ -158,7 +160,7 @@ public abstract class AbstractInteraction implements Interaction {
      *            the type
      */
     protected boolean trigger(InteractionEvent.Type type, Throwable e) {
-        return trigger(getAllListeners(), type, e);
+        return trigger(getAllListeners(type), type, e);
     }
 
     /**
@@ -168,7 +170,7 @@ public abstract class AbstractInteraction implements Interaction {
      *            the type
      */
     protected boolean triggerReverse(Type type, Throwable e) {
-        return trigger(Lists.reverse(getAllListeners()), type, e);
+        return trigger(Lists.reverse(getAllListeners(type)), type, e);
     }
 
     /**
@@ -193,6 +195,8 @@ public abstract class AbstractInteraction implements Interaction {
 
     private void perform(boolean canRetry) {
         trigger(Type.BEFORE_WAIT, null);
+        // nested waits, retries and interactions performed by listeners share this interaction time budget
+        InteractionDeadline deadline = InteractionDeadline.enter(getTimeout());
         try {
             waitToPerform();
             trigger(Type.BEFORE, null);
@@ -215,9 +219,16 @@ public abstract class AbstractInteraction implements Interaction {
             } else {
                 throw e;
             }
+        } finally {
+            deadline.exit();
         }
     }
 
+    protected Duration getTimeout() {
+        if (source == null || !source.is(HasConfiguration.class)) return null;
+        return configure().waitingPreset(preset).timeout();
+    }
+
     protected InteractionEvent createInteractionEvent(Type type, Throwable e) {
         checkNotNull(type);
         switch (type) {
@@ -235,36 +246,47 @@ public abstract class AbstractInteraction implements Interaction {
         throw new IllegalArgumentException("Type must be not null and valid");
     }
 
-    private List<InteractionListener> getAllListeners() {
-        List<InteractionListener> allListeners = Lists.newArrayList();
-        if (source != null && source.is(HasConfiguration.class)) {
-            Iterable<InteractionListener> globalListeners = source.as(HasConfiguration.class).configure().interactionListeners();
-            allListeners.addAll(Lists.newArrayList(globalListeners));
-        }
-        allListeners.addAll(listeners);
+    private List<InteractionListener> getAllListeners(Type type) {
+        List<InteractionListener> interactionListeners = listenerChains.get(type);
+        if (source == null || !source.is(HasConfiguration.class)) return interactionListeners;
+
+        List<InteractionListener> globalListeners = configure().interactionListeners().listeners(type);
+        if (interactionListeners.isEmpty()) return globalListeners;
+        if (globalListeners.isEmpty()) return interactionListeners;
 
+        List<InteractionListener> allListeners = Lists.newArrayListWithCapacity(globalListeners.size() + interactionListeners.size());
+        allListeners.addAll(globalListeners);
+        allListeners.addAll(interactionListeners);
         return allListeners;
     }
 
     protected void wait(Elements webElements, String preset, Predicate<? super Elements> predicate) {
         WaitingPreset waitingPreset = configure().waitingPreset(preset);
-        wait(webElements, waitingPreset.timeout(), waitingPreset.interval(), predicate);
+        wait(webElements, waitingPreset.timeout(), waitingPreset.interval(), waitingPreset.waitStrategy(), predicate);
     }
 
     protected void wait(Elements elems, Duration timeout, Duration interval, Predicate<? super Elements> predicate) {
-        Waits.waitForPredicate(elems, timeout, interval, predicate);
+        wait(elems, timeout, interval, null, predicate);
+    }
+
+    protected void wait(Elements elems, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
+        Waits.waitForPredicate(elems, timeout, interval, waitStrategy, predicate);
     }
 
     protected void waitOrTimeout(Elements webElements, String preset, Predicate<? super Elements> predicate) {
         WaitingPreset waitingPreset = configure().waitingPreset(preset);
-        waitOrTimeout(webElements, waitingPreset.timeout(), waitingPreset.interval(), predicate);
+        waitOrTimeout(webElements, waitingPreset.timeout(), waitingPreset.interval(), waitingPreset.waitStrategy(), predicate);
     }
 
     protected void waitOrTimeout(Elements elems, Duration timeout, Duration interval, Predicate<? super Elements> predicate) {
-        Waits.waitForPredicateOrTimeout(elems, timeout, interval, predicate);
+        waitOrTimeout(elems, timeout, interval, null, predicate);
+    }
+
+    protected void waitOrTimeout(Elements elems, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
+        Waits.waitForPredicateOrTimeout(elems, timeout, interval, waitStrategy, predicate);
     }
 
-    private Configuration configure() {
+    protected Configuration configure() {
         return getSource().as(HasConfiguration.class).configure();
     }
 }
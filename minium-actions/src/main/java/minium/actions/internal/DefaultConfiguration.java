@@ -18,6 +18,7 @@ package minium.actions.internal;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -25,9 +26,13 @@ import java.util.concurrent.TimeUnit;
 import minium.actions.Configuration;
 import minium.actions.Duration;
 import minium.actions.ExceptionHandler;
+import minium.actions.InteractionEvent;
 import minium.actions.InteractionListener;
+import minium.actions.WaitStrategies;
+import minium.actions.WaitStrategy;
 import platypus.Mixin;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -67,6 +72,18 @@ public class DefaultConfiguration extends Mixin.Impl implements Configuration {
             return interval(new Duration(time, unit));
         }
 
+        @Override
+        public WaitingPreset waitStrategy(WaitStrategy waitStrategy) {
+            waitStrategyPresets.put(preset, waitStrategy);
+            return this;
+        }
+
+        @Override
+        public WaitingPreset fastFill(boolean fastFill) {
+            fastFillPresets.put(preset, fastFill);
+            return this;
+        }
+
         @Override
         public Duration timeout() {
             Duration timeout = timeoutPresets.get(preset);
@@ -79,10 +96,24 @@ public class DefaultConfiguration extends Mixin.Impl implements Configuration {
             return interval == null ? defaultInterval() : interval;
         }
 
+        @Override
+        public WaitStrategy waitStrategy() {
+            WaitStrategy waitStrategy = waitStrategyPresets.get(preset);
+            return waitStrategy == null ? defaultWaitStrategy() : waitStrategy;
+        }
+
+        @Override
+        public boolean fastFill() {
+            Boolean fastFill = fastFillPresets.get(preset);
+            return fastFill == null ? defaultFastFill() : fastFill;
+        }
+
         @Override
         public WaitingPreset reset() {
             timeoutPresets.remove(preset);
             intervalPresets.remove(preset);
+            waitStrategyPresets.remove(preset);
+            fastFillPresets.remove(preset);
             return this;
         }
 
@@ -94,31 +125,51 @@ public class DefaultConfiguration extends Mixin.Impl implements Configuration {
 
     private class DefaultInteractionListenerCollection implements InteractionListenerCollection {
 
-        private Set<InteractionListener> interactionListeners = Sets.newLinkedHashSet();
+        // copy-on-write, so that interactions can trigger events without copying or locking
+        private volatile Set<InteractionListener> interactionListeners = ImmutableSet.of();
+        private volatile InteractionListenerChains chains = InteractionListenerChains.EMPTY;
 
         @Override
         public Iterator<InteractionListener> iterator() {
-            return Iterators.unmodifiableIterator(interactionListeners.iterator());
+            return interactionListeners.iterator();
         }
 
         @Override
         public InteractionListenerCollection add(InteractionListener interactionListener) {
-            interactionListeners.add(interactionListener);
+            synchronized (this) {
+                Set<InteractionListener> newListeners = Sets.newLinkedHashSet(interactionListeners);
+                if (newListeners.add(interactionListener)) update(newListeners);
+            }
             return this;
         }
 
         @Override
         public InteractionListenerCollection remove(InteractionListener interactionListener) {
-            interactionListeners.remove(interactionListener);
+            synchronized (this) {
+                Set<InteractionListener> newListeners = Sets.newLinkedHashSet(interactionListeners);
+                if (newListeners.remove(interactionListener)) update(newListeners);
+            }
             return this;
         }
 
         @Override
         public InteractionListenerCollection clear() {
-            interactionListeners.clear();
+            synchronized (this) {
+                update(ImmutableSet.<InteractionListener>of());
+            }
             return this;
         }
 
+        @Override
+        public List<InteractionListener> listeners(InteractionEvent.Type type) {
+            return chains.get(type);
+        }
+
+        private void update(Set<InteractionListener> newListeners) {
+            interactionListeners = ImmutableSet.copyOf(newListeners);
+            chains = new InteractionListenerChains(interactionListeners);
+        }
+
         @Override
         public Configuration done() {
             return DefaultConfiguration.this;
@@ -160,9 +211,14 @@ public class DefaultConfiguration extends Mixin.Impl implements Configuration {
 
     private Duration defaultTimeout = new Duration(5, TimeUnit.SECONDS);
     private Duration defaultInterval  = new Duration(1, TimeUnit.SECONDS);
+    private WaitStrategy defaultWaitStrategy = WaitStrategies.fixed();
+    private boolean defaultFastFill;
+    private boolean nativeSelection;
 
     private final Map<String, Duration> timeoutPresets = Maps.newHashMap();
     private final Map<String, Duration> intervalPresets = Maps.newHashMap();
+    private final Map<String, WaitStrategy> waitStrategyPresets = Maps.newHashMap();
+    private final Map<String, Boolean> fastFillPresets = Maps.newHashMap();
     private final InteractionListenerCollection interactionListeners = new DefaultInteractionListenerCollection();
     private final ExceptionHandlerCollection exceptionHandlers = new DefaultExceptionHandlerCollection();
 
@@ -222,6 +278,40 @@ public class DefaultConfiguration extends Mixin.Impl implements Configuration {
         return defaultInterval(new Duration(time, unit));
     }
 
+    @Override
+    public WaitStrategy defaultWaitStrategy() {
+        return defaultWaitStrategy;
+    }
+
+    @Override
+    public Configuration defaultWaitStrategy(WaitStrategy defaultWaitStrategy) {
+        checkNotNull(defaultWaitStrategy);
+        this.defaultWaitStrategy = defaultWaitStrategy;
+        return this;
+    }
+
+    @Override
+    public boolean defaultFastFill() {
+        return defaultFastFill;
+    }
+
+    @Override
+    public Configuration defaultFastFill(boolean defaultFastFill) {
+        this.defaultFastFill = defaultFastFill;
+        return this;
+    }
+
+    @Override
+    public boolean nativeSelection() {
+        return nativeSelection;
+    }
+
+    @Override
+    public Configuration nativeSelection(boolean nativeSelection) {
+        this.nativeSelection = nativeSelection;
+        return this;
+    }
+
     @Override
     public WaitingPreset waitingPreset(String preset) {
         return new DefaultWaitingPreset(preset);
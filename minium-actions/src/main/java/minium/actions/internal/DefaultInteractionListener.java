@@ -15,9 +15,18 @@
  */
 package minium.actions.internal;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import minium.actions.InteractionEvent;
+import minium.actions.InteractionEvent.Type;
 import minium.actions.InteractionListener;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Sets;
+
 /**
  * The listener interface for receiving defaultInteraction events.
  * The class that is interested in processing a defaultInteraction
@@ -31,6 +40,28 @@ import minium.actions.InteractionListener;
  */
 public abstract class DefaultInteractionListener implements InteractionListener {
 
+    // event types handled by each listener class, based on the event methods it overrides
+    private static final LoadingCache<Class<?>, Set<Type>> HANDLED_TYPES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<Class<?>, Set<Type>>() {
+                @Override
+                public Set<Type> load(Class<?> clazz) {
+                    return overriddenEventTypes(clazz);
+                }
+            });
+
+    /**
+     * Checks if this listener handles events of the given type, so that interactions don't need
+     * to create events it would ignore. By default, a listener handles the event types whose
+     * methods it overrides, or all of them if it overrides {@link #onEvent(InteractionEvent)}.
+     *
+     * @param type the event type
+     * @return true if this listener handles events of that type
+     */
+    public boolean handles(Type type) {
+        return HANDLED_TYPES.getUnchecked(getClass()).contains(type);
+    }
+
     /* (non-Javadoc)
      * @see com.vilt.minium.actions.InteractionListener#onEvent(com.vilt.minium.actions.InteractionEvent)
      */
@@ -98,4 +129,29 @@ public abstract class DefaultInteractionListener implements InteractionListener
     protected void onAfterFailEvent(AfterFailInteractionEvent event) {
         // do nothing
     }
+
+    private static Set<Type> overriddenEventTypes(Class<?> clazz) {
+        Set<Type> types = EnumSet.noneOf(Type.class);
+        for (Class<?> current = clazz; current != DefaultInteractionListener.class; current = current.getSuperclass()) {
+            if (declares(current, "onEvent", InteractionEvent.class)) return Sets.immutableEnumSet(EnumSet.allOf(Type.class));
+            if (declares(current, "onBeforeWaitEvent", BeforeWaitInteractionEvent.class)) types.add(Type.BEFORE_WAIT);
+            if (declares(current, "onBeforeEvent", BeforeInteractionEvent.class)) types.add(Type.BEFORE);
+            if (declares(current, "onAfterSuccessEvent", AfterSuccessInteractionEvent.class)) types.add(Type.AFTER_SUCCESS);
+            if (declares(current, "onAfterFailEvent", AfterFailInteractionEvent.class)) types.add(Type.AFTER_FAIL);
+            if (declares(current, "onAfterEvent", AfterInteractionEvent.class)) {
+                types.add(Type.AFTER_SUCCESS);
+                types.add(Type.AFTER_FAIL);
+            }
+        }
+        return Sets.immutableEnumSet(types);
+    }
+
+    private static boolean declares(Class<?> clazz, String methodName, Class<?> eventClass) {
+        try {
+            clazz.getDeclaredMethod(methodName, eventClass);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
 }
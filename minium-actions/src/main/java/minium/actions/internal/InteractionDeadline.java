@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import minium.actions.Duration;
+
+/**
+ * Time budget of the outermost interaction being performed in the current thread. Nested
+ * waits, retries and interactions triggered by listeners consume from that same budget, so
+ * that an interaction fails after its waiting preset timeout instead of stacking timeouts.
+ */
+public class InteractionDeadline {
+
+    private static final ThreadLocal<InteractionDeadline> CURRENT = new ThreadLocal<InteractionDeadline>();
+
+    private static final InteractionDeadline UNBOUNDED = new InteractionDeadline(Long.MAX_VALUE) {
+        @Override
+        public void exit() {
+            // not registered, nothing to do
+        }
+    };
+
+    private final long deadlineNanos;
+    private int depth = 1;
+
+    InteractionDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Joins the current deadline or, if there is none, starts a new one with the given budget.
+     * Each call must be paired with an {@link #exit()} call.
+     *
+     * @param budget the time budget, or null if the interaction is not bounded
+     * @return the deadline in effect
+     */
+    public static InteractionDeadline enter(Duration budget) {
+        InteractionDeadline current = CURRENT.get();
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+        if (budget == null) return UNBOUNDED;
+
+        InteractionDeadline deadline = new InteractionDeadline(System.nanoTime() + budget.getUnit().toNanos(budget.getTime()));
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Gets the deadline in effect in the current thread.
+     *
+     * @return the current deadline, or null if no interaction is being performed
+     */
+    public static InteractionDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bounds a timeout by the time remaining in the current deadline, if any.
+     *
+     * @param timeout the timeout to bound
+     * @return the timeout, or the remaining time if it is shorter
+     */
+    public static Duration bound(Duration timeout) {
+        InteractionDeadline current = CURRENT.get();
+        if (current == null || timeout == null) return timeout;
+        long remaining = current.remainingMillis();
+        return remaining < timeout.getUnit().toMillis(timeout.getTime()) ? new Duration(remaining, TimeUnit.MILLISECONDS) : timeout;
+    }
+
+    public void exit() {
+        if (--depth == 0) CURRENT.remove();
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return remainingMillis() == 0;
+    }
+}
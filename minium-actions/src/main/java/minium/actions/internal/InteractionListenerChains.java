@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions.internal;
+
+import java.util.EnumMap;
+import java.util.List;
+
+import minium.actions.InteractionEvent.Type;
+import minium.actions.InteractionListener;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+
+/**
+ * Immutable lists of the listeners that handle each interaction event type, in registration
+ * order. They are built once per listeners change, so that triggering an event neither copies
+ * nor filters listeners.
+ */
+final class InteractionListenerChains {
+
+    static final InteractionListenerChains EMPTY = new InteractionListenerChains(ImmutableList.<InteractionListener>of());
+
+    private final EnumMap<Type, List<InteractionListener>> chains = Maps.newEnumMap(Type.class);
+
+    InteractionListenerChains(Iterable<InteractionListener> listeners) {
+        for (Type type : Type.values()) {
+            ImmutableList.Builder<InteractionListener> chain = ImmutableList.builder();
+            for (InteractionListener listener : listeners) {
+                if (handles(listener, type)) chain.add(listener);
+            }
+            chains.put(type, chain.build());
+        }
+    }
+
+    List<InteractionListener> get(Type type) {
+        return chains.get(type);
+    }
+
+    static boolean handles(InteractionListener listener, Type type) {
+        return !(listener instanceof DefaultInteractionListener) || ((DefaultInteractionListener) listener).handles(type);
+    }
+}
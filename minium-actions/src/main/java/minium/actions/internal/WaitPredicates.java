@@ -19,10 +19,47 @@ import minium.BasicElements;
 import minium.Elements;
 
 import com.google.common.base.Predicate;
-import com.google.common.base.Predicates;
 
 public class WaitPredicates {
 
+    /**
+     * Predicate that only depends on the number of elements, so that it can be evaluated
+     * without materializing them (for instance, in the browser itself).
+     *
+     * @param <T> the generic type
+     */
+    public static class SizePredicate<T extends Elements> implements Predicate<T> {
+
+        private final int size;
+        private final boolean negated;
+
+        public SizePredicate(int size, boolean negated) {
+            this.size = size;
+            this.negated = negated;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return true if this predicate is satisfied by any size other than {@link #getSize()}
+         */
+        public boolean isNegated() {
+            return negated;
+        }
+
+        @Override
+        public boolean apply(T input) {
+            return (input.as(BasicElements.class).size() == size) != negated;
+        }
+
+        @Override
+        public String toString() {
+            return negated ? String.format("not(forSize(%d))", size) : String.format("forSize(%d)", size);
+        }
+    }
+
     /**
      * Predicate to use with {@link WaitWebElements#wait(Predicate)} methods which ensures that
      * evaluation will only be successful when this instance has a specific size.
@@ -32,17 +69,7 @@ public class WaitPredicates {
      * @return predicate that returns true if it has the exact size
      */
     public static <T extends Elements> Predicate<T> forSize(final int size) {
-        return new Predicate<T>() {
-            @Override
-            public boolean apply(T input) {
-                return input.as(BasicElements.class).size() == size;
-            }
-
-            @Override
-            public String toString() {
-                return String.format("forSize(%d)", size);
-            }
-        };
+        return new SizePredicate<T>(size, false);
     }
 
     /**
@@ -66,7 +93,7 @@ public class WaitPredicates {
      * @return predicate that returns true if it is empty
      */
     public static <T extends Elements> Predicate<T> forExistence() {
-        return Predicates.not(WaitPredicates.<T>forUnexistence());
+        return new SizePredicate<T>(0, true);
     }
 
 }
@@ -16,7 +16,6 @@
 package minium.actions.internal;
 
 import static com.github.rholder.retry.StopStrategies.stopAfterDelay;
-import static com.github.rholder.retry.WaitStrategies.fixedWait;
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -28,7 +27,9 @@ import minium.actions.Configuration.WaitingPreset;
 import minium.actions.Duration;
 import minium.actions.HasConfiguration;
 import minium.actions.TimeoutException;
+import minium.actions.WaitStrategy;
 
+import com.github.rholder.retry.Attempt;
 import com.github.rholder.retry.RetryException;
 import com.github.rholder.retry.Retryer;
 import com.github.rholder.retry.RetryerBuilder;
@@ -44,10 +45,14 @@ public class Waits {
         public void forPredicate(Elements elements, String preset, Predicate<? super Elements> predicate) {
             Configuration configuration = elements.as(HasConfiguration.class).configure();
             WaitingPreset waitingPreset = configuration.waitingPreset(preset);
-            forPredicate(elements, waitingPreset.timeout(), waitingPreset.interval(), predicate);
+            forPredicate(elements, waitingPreset.timeout(), waitingPreset.interval(), waitingPreset.waitStrategy(), predicate);
         }
 
         public void forPredicate(Elements elements, Duration timeout, Duration interval, Predicate<? super Elements> predicate) {
+            forPredicate(elements, timeout, interval, null, predicate);
+        }
+
+        public void forPredicate(Elements elements, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
             Configuration configuration = elements.as(HasConfiguration.class).configure();
             if (timeout == null) {
                 timeout = configuration.defaultTimeout();
@@ -55,8 +60,12 @@ public class Waits {
             if (interval == null) {
                 interval = configuration.defaultInterval();
             }
+            if (waitStrategy == null) {
+                waitStrategy = configuration.defaultWaitStrategy();
+            }
+            timeout = InteractionDeadline.bound(timeout);
 
-            Retryer<Elements> retrier = getRetryer(predicate, timeout, interval);
+            Retryer<Elements> retrier = getRetryer(predicate, timeout, interval, waitStrategy);
 
             try {
                 retrier.call(Callables.returning(elements));
@@ -75,10 +84,14 @@ public class Waits {
         public boolean forPredicateOrTimeout(Elements elements, String preset, Predicate<? super Elements> predicate) {
             Configuration configuration = elements.as(HasConfiguration.class).configure();
             WaitingPreset waitingPreset = configuration.waitingPreset(preset);
-            return forPredicateOrTimeout(elements, waitingPreset.timeout(), waitingPreset.interval(), predicate);
+            return forPredicateOrTimeout(elements, waitingPreset.timeout(), waitingPreset.interval(), waitingPreset.waitStrategy(), predicate);
         }
 
         public boolean forPredicateOrTimeout(Elements elements, Duration timeout, Duration interval, Predicate<? super Elements> predicate) {
+            return forPredicateOrTimeout(elements, timeout, interval, null, predicate);
+        }
+
+        public boolean forPredicateOrTimeout(Elements elements, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
             Configuration configuration =  elements.as(HasConfiguration.class).configure();
             if (timeout == null) {
                 timeout = configuration.defaultTimeout();
@@ -86,8 +99,12 @@ public class Waits {
             if (interval == null) {
                 interval = configuration.defaultInterval();
             }
+            if (waitStrategy == null) {
+                waitStrategy = configuration.defaultWaitStrategy();
+            }
+            timeout = InteractionDeadline.bound(timeout);
 
-            Retryer<Elements> retrier = getRetryer(predicate, timeout, interval);
+            Retryer<Elements> retrier = getRetryer(predicate, timeout, interval, waitStrategy);
 
             try {
                 retrier.call(Callables.returning(elements));
@@ -117,11 +134,16 @@ public class Waits {
         }
 
         @SuppressWarnings("unchecked")
-        protected <T> Retryer<T> getRetryer(Predicate<? super T> predicate, Duration timeout, Duration interval) {
+        protected <T> Retryer<T> getRetryer(Predicate<? super T> predicate, Duration timeout, final Duration interval, final WaitStrategy waitStrategy) {
             return RetryerBuilder.<T> newBuilder()
                     .retryIfResult(Predicates.not((Predicate<T>) predicate))
                     .retryIfRuntimeException()
-                    .withWaitStrategy(fixedWait(interval.getTime(), interval.getUnit()))
+                    .withWaitStrategy(new com.github.rholder.retry.WaitStrategy() {
+                        @Override
+                        public long computeSleepTime(Attempt failedAttempt) {
+                            return waitStrategy.computeSleepTime(failedAttempt.getAttemptNumber(), interval);
+                        }
+                    })
                     .withStopStrategy(stopAfterDelay(timeout.getTime(), timeout.getUnit()))
                     .build();
         }
@@ -133,20 +155,39 @@ public class Waits {
         Waits.wait = wait;
     }
 
+    public static Wait getInstance() {
+        return wait;
+    }
+
+    /**
+     * @return the wait of the given elements, if they have one, or the current instance otherwise
+     */
+    public static Wait getInstance(Elements elements) {
+        return elements != null && elements.is(HasWait.class) ? elements.as(HasWait.class).getWait() : wait;
+    }
+
     public static void waitForPredicate(Elements elements, String preset, Predicate<? super Elements> predicate) {
-        wait.forPredicate(elements, preset, predicate);
+        getInstance(elements).forPredicate(elements, preset, predicate);
     }
 
     public static void waitForPredicate(Elements elements, Duration timeout, Duration interval, Predicate<? super Elements> predicate) {
-        wait.forPredicate(elements, timeout, interval, predicate);
+        getInstance(elements).forPredicate(elements, timeout, interval, predicate);
+    }
+
+    public static void waitForPredicate(Elements elements, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
+        getInstance(elements).forPredicate(elements, timeout, interval, waitStrategy, predicate);
     }
 
     public static boolean waitForPredicateOrTimeout(Elements elements, String preset, Predicate<? super Elements> predicate) {
-        return wait.forPredicateOrTimeout(elements, preset, predicate);
+        return getInstance(elements).forPredicateOrTimeout(elements, preset, predicate);
     }
 
     public static boolean waitForPredicateOrTimeout(Elements elements, Duration timeout, Duration interval, Predicate<? super Elements> predicate) {
-        return wait.forPredicateOrTimeout(elements, timeout, interval, predicate);
+        return getInstance(elements).forPredicateOrTimeout(elements, timeout, interval, predicate);
+    }
+
+    public static boolean waitForPredicateOrTimeout(Elements elements, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
+        return getInstance(elements).forPredicateOrTimeout(elements, timeout, interval, waitStrategy, predicate);
     }
 
     public static void waitTime(Duration duration) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class WaitStrategiesTest {
+
+    private final Duration interval = new Duration(1, TimeUnit.SECONDS);
+
+    @Test
+    public void testFixed() {
+        // given
+        WaitStrategy waitStrategy = WaitStrategies.fixed();
+
+        // then
+        assertThat(waitStrategy.computeSleepTime(1, interval), equalTo(1000L));
+        assertThat(waitStrategy.computeSleepTime(10, interval), equalTo(1000L));
+    }
+
+    @Test
+    public void testExponentialIsCapped() {
+        // given
+        WaitStrategy waitStrategy = WaitStrategies.exponential(2, 5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(waitStrategy.computeSleepTime(1, interval), equalTo(1000L));
+        assertThat(waitStrategy.computeSleepTime(2, interval), equalTo(2000L));
+        assertThat(waitStrategy.computeSleepTime(3, interval), equalTo(4000L));
+        assertThat(waitStrategy.computeSleepTime(4, interval), equalTo(5000L));
+        assertThat(waitStrategy.computeSleepTime(100, interval), equalTo(5000L));
+    }
+
+    @Test
+    public void testProgressiveSlowsDownUntilInterval() {
+        // given
+        WaitStrategy waitStrategy = WaitStrategies.progressive(100, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(waitStrategy.computeSleepTime(1, interval), equalTo(100L));
+        assertThat(waitStrategy.computeSleepTime(2, interval), equalTo(200L));
+        assertThat(waitStrategy.computeSleepTime(4, interval), equalTo(800L));
+        assertThat(waitStrategy.computeSleepTime(5, interval), equalTo(1000L));
+    }
+
+    @Test
+    public void testJitteredStaysWithinBounds() {
+        // given
+        WaitStrategy waitStrategy = WaitStrategies.jittered(WaitStrategies.fixed(), 0.2);
+
+        // then
+        for (int i = 1; i <= 100; i++) {
+            assertThat(waitStrategy.computeSleepTime(i, interval), allOf(greaterThanOrEqualTo(800L), lessThanOrEqualTo(1200L)));
+        }
+    }
+}
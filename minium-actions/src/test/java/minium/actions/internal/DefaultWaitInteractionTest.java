@@ -15,10 +15,14 @@
  */
 package minium.actions.internal;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
@@ -33,9 +37,12 @@ import org.mockito.stubbing.Answer;
 import minium.BasicElements;
 import minium.Elements;
 import minium.actions.Configuration;
+import minium.actions.Duration;
 import minium.actions.HasConfiguration;
 import minium.actions.TimeoutException;
 
+import com.google.common.collect.Lists;
+
 @RunWith(MockitoJUnitRunner.class)
 public class DefaultWaitInteractionTest {
 
@@ -98,4 +105,31 @@ public class DefaultWaitInteractionTest {
         // then
         verify(elems, times(2)).size();
     }
+
+    @Test
+    public void testListenerWaitsShareInteractionDeadline() {
+        // given
+        when(elems.size()).thenReturn(0);
+        final List<Duration> listenerTimeouts = Lists.newArrayList();
+        WaitForExistenceInteraction interaction = new WaitForExistenceInteraction(elems, null);
+        interaction.registerListener(new DefaultInteractionListener() {
+            @Override
+            protected void onAfterFailEvent(AfterFailInteractionEvent event) {
+                listenerTimeouts.add(InteractionDeadline.bound(new Duration(1, TimeUnit.HOURS)));
+            }
+        });
+
+        // when
+        try {
+            interaction.perform();
+            Assert.fail("TimeoutException expected");
+        } catch (TimeoutException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertThat(listenerTimeouts, hasSize(1));
+        Assert.assertThat(listenerTimeouts.get(0).getUnit().toMillis(listenerTimeouts.get(0).getTime()), lessThanOrEqualTo(5000L));
+        Assert.assertThat(InteractionDeadline.current(), nullValue());
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions.internal;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import minium.actions.Duration;
+
+import org.junit.Test;
+
+public class InteractionDeadlineTest {
+
+    @Test
+    public void testNestedInteractionsJoinOutermostDeadline() {
+        // given
+        Duration shortTimeout = new Duration(100, TimeUnit.MILLISECONDS);
+        Duration longTimeout = new Duration(1, TimeUnit.HOURS);
+
+        // when
+        InteractionDeadline outer = InteractionDeadline.enter(new Duration(5, TimeUnit.SECONDS));
+        InteractionDeadline nested = InteractionDeadline.enter(longTimeout);
+
+        // then
+        assertThat(nested, sameInstance(outer));
+        assertThat(InteractionDeadline.bound(shortTimeout), sameInstance(shortTimeout));
+        Duration bounded = InteractionDeadline.bound(longTimeout);
+        assertThat(bounded.getUnit().toMillis(bounded.getTime()), lessThanOrEqualTo(5000L));
+
+        nested.exit();
+        assertThat(InteractionDeadline.current(), sameInstance(outer));
+        outer.exit();
+        assertThat(InteractionDeadline.current(), nullValue());
+        assertThat(InteractionDeadline.bound(longTimeout), equalTo(longTimeout));
+    }
+
+    @Test
+    public void testUnboundedInteraction() {
+        // given
+        Duration timeout = new Duration(1, TimeUnit.HOURS);
+
+        // when
+        InteractionDeadline deadline = InteractionDeadline.enter(null);
+
+        // then
+        assertThat(InteractionDeadline.current(), nullValue());
+        assertThat(InteractionDeadline.bound(timeout), sameInstance(timeout));
+        deadline.exit();
+        assertThat(InteractionDeadline.current(), nullValue());
+    }
+}
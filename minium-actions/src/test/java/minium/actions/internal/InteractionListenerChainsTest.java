@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.actions.internal;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import minium.actions.Configuration.InteractionListenerCollection;
+import minium.actions.InteractionEvent;
+import minium.actions.InteractionEvent.Type;
+import minium.actions.InteractionListener;
+
+import org.junit.Test;
+
+public class InteractionListenerChainsTest {
+
+    @Test
+    public void testDefaultListenerHandlesOverriddenEventTypes() {
+        // given
+        DefaultInteractionListener afterListener = new DefaultInteractionListener() {
+            @Override
+            protected void onAfterEvent(AfterInteractionEvent event) {
+            }
+        };
+        DefaultInteractionListener eventListener = new DefaultInteractionListener() {
+            @Override
+            public void onEvent(InteractionEvent event) {
+            }
+        };
+
+        // then
+        assertThat(afterListener.handles(Type.BEFORE_WAIT), equalTo(false));
+        assertThat(afterListener.handles(Type.BEFORE), equalTo(false));
+        assertThat(afterListener.handles(Type.AFTER_SUCCESS), equalTo(true));
+        assertThat(afterListener.handles(Type.AFTER_FAIL), equalTo(true));
+        assertThat(eventListener.handles(Type.BEFORE_WAIT), equalTo(true));
+        assertThat(new WaitingPresetInteractionListener("fast").handles(Type.BEFORE), equalTo(false));
+    }
+
+    @Test
+    public void testConfigurationListenerChainsAreCopyOnWrite() {
+        // given
+        InteractionListenerCollection listeners = new DefaultConfiguration().interactionListeners();
+        InteractionListener presetListener = new WaitingPresetInteractionListener("fast");
+        InteractionListener anyListener = new InteractionListener() {
+            @Override
+            public void onEvent(InteractionEvent event) {
+            }
+        };
+
+        // when
+        listeners.add(presetListener).add(anyListener);
+        List<InteractionListener> beforeWaitChain = listeners.listeners(Type.BEFORE_WAIT);
+        List<InteractionListener> beforeChain = listeners.listeners(Type.BEFORE);
+        listeners.remove(presetListener);
+
+        // then
+        assertThat(beforeWaitChain, contains(presetListener, anyListener));
+        assertThat(beforeChain, contains(anyListener));
+        assertThat(listeners.listeners(Type.BEFORE_WAIT), contains(anyListener));
+        assertThat(listeners.clear().listeners(Type.AFTER_FAIL), empty());
+    }
+}
@@ -16,6 +16,7 @@
 package minium.actions.internal;
 
 import minium.actions.Duration;
+import minium.actions.WaitStrategy;
 import minium.actions.internal.Waits.Wait;
 
 import com.github.rholder.retry.Retryer;
@@ -36,8 +37,9 @@ public class WaitMocks {
 
             @Override
             @SuppressWarnings("unchecked")
-            protected <T> Retryer<T> getRetryer(Predicate<? super T> predicate, Duration timeout, Duration interval) {
-                int numRetries = (int) (timeout.getTime() / interval.getTime());
+            protected <T> Retryer<T> getRetryer(Predicate<? super T> predicate, Duration timeout, Duration interval, WaitStrategy waitStrategy) {
+                long intervalMillis = interval.getUnit().toMillis(interval.getTime());
+                int numRetries = (int) ((timeout.getUnit().toMillis(timeout.getTime()) + intervalMillis - 1) / intervalMillis);
                 // we emulate the number of retries
                 return RetryerBuilder.<T> newBuilder()
                         .retryIfResult(Predicates.not((Predicate<T>) predicate))
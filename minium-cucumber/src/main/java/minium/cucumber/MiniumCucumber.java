@@ -47,6 +47,7 @@ import minium.cucumber.internal.MiniumActiveProfilesResolver;
 import minium.cucumber.internal.MiniumProfileRunner;
 import minium.cucumber.internal.MiniumProfileRunner.MiniumCucumberTest;
 import minium.cucumber.internal.MiniumRhinoTestContextManager;
+import minium.cucumber.internal.ParallelRunnerScheduler;
 
 import org.junit.runner.Description;
 import org.junit.runner.notification.RunNotifier;
@@ -82,6 +83,12 @@ public class MiniumCucumber extends ParentRunner<MiniumProfileRunner> {
                 MiniumActiveProfilesResolver.setActiveProfiles();
             }
         }
+
+        // each profile runner has its own spring context, rhino engine and browser, so they can run concurrently
+        int parallelProfiles = Math.min(Integer.getInteger("minium.cucumber.parallel", 1), children.size());
+        if (parallelProfiles > 1) {
+            setScheduler(new ParallelRunnerScheduler(parallelProfiles, "minium-profile-%d"));
+        }
     }
 
     private ProfilesMatrix getProfilesMatrix() {
@@ -37,13 +37,13 @@ public class ExecutionProgress {
     public ExecutionProgress() {
     }
 
+    // profiles may run concurrently, so executed scenarios are counted across all of them
     private void updatePercentageOfProgress() {
-        totalNumberOfExecutedScenarios = numberOfExecutedProfiles * numberOfScenarios + numberOfExecutedScenarios;
         float racio = totalNumberOfExecutedScenarios / (numberOfProfiles * numberOfScenarios);
         progressInPercentage = racio * 100f;
     }
 
-    public void startedNextProfile() {
+    public synchronized void startedNextProfile() {
         if (numberOfExecutedProfiles == -1) {
             startTimestamp = System.currentTimeMillis();
         }
@@ -52,21 +52,22 @@ public class ExecutionProgress {
         numberOfExecutedScenarios = 0;
     }
 
-    public void startedFeature(Feature feature) {
+    public synchronized void startedFeature(Feature feature) {
         currentFeature = feature;
         numberOfExecutedFeatures++;
     }
 
-    public void startedScenario(Scenario scenario) {
+    public synchronized void startedScenario(Scenario scenario) {
         currentScenario = scenario;
     }
 
-    public void finishedScenario(Scenario scenario) {
+    public synchronized void finishedScenario(Scenario scenario) {
         numberOfExecutedScenarios++;
+        totalNumberOfExecutedScenarios++;
         updatePercentageOfProgress();
     }
 
-    public void addFailedScenario() {
+    public synchronized void addFailedScenario() {
         this.totalNumberOfFailedScenarios++;
     }
 
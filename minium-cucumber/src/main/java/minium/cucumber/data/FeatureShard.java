@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import cucumber.runtime.model.CucumberFeature;
+
+/**
+ * A slice of the features to run, so that a suite can be split over several JVMs with
+ * {@code minium.cucumber.shard=<index>/<total>} (for instance, {@code 2/8}). Features are assigned
+ * to shards by balancing their durations in previous runs, so all shards take about the same time.
+ * Every shard must see the same features and the same timings to get disjoint slices, so timings
+ * only count if they cover all features, otherwise features are split by number of scenarios.
+ */
+public class FeatureShard {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeatureShard.class);
+
+    private final int index;
+    private final int total;
+
+    /**
+     * @param index 1-based index of this shard
+     * @param total number of shards
+     */
+    public FeatureShard(int index, int total) {
+        checkArgument(total > 0 && index > 0 && index <= total, "Invalid shard %s/%s", index, total);
+        this.index = index;
+        this.total = total;
+    }
+
+    public static FeatureShard parse(String shard) {
+        String[] parts = shard.trim().split("\\s*/\\s*");
+        checkArgument(parts.length == 2, "Shard must be in the form <index>/<total>, got %s", shard);
+        return new FeatureShard(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    /**
+     * @return the shard set by {@code minium.cucumber.shard}, or null if not set
+     */
+    public static FeatureShard fromSystemProperties() {
+        String shard = System.getProperty("minium.cucumber.shard");
+        return Strings.isNullOrEmpty(shard) ? null : parse(shard);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Assigns the longest features first, each one to the shard with the lowest total duration so
+     * far. If some feature has no timings, timings are ignored and features are weighted by their
+     * number of scenarios instead, as shards with different timings would select overlapping
+     * features.
+     *
+     * @return the features of this shard, in their original order
+     */
+    public List<CucumberFeature> select(List<CucumberFeature> features, Map<String, Long> timings) {
+        final Map<CucumberFeature, Double> estimates = estimates(features, timings);
+
+        List<CucumberFeature> longestFirst = Lists.newArrayList(features);
+        Collections.sort(longestFirst, new Comparator<CucumberFeature>() {
+            @Override
+            public int compare(CucumberFeature f1, CucumberFeature f2) {
+                int result = Double.compare(estimates.get(f2), estimates.get(f1));
+                return result != 0 ? result : f1.getPath().compareTo(f2.getPath());
+            }
+        });
+
+        double[] loads = new double[total];
+        Map<CucumberFeature, Integer> shards = Maps.newHashMap();
+        for (CucumberFeature feature : longestFirst) {
+            int shard = 0;
+            for (int i = 1; i < total; i++) {
+                if (loads[i] < loads[shard]) shard = i;
+            }
+            loads[shard] += estimates.get(feature);
+            shards.put(feature, shard);
+        }
+
+        List<CucumberFeature> selected = Lists.newArrayList();
+        for (CucumberFeature feature : features) {
+            if (shards.get(feature) == index - 1) selected.add(feature);
+        }
+        return selected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d", index, total);
+    }
+
+    private Map<CucumberFeature, Double> estimates(List<CucumberFeature> features, Map<String, Long> timings) {
+        int missing = 0;
+        for (CucumberFeature feature : features) {
+            if (!timings.containsKey(feature.getPath())) missing++;
+        }
+        if (missing > 0 && !timings.isEmpty()) {
+            LOGGER.warn("Feature timings are missing for {} of {} features, so shard {} is split by number of scenarios. "
+                    + "Make sure all shards share the same timings file with minium.cucumber.timingsFile", missing, features.size(), this);
+        }
+
+        Map<CucumberFeature, Double> estimates = Maps.newHashMap();
+        for (CucumberFeature feature : features) {
+            estimates.put(feature, missing == 0 ? timings.get(feature.getPath()).doubleValue() : numberOfScenarios(feature));
+        }
+        return estimates;
+    }
+
+    private static int numberOfScenarios(CucumberFeature feature) {
+        return Math.max(feature.getFeatureElements().size(), 1);
+    }
+}
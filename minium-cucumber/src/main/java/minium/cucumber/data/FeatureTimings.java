@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.Files;
+
+import minium.internal.Throwables;
+
+/**
+ * Durations of features in previous runs, in milliseconds and indexed by feature path, kept in the
+ * JSON file set by {@code minium.cucumber.timingsFile}. Timings are only recorded when that file is
+ * set. Shards balance features with that file but never write it, so that all of them read the same
+ * timings. Instead, each shard writes the durations of its features to its own file (see
+ * {@link #outputFile()}), and those files are merged into the shared one once all shards are done:
+ *
+ * <pre>
+ * java -cp ... minium.cucumber.data.FeatureTimings timings.json timings.shard-1-of-2.json timings.shard-2-of-2.json
+ * </pre>
+ */
+public class FeatureTimings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeatureTimings.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // profiles running concurrently update the same file
+    private static final Object LOCK = new Object();
+
+    // durations of each file recorded by this JVM, so that features run by several profiles add up
+    private static final Map<File, Map<String, Long>> RUN_DURATIONS = Maps.newHashMap();
+
+    /**
+     * @return the timings file set by {@code minium.cucumber.timingsFile}, or null if not set
+     */
+    public static File sharedTimingsFile() {
+        String file = System.getProperty("minium.cucumber.timingsFile");
+        return Strings.isNullOrEmpty(file) ? null : new File(file);
+    }
+
+    /**
+     * @return the file where timings of this run are written: the shared timings file itself, or
+     * {@code <name>.shard-<index>-of-<total>.json} next to it if {@code minium.cucumber.shard} is set.
+     * It is null if no timings file is set.
+     */
+    public static File outputFile() {
+        File timingsFile = sharedTimingsFile();
+        if (timingsFile == null) return null;
+        FeatureShard shard = FeatureShard.fromSystemProperties();
+        if (shard == null) return timingsFile;
+        String name = String.format("%s.shard-%d-of-%d.json", Files.getNameWithoutExtension(timingsFile.getName()), shard.getIndex(), shard.getTotal());
+        return new File(timingsFile.getAbsoluteFile().getParentFile(), name);
+    }
+
+    public static Map<String, Long> load(File file) {
+        if (!file.isFile()) return Maps.newTreeMap();
+        try {
+            return MAPPER.readValue(file, new TypeReference<TreeMap<String, Long>>() { });
+        } catch (IOException e) {
+            LOGGER.warn("Could not read feature timings from {}, ignoring them", file, e);
+            return Maps.newTreeMap();
+        }
+    }
+
+    public static void update(File file, Map<String, Long> durations) {
+        update(file, durations, true);
+    }
+
+    /**
+     * Stores the given durations. Durations of a feature that already ran in this JVM, for instance
+     * in another profile, are added to it, as a shard runs it once per profile.
+     *
+     * @param keepPrevious if true, durations of features that didn't run in this JVM are kept,
+     * otherwise the file only has durations of features that ran in this JVM
+     */
+    public static void update(File file, Map<String, Long> durations, boolean keepPrevious) {
+        synchronized (LOCK) {
+            File key = file.getAbsoluteFile();
+            Map<String, Long> runDurations = RUN_DURATIONS.get(key);
+            if (runDurations == null) {
+                runDurations = Maps.newHashMap();
+                RUN_DURATIONS.put(key, runDurations);
+            }
+            for (Map.Entry<String, Long> entry : durations.entrySet()) {
+                Long duration = runDurations.get(entry.getKey());
+                runDurations.put(entry.getKey(), duration == null ? entry.getValue() : duration + entry.getValue());
+            }
+            Map<String, Long> timings = keepPrevious ? load(file) : Maps.<String, Long> newTreeMap();
+            timings.putAll(runDurations);
+            write(file, timings);
+        }
+    }
+
+    /**
+     * Merges timings written by shards into the shared timings file. Features that no shard ran keep
+     * their previous durations.
+     */
+    public static void merge(File file, List<File> shardFiles) {
+        synchronized (LOCK) {
+            Map<String, Long> timings = load(file);
+            for (File shardFile : shardFiles) {
+                timings.putAll(load(shardFile));
+            }
+            write(file, timings);
+        }
+    }
+
+    /**
+     * Usage: {@code FeatureTimings <timings file> <shard timings file>...}
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: FeatureTimings <timings file> <shard timings file>...");
+            System.exit(1);
+        }
+        List<File> shardFiles = Lists.newArrayList();
+        for (String shardFile : Arrays.asList(args).subList(1, args.length)) {
+            shardFiles.add(new File(shardFile));
+        }
+        merge(new File(args[0]), shardFiles);
+    }
+
+    private static void write(File file, Map<String, Long> timings) {
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) parent.mkdirs();
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, timings);
+        } catch (IOException e) {
+            throw Throwables.propagate(e);
+        }
+    }
+}
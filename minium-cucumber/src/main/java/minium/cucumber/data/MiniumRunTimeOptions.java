@@ -16,7 +16,12 @@
 package minium.cucumber.data;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import cucumber.runtime.RuntimeOptions;
 import cucumber.runtime.Shellwords;
@@ -26,6 +31,8 @@ import cucumber.runtime.model.CucumberFeature;
 
 public class MiniumRunTimeOptions extends RuntimeOptions {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MiniumRunTimeOptions.class);
+
     private File resourceDir;
 
     public MiniumRunTimeOptions(List<String> argv) {
@@ -41,9 +48,24 @@ public class MiniumRunTimeOptions extends RuntimeOptions {
         this.resourceDir = resourceDir;
     }
 
+    /**
+     * If {@code minium.cucumber.shard} is set, only the features of that shard are returned.
+     *
+     * @see FeatureShard
+     */
     @Override
     public List<CucumberFeature> cucumberFeatures(ResourceLoader resourceLoader) {
-        return MiniumFeatureBuilder.load(resourceLoader, this.getFeaturePaths(), this.getFilters(), System.out,resourceDir);
+        List<CucumberFeature> cucumberFeatures = MiniumFeatureBuilder.load(resourceLoader, this.getFeaturePaths(), this.getFilters(), System.out,resourceDir);
+        FeatureShard shard = FeatureShard.fromSystemProperties();
+        if (shard == null) return cucumberFeatures;
+
+        // local timings differ between machines, so only a shared timings file is used to balance shards
+        File timingsFile = FeatureTimings.sharedTimingsFile();
+        Map<String, Long> timings = timingsFile == null ? Collections.<String, Long> emptyMap() : FeatureTimings.load(timingsFile);
+        List<CucumberFeature> shardFeatures = shard.select(cucumberFeatures, timings);
+        LOGGER.info("Running {} of {} features in shard {}, balanced with {} timings (hash {})", shardFeatures.size(), cucumberFeatures.size(), shard,
+                timings.size(), Integer.toHexString(timings.hashCode()));
+        return shardFeatures;
     }
 
     public List<CucumberFeature> cucumberFeatures(ResourceLoader resourceLoader,boolean x) {
@@ -88,8 +88,11 @@ public class ProgressFormatter implements Formatter, Reporter {
     @Override
     public void endOfScenarioLifeCycle(Scenario scenario) {
         try {
-            progress.finishedScenario(scenario);
-            FileUtils.writeStringToFile(outputFile, mapper.writeValueAsString(progress), StandardCharsets.UTF_8);
+            // profiles running concurrently share the same progress and output file
+            synchronized (progress) {
+                progress.finishedScenario(scenario);
+                FileUtils.writeStringToFile(outputFile, mapper.writeValueAsString(progress), StandardCharsets.UTF_8);
+            }
         } catch (IOException e) {
             throw Throwables.propagate(e);
         }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.formatter;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Maps;
+
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
+import gherkin.formatter.model.Background;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.ScenarioOutline;
+import gherkin.formatter.model.Step;
+import minium.cucumber.data.FeatureShard;
+import minium.cucumber.data.FeatureTimings;
+
+/**
+ * Measures how long each feature takes, from its steps and hooks, and stores it in the timings
+ * file when the run is done, so that {@link FeatureShard} can balance the next runs.
+ *
+ * @see FeatureTimings#outputFile()
+ */
+public class TimingFormatter implements Formatter, Reporter {
+
+    private final File outputFile;
+    private final boolean keepPrevious;
+    private final Map<String, Long> durations = Maps.newLinkedHashMap();
+    private String uri;
+
+    public TimingFormatter(File outputFile) {
+        this(outputFile, true);
+    }
+
+    /**
+     * @param keepPrevious if false, the output file only keeps durations of features that ran in this JVM
+     */
+    public TimingFormatter(File outputFile, boolean keepPrevious) {
+        this.outputFile = outputFile;
+        this.keepPrevious = keepPrevious;
+    }
+
+    @Override
+    public void uri(String uri) {
+        this.uri = uri;
+    }
+
+    @Override
+    public void result(Result result) {
+        addDuration(result);
+    }
+
+    @Override
+    public void before(Match match, Result result) {
+        addDuration(result);
+    }
+
+    @Override
+    public void after(Match match, Result result) {
+        addDuration(result);
+    }
+
+    @Override
+    public void done() {
+        if (!durations.isEmpty()) {
+            FeatureTimings.update(outputFile, durations, keepPrevious);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void feature(Feature feature) {
+    }
+
+    @Override
+    public void background(Background background) {
+    }
+
+    @Override
+    public void scenario(Scenario scenario) {
+    }
+
+    @Override
+    public void scenarioOutline(ScenarioOutline scenarioOutline) {
+    }
+
+    @Override
+    public void examples(Examples examples) {
+    }
+
+    @Override
+    public void step(Step step) {
+    }
+
+    @Override
+    public void eof() {
+    }
+
+    @Override
+    public void syntaxError(String state, String event, List<String> legalEvents, String uri, Integer line) {
+    }
+
+    @Override
+    public void startOfScenarioLifeCycle(Scenario scenario) {
+    }
+
+    @Override
+    public void endOfScenarioLifeCycle(Scenario scenario) {
+    }
+
+    @Override
+    public void match(Match match) {
+    }
+
+    @Override
+    public void embedding(String mimeType, byte[] data) {
+    }
+
+    @Override
+    public void write(String text) {
+    }
+
+    private void addDuration(Result result) {
+        if (uri == null || result.getDuration() == null) return;
+        Long duration = durations.get(uri);
+        long millis = TimeUnit.NANOSECONDS.toMillis(result.getDuration());
+        durations.put(uri, duration == null ? millis : duration + millis);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
+
+/**
+ * Records the formatter and reporter events of a feature and replays them all at once into the
+ * target formatter and reporter when the feature ends, so that features running concurrently
+ * don't interleave their reports. {@code done()} and {@code close()} are not forwarded, the target
+ * is closed by whoever owns it.
+ */
+public class FeatureEventsRecorder implements InvocationHandler {
+
+    public interface FormatterReporter extends Formatter, Reporter {
+    }
+
+    private static class Event {
+        private final Method method;
+        private final Object[] args;
+
+        public Event(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    private final Formatter formatter;
+    private final Reporter reporter;
+    private final Object lock;
+    private final List<Event> events = Lists.newArrayList();
+
+    private FeatureEventsRecorder(Formatter formatter, Reporter reporter, Object lock) {
+        this.formatter = formatter;
+        this.reporter = reporter;
+        this.lock = lock;
+    }
+
+    /**
+     * Replays are serialized on the given lock, which must be shared by all recorders with the same target.
+     */
+    public static FormatterReporter create(Formatter formatter, Reporter reporter, Object lock) {
+        return (FormatterReporter) Proxy.newProxyInstance(FormatterReporter.class.getClassLoader(), new Class<?>[] { FormatterReporter.class }, new FeatureEventsRecorder(formatter, reporter, lock));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+        String name = method.getName();
+        if (name.equals("done") || name.equals("close")) return null;
+
+        events.add(new Event(method, args));
+        if (name.equals("eof")) {
+            replay();
+        }
+        return null;
+    }
+
+    private void replay() throws Throwable {
+        try {
+            synchronized (lock) {
+                for (Event event : events) {
+                    Object target = event.method.getDeclaringClass() == Reporter.class ? reporter : formatter;
+                    event.method.invoke(target, event.args);
+                }
+            }
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            events.clear();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.collect.Lists;
+
+import cucumber.runtime.model.CucumberFeature;
+import cucumber.runtime.model.CucumberTagStatement;
+import gherkin.formatter.model.Tag;
+import gherkin.formatter.model.TagStatement;
+import minium.internal.Throwables;
+
+/**
+ * Binds the features of a profile to its workers, keeps {@code @serial} features from running
+ * alongside any other feature, and waits for all submitted features to finish.
+ */
+class FeatureScheduler {
+
+    static final String SERIAL_TAG = "@serial";
+
+    private final ReadWriteLock serialLock = new ReentrantReadWriteLock(true);
+    private final List<Future<?>> futures = Lists.newArrayList();
+
+    /**
+     * Returns the index of the worker each feature is bound to. Serial features all go to the
+     * first worker, the others to the worker with the fewest scenarios so far.
+     */
+    static List<Integer> bind(List<CucumberFeature> features, int numberOfWorkers) {
+        int[] numberOfScenarios = new int[numberOfWorkers];
+        List<Integer> indexes = Lists.newArrayList();
+        for (CucumberFeature feature : features) {
+            int index = isSerial(feature) ? 0 : leastLoaded(numberOfScenarios);
+            numberOfScenarios[index] += feature.getFeatureElements().size();
+            indexes.add(index);
+        }
+        return indexes;
+    }
+
+    static boolean isSerial(CucumberFeature cucumberFeature) {
+        if (hasSerialTag(cucumberFeature.getGherkinFeature())) return true;
+        for (CucumberTagStatement featureElement : cucumberFeature.getFeatureElements()) {
+            if (hasSerialTag((TagStatement) featureElement.getGherkinModel())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Runs a feature. Serial features wait for all running features to finish, and no other
+     * feature starts meanwhile.
+     */
+    void run(Runnable feature, boolean serial) {
+        Lock lock = serial ? serialLock.writeLock() : serialLock.readLock();
+        lock.lock();
+        try {
+            feature.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void submitted(Future<?> future) {
+        futures.add(future);
+    }
+
+    /**
+     * Waits for all submitted features to finish, even if some of them fail, and only then
+     * rethrows the first failure.
+     */
+    void await() {
+        Throwable failure = null;
+        boolean interrupted = false;
+        try {
+            for (Future<?> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        if (failure == null) failure = e.getCause();
+                        break;
+                    }
+                }
+            }
+        } finally {
+            futures.clear();
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+        if (failure != null) throw Throwables.propagate(failure);
+    }
+
+    private static int leastLoaded(int[] numberOfScenarios) {
+        int leastLoaded = 0;
+        for (int i = 1; i < numberOfScenarios.length; i++) {
+            if (numberOfScenarios[i] < numberOfScenarios[leastLoaded]) leastLoaded = i;
+        }
+        return leastLoaded;
+    }
+
+    private static boolean hasSerialTag(TagStatement statement) {
+        for (Tag tag : statement.getTags()) {
+            if (SERIAL_TAG.equals(tag.getName())) return true;
+        }
+        return false;
+    }
+}
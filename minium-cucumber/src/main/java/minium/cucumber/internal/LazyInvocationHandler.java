@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+import com.google.common.reflect.AbstractInvocationHandler;
+
+/**
+ * Only creates its target when a method is first invoked on the proxy, so that browsers of
+ * workers that never run a feature are never started.
+ */
+class LazyInvocationHandler<T> extends AbstractInvocationHandler {
+
+    private final Callable<? extends T> factory;
+    private T target;
+
+    public LazyInvocationHandler(Callable<? extends T> factory) {
+        this.factory = factory;
+    }
+
+    public synchronized T get() throws Exception {
+        if (target == null) {
+            target = factory.call();
+        }
+        return target;
+    }
+
+    /**
+     * @return the target, or {@code null} if no method was invoked on the proxy yet
+     */
+    public synchronized T getIfCreated() {
+        return target;
+    }
+
+    @Override
+    protected Object handleInvocation(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(get(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -40,11 +40,18 @@ package minium.cucumber.internal;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.runner.Description;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerScheduler;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.Scriptable;
 import org.slf4j.Logger;
@@ -59,26 +66,40 @@ import org.springframework.test.context.ActiveProfiles;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.reflect.Reflection;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import cucumber.runtime.Backend;
 import cucumber.runtime.Runtime;
+import cucumber.runtime.RuntimeOptions;
 import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.junit.FeatureRunner;
 import cucumber.runtime.junit.JUnitOptions;
 import cucumber.runtime.junit.JUnitReporter;
 import cucumber.runtime.model.CucumberFeature;
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
 import minium.cucumber.MiniumConfiguration;
 import minium.cucumber.MiniumCucumber;
 import minium.cucumber.config.ConfigProperties;
 import minium.cucumber.config.CucumberProperties;
 import minium.cucumber.config.CucumberProperties.RemoteBackendProperties;
 import minium.cucumber.data.MiniumRunTimeOptions;
+import minium.cucumber.internal.FeatureEventsRecorder.FormatterReporter;
 import minium.cucumber.rest.RemoteBackend;
 import minium.script.js.JsBrowserFactory;
 import minium.script.js.MiniumJsEngineAdapter;
+import minium.script.rhinojs.RhinoBrowserFactory;
 import minium.script.rhinojs.RhinoEngine;
+import minium.script.rhinojs.RhinoProperties;
 import minium.web.CoreWebElements.DefaultWebElements;
 import minium.web.actions.Browser;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.config.WebDriverFactory;
+import minium.web.config.WebDriverPool;
+import minium.web.config.WebDriverProperties;
 
 public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements InitializingBean {
 
@@ -89,6 +110,59 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MiniumProfileRunner.class);
 
+    /**
+     * Runs features with its own rhino engine, cucumber runtime and browser, one feature at a time.
+     */
+    private class Worker {
+        private final RhinoEngine engine;
+        private final Runtime runtime;
+        private final JUnitReporter jUnitReporter;
+        private final ExecutorService executor;
+        private final boolean primary;
+        private final LazyInvocationHandler<WebDriverBrowser<?>> browser;
+
+        public Worker(RhinoEngine engine, Runtime runtime, JUnitReporter jUnitReporter, LazyInvocationHandler<WebDriverBrowser<?>> browser, int index) {
+            this.engine = engine;
+            this.runtime = runtime;
+            this.jUnitReporter = jUnitReporter;
+            this.browser = browser;
+            this.primary = browser == null;
+            this.executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("minium-worker-" + index).setDaemon(true).build());
+        }
+
+        public Future<?> submit(final FeatureRunner child, final RunNotifier notifier, final boolean serial) {
+            return executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    return engine.runWithContext(engine.new RhinoCallable<Void, RuntimeException>() {
+                        @Override
+                        protected Void doCall(Context cx, Scriptable scope) {
+                            scheduler.run(new Runnable() {
+                                @Override
+                                public void run() {
+                                    child.run(notifier);
+                                }
+                            }, serial);
+                            return null;
+                        }
+                    });
+                }
+            });
+        }
+
+        public void destroy() {
+            executor.shutdownNow();
+            if (primary) return;
+            try {
+                WebDriverBrowser<?> workerBrowser = browser.getIfCreated();
+                if (workerBrowser != null) workerBrowser.quit();
+                engine.destroy();
+            } catch (Exception e) {
+                LOGGER.warn("Failed destroying worker for profiles {}", environment.getActiveProfiles(), e);
+            }
+        }
+    }
+
     @Autowired
     private Environment environment;
 
@@ -111,7 +185,23 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
     @Autowired
     private ConfigProperties configProperties;
 
+    @Autowired
+    private RhinoProperties rhinoProperties;
+
+    @Autowired
+    private WebDriverProperties webDriverProperties;
+
+    @Autowired
+    private WebDriverFactory webDriverFactory;
+
+    @Autowired
+    private WebDriverPool webDriverPool;
+
     private List<FeatureRunner> children = Lists.newArrayList();
+    private List<Worker> workers = Lists.newArrayList();
+    private Map<FeatureRunner, Worker> childWorkers = Maps.newHashMap();
+    private Set<FeatureRunner> serialChildren = Sets.newHashSet();
+    private FeatureScheduler scheduler = new FeatureScheduler();
     private JUnitReporter jUnitReporter;
     private Runtime runtime;
     private List<CucumberFeature> cucumberFeatures;
@@ -154,7 +244,30 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
 
         cucumberFeatures = runtimeOptions.cucumberFeatures(resourceLoader);
         CucumberContext.setFeatures(cucumberFeatures);
-        jUnitReporter = new JUnitReporter(runtimeOptions.reporter(classLoader), runtimeOptions.formatter(classLoader), runtimeOptions.isStrict(), new JUnitOptions(runtimeOptions.getJunitOptions()));
+        Reporter reporter = runtimeOptions.reporter(classLoader);
+        Formatter formatter = runtimeOptions.formatter(classLoader);
+        jUnitReporter = new JUnitReporter(reporter, formatter, runtimeOptions.isStrict(), new JUnitOptions(runtimeOptions.getJunitOptions()));
+
+        int numberOfWorkers = Math.min(Integer.getInteger("minium.cucumber.workers", 1), cucumberFeatures.size());
+        if (numberOfWorkers > 1) {
+            // each worker reports through a recorder, that replays its events into the actual reporter feature by feature
+            workers.add(new Worker(rhinoEngine, runtime, recordingJUnitReporter(reporter, formatter, runtimeOptions), null, 0));
+            for (int i = 1; i < numberOfWorkers; i++) {
+                workers.add(createWorker(i, reporter, formatter, runtimeOptions));
+            }
+            setScheduler(new RunnerScheduler() {
+                @Override
+                public void schedule(Runnable childStatement) {
+                    // runChild only submits the feature to its worker
+                    childStatement.run();
+                }
+
+                @Override
+                public void finished() {
+                    scheduler.await();
+                }
+            });
+        }
         addChildren(cucumberFeatures);
     }
 
@@ -172,17 +285,29 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
     @Override
     public void run(final RunNotifier notifier) {
         try {
-            rhinoEngine.runWithContext(rhinoEngine.new RhinoCallable<Void, RuntimeException>() {
-                @Override
-                protected Void doCall(Context cx, Scriptable scope) {
-                    doRun(notifier);
-                    return null;
-                }
-            });
+            if (workers.isEmpty()) {
+                rhinoEngine.runWithContext(rhinoEngine.new RhinoCallable<Void, RuntimeException>() {
+                    @Override
+                    protected Void doCall(Context cx, Scriptable scope) {
+                        doRun(notifier);
+                        return null;
+                    }
+                });
+            } else {
+                // each worker runs its features in its own rhino engine
+                doRun(notifier);
+            }
             jUnitReporter.done();
             jUnitReporter.close();
             runtime.printSummary();
+            // cucumber stats can't be merged, so each additional worker prints the summary of the features it ran
+            for (Worker worker : workers) {
+                if (!worker.primary) worker.runtime.printSummary();
+            }
         } finally {
+            for (Worker worker : workers) {
+                worker.destroy();
+            }
             try {
                 CucumberContext.clear();
                 if (testContextManager != null)
@@ -199,6 +324,10 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
     }
 
     protected List<Backend> allBackends() throws IOException {
+        return allBackends(rhinoEngine);
+    }
+
+    protected List<Backend> allBackends(RhinoEngine rhinoEngine) throws IOException {
         ArrayList<RemoteBackend> remoteBackends = Lists.newArrayList();
         for (RemoteBackendProperties remoteBackendProperties : cucumberProperties.getRemoteBackends()) {
             remoteBackends.add(remoteBackendProperties.createRemoteBackend());
@@ -224,7 +353,12 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
 
     @Override
     protected void runChild(FeatureRunner child, RunNotifier notifier) {
-        child.run(notifier);
+        Worker worker = childWorkers.get(child);
+        if (worker == null) {
+            child.run(notifier);
+        } else {
+            scheduler.submitted(worker.submit(child, notifier, serialChildren.contains(child)));
+        }
     }
 
     private void doRun(RunNotifier notifier) {
@@ -232,8 +366,52 @@ public class MiniumProfileRunner extends ParentRunner<FeatureRunner> implements
     }
 
     private void addChildren(List<CucumberFeature> cucumberFeatures) throws InitializationError {
-        for (CucumberFeature cucumberFeature : cucumberFeatures) {
-            children.add(new FeatureRunner(cucumberFeature, runtime, jUnitReporter));
+        if (workers.isEmpty()) {
+            for (CucumberFeature cucumberFeature : cucumberFeatures) {
+                children.add(new FeatureRunner(cucumberFeature, runtime, jUnitReporter));
+            }
+            return;
         }
+        // features are bound to workers upfront, so that their descriptions are the ones that will run
+        List<Integer> indexes = FeatureScheduler.bind(cucumberFeatures, workers.size());
+        for (int i = 0; i < cucumberFeatures.size(); i++) {
+            CucumberFeature cucumberFeature = cucumberFeatures.get(i);
+            boolean serial = FeatureScheduler.isSerial(cucumberFeature);
+            Worker worker = workers.get(indexes.get(i));
+            FeatureRunner child = new FeatureRunner(cucumberFeature, worker.runtime, worker.jUnitReporter);
+            children.add(child);
+            childWorkers.put(child, worker);
+            if (serial) serialChildren.add(child);
+        }
+    }
+
+    private Worker createWorker(int index, Reporter reporter, Formatter formatter, RuntimeOptions runtimeOptions) throws IOException {
+        final RhinoEngine engine = new RhinoEngine(rhinoProperties);
+        final RhinoBrowserFactory browserFactory = new RhinoBrowserFactory(engine, webDriverFactory, webDriverPool);
+        // browsers of additional workers are only created when first used
+        LazyInvocationHandler<WebDriverBrowser<?>> browserHandler = new LazyInvocationHandler<WebDriverBrowser<?>>(new Callable<WebDriverBrowser<?>>() {
+            @Override
+            public WebDriverBrowser<?> call() throws IOException {
+                return browserFactory.create(webDriverProperties);
+            }
+        });
+        Browser<?> lazyBrowser = Reflection.newProxy(Browser.class, browserHandler);
+        new MiniumJsEngineAdapter(lazyBrowser, browserFactory).adapt(engine);
+        engine.putJson("config", configProperties.toJson());
+
+        final MiniumRunTimeOptions workerRuntimeOptions = new MiniumRunTimeOptions(cucumberProperties.getOptions().toArgs());
+        Runtime workerRuntime = engine.runWithContext(engine.new RhinoCallable<Runtime, IOException>() {
+            @Override
+            protected Runtime doCall(Context cx, Scriptable scope) throws IOException {
+                return new RuntimeBuilder().withArgs(cucumberProperties.getOptions().toArgs()).withClassLoader(Thread.currentThread().getContextClassLoader())
+                        .withResourceLoader(resourceLoader).withBackends(allBackends(engine)).withRuntimeOptions(workerRuntimeOptions).build();
+            }
+        });
+        return new Worker(engine, workerRuntime, recordingJUnitReporter(reporter, formatter, runtimeOptions), browserHandler, index);
+    }
+
+    private JUnitReporter recordingJUnitReporter(Reporter reporter, Formatter formatter, RuntimeOptions runtimeOptions) {
+        FormatterReporter recorder = FeatureEventsRecorder.create(formatter, reporter, jUnitReporter);
+        return new JUnitReporter(recorder, recorder, runtimeOptions.isStrict(), new JUnitOptions(runtimeOptions.getJunitOptions()));
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.runners.model.RunnerScheduler;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import minium.internal.Throwables;
+
+/**
+ * Runs the children of a runner concurrently, using a fixed number of threads. {@link #finished()}
+ * only returns after all children ran.
+ */
+public class ParallelRunnerScheduler implements RunnerScheduler {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> futures = Lists.newArrayList();
+
+    public ParallelRunnerScheduler(int threads, String nameFormat) {
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat(nameFormat).build());
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        futures.add(executor.submit(childStatement));
+    }
+
+    @Override
+    public void finished() {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Throwables.propagate(e);
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -30,7 +30,10 @@ import cucumber.runtime.RuntimeOptionsFactory;
 import cucumber.runtime.formatter.PluginFactory;
 import cucumber.runtime.io.MultiLoader;
 import cucumber.runtime.io.ResourceLoader;
+import minium.cucumber.data.FeatureShard;
+import minium.cucumber.data.FeatureTimings;
 import minium.cucumber.formatter.ProgressFormatter;
+import minium.cucumber.formatter.TimingFormatter;
 
 public class RuntimeBuilder {
 
@@ -126,6 +129,12 @@ public class RuntimeBuilder {
             File progressOutputFile = new File(progressOutputFilePath);
             runtimeOptions.addPlugin(new ProgressFormatter(progressOutputFile));
         }
+        // timings are only used for sharding with a shared timings file. Shards don't write that file, as
+        // other shards may still be reading it, so each one writes only its own timings to a separate file
+        File timingsOutputFile = FeatureTimings.outputFile();
+        if (timingsOutputFile != null) {
+            runtimeOptions.addPlugin(new TimingFormatter(timingsOutputFile, FeatureShard.fromSystemProperties() == null));
+        }
         runtime = new Runtime(resourceLoader, classLoader, backends, runtimeOptions);
         return runtime;
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.data;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class ExecutionProgressTest {
+
+    @Test
+    public void testProgressOfProfilesRunningConcurrently() throws InterruptedException {
+        // given
+        final ExecutionProgress progress = new ExecutionProgress();
+        progress.setProfilesMatrix(new ProfilesMatrix("chrome; firefox"));
+        progress.setNumberOfScenarios(100);
+
+        // when
+        List<Thread> profileThreads = Lists.newArrayList();
+        for (int i = 0; i < 2; i++) {
+            Thread profileThread = new Thread() {
+                @Override
+                public void run() {
+                    progress.startedNextProfile();
+                    for (int j = 0; j < 100; j++) {
+                        progress.finishedScenario(null);
+                    }
+                }
+            };
+            profileThread.start();
+            profileThreads.add(profileThread);
+        }
+        for (Thread profileThread : profileThreads) {
+            profileThread.join();
+        }
+
+        // then
+        assertThat(progress.getTotalNumberOfExecutedScenarios(), equalTo(200f));
+        assertThat(progress.getProgressInPercentage(), equalTo(100f));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.data;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+import cucumber.runtime.model.CucumberFeature;
+import cucumber.runtime.model.CucumberTagStatement;
+
+public class FeatureShardTest {
+
+    @Test
+    public void testParse() {
+        // when
+        FeatureShard shard = FeatureShard.parse("2/8");
+
+        // then
+        assertThat(shard.getIndex(), equalTo(2));
+        assertThat(shard.getTotal(), equalTo(8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidIndex() {
+        FeatureShard.parse("9/8");
+    }
+
+    @Test
+    public void testShardsAreBalancedByDuration() {
+        // given
+        CucumberFeature a = feature("a.feature", 1);
+        CucumberFeature b = feature("b.feature", 1);
+        CucumberFeature c = feature("c.feature", 1);
+        CucumberFeature d = feature("d.feature", 1);
+        List<CucumberFeature> features = Lists.newArrayList(a, b, c, d);
+        Map<String, Long> timings = ImmutableMap.of("a.feature", 10L, "b.feature", 6L, "c.feature", 5L, "d.feature", 1L);
+
+        // when
+        List<CucumberFeature> shard1 = new FeatureShard(1, 2).select(features, timings);
+        List<CucumberFeature> shard2 = new FeatureShard(2, 2).select(features, timings);
+
+        // then
+        assertThat(shard1, contains(a, d));
+        assertThat(shard2, contains(b, c));
+    }
+
+    @Test
+    public void testPartialTimingsAreIgnored() {
+        // given
+        CucumberFeature a = feature("a.feature", 1);
+        CucumberFeature b = feature("b.feature", 1);
+        CucumberFeature c = feature("c.feature", 1);
+        CucumberFeature d = feature("d.feature", 1);
+        List<CucumberFeature> features = Lists.newArrayList(a, b, c, d);
+        Map<String, Long> timings = ImmutableMap.of("a.feature", 1000L, "b.feature", 1L);
+
+        // when
+        List<CucumberFeature> shard1 = new FeatureShard(1, 3).select(features, timings);
+
+        // then
+        assertThat(shard1, contains(a, d));
+    }
+
+    @Test
+    public void testShardsWithDifferentPartialTimingsCoverAllFeaturesOnce() {
+        // given
+        List<CucumberFeature> features = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            features.add(feature(String.format("%d.feature", i), i % 3 + 1));
+        }
+        Map<String, Long> timings1 = ImmutableMap.of("0.feature", 1000L, "1.feature", 1L);
+        Map<String, Long> timings2 = ImmutableMap.of("2.feature", 1000L, "3.feature", 500L);
+
+        // when
+        List<CucumberFeature> all = Lists.newArrayList();
+        all.addAll(new FeatureShard(1, 2).select(features, timings1));
+        all.addAll(new FeatureShard(2, 2).select(features, timings2));
+
+        // then
+        assertThat(all, containsInAnyOrder(features.toArray(new CucumberFeature[0])));
+    }
+
+    @Test
+    public void testShardsWithoutTimingsCoverAllFeatures() {
+        // given
+        List<CucumberFeature> features = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            features.add(feature(String.format("%d.feature", i), i % 3 + 1));
+        }
+        Map<String, Long> timings = Collections.emptyMap();
+
+        // when
+        List<CucumberFeature> all = Lists.newArrayList();
+        for (int i = 1; i <= 3; i++) {
+            all.addAll(new FeatureShard(i, 3).select(features, timings));
+        }
+
+        // then
+        assertThat(all, containsInAnyOrder(features.toArray(new CucumberFeature[0])));
+    }
+
+    private CucumberFeature feature(String path, int numberOfScenarios) {
+        List<CucumberTagStatement> scenarios = Lists.newArrayList();
+        for (int i = 0; i < numberOfScenarios; i++) {
+            scenarios.add(mock(CucumberTagStatement.class));
+        }
+        CucumberFeature feature = mock(CucumberFeature.class);
+        when(feature.getPath()).thenReturn(path);
+        when(feature.getFeatureElements()).thenReturn(scenarios);
+        return feature;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.data;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Files;
+
+public class FeatureTimingsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void after() {
+        System.clearProperty("minium.cucumber.timingsFile");
+        System.clearProperty("minium.cucumber.shard");
+    }
+
+    @Test
+    public void testDurationsOfFeaturesRunBySeveralProfilesAddUp() throws Exception {
+        // given
+        File file = new File(folder.getRoot(), "timings.json");
+        FeatureTimings.update(file, ImmutableMap.of("a.feature", 10L, "b.feature", 5L));
+
+        // when
+        FeatureTimings.update(file, ImmutableMap.of("a.feature", 20L));
+
+        // then
+        Map<String, Long> timings = FeatureTimings.load(file);
+        assertThat(timings, equalTo((Map<String, Long>) ImmutableMap.of("a.feature", 30L, "b.feature", 5L)));
+    }
+
+    @Test
+    public void testDurationsOfPreviousRunsAreReplaced() throws Exception {
+        // given
+        File file = new File(folder.getRoot(), "timings.json");
+        Files.asCharSink(file, StandardCharsets.UTF_8).write("{\"a.feature\":100,\"b.feature\":50}");
+
+        // when
+        FeatureTimings.update(file, ImmutableMap.of("a.feature", 20L));
+
+        // then
+        Map<String, Long> timings = FeatureTimings.load(file);
+        assertThat(timings, equalTo((Map<String, Long>) ImmutableMap.of("a.feature", 20L, "b.feature", 50L)));
+    }
+
+    @Test
+    public void testShardsWriteTheirTimingsToTheirOwnFile() throws Exception {
+        // given
+        File file = new File(folder.getRoot(), "timings.json");
+
+        // when
+        File noTimingsFile = FeatureTimings.outputFile();
+        System.setProperty("minium.cucumber.timingsFile", file.getPath());
+        File unshardedFile = FeatureTimings.outputFile();
+        System.setProperty("minium.cucumber.shard", "2/3");
+        File shardFile = FeatureTimings.outputFile();
+
+        // then
+        assertThat(noTimingsFile, nullValue());
+        assertThat(unshardedFile, equalTo(file));
+        assertThat(shardFile, equalTo(new File(folder.getRoot(), "timings.shard-2-of-3.json")));
+    }
+
+    @Test
+    public void testShardTimingsOnlyHaveFeaturesThatRan() throws Exception {
+        // given
+        File file = new File(folder.getRoot(), "timings.shard-1-of-2.json");
+        Files.asCharSink(file, StandardCharsets.UTF_8).write("{\"a.feature\":100,\"b.feature\":50}");
+
+        // when
+        FeatureTimings.update(file, ImmutableMap.of("a.feature", 20L), false);
+
+        // then
+        Map<String, Long> timings = FeatureTimings.load(file);
+        assertThat(timings, equalTo((Map<String, Long>) ImmutableMap.of("a.feature", 20L)));
+    }
+
+    @Test
+    public void testShardTimingsAreMergedIntoTheSharedFile() throws Exception {
+        // given
+        File file = new File(folder.getRoot(), "timings.json");
+        Files.asCharSink(file, StandardCharsets.UTF_8).write("{\"a.feature\":100,\"b.feature\":50,\"c.feature\":10}");
+        File shard1File = new File(folder.getRoot(), "timings.shard-1-of-2.json");
+        Files.asCharSink(shard1File, StandardCharsets.UTF_8).write("{\"a.feature\":20}");
+        File shard2File = new File(folder.getRoot(), "timings.shard-2-of-2.json");
+        Files.asCharSink(shard2File, StandardCharsets.UTF_8).write("{\"b.feature\":30}");
+
+        // when
+        FeatureTimings.merge(file, ImmutableList.of(shard1File, shard2File));
+
+        // then
+        Map<String, Long> timings = FeatureTimings.load(file);
+        assertThat(timings, equalTo((Map<String, Long>) ImmutableMap.of("a.feature", 20L, "b.feature", 30L, "c.feature", 10L)));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
+import gherkin.formatter.model.Result;
+import minium.cucumber.internal.FeatureEventsRecorder.FormatterReporter;
+
+public class FeatureEventsRecorderTest {
+
+    @Test
+    public void testEventsAreReplayedWhenFeatureEnds() {
+        // given
+        Formatter formatter = mock(Formatter.class);
+        Reporter reporter = mock(Reporter.class);
+        FormatterReporter recorder = FeatureEventsRecorder.create(formatter, reporter, new Object());
+        Result result = new Result(Result.PASSED, 1L, null);
+
+        // when
+        recorder.uri("test.feature");
+        recorder.result(result);
+
+        // then
+        verifyZeroInteractions(formatter, reporter);
+
+        // when
+        recorder.eof();
+
+        // then
+        InOrder inOrder = inOrder(formatter, reporter);
+        inOrder.verify(formatter).uri("test.feature");
+        inOrder.verify(reporter).result(result);
+        inOrder.verify(formatter).eof();
+    }
+
+    @Test
+    public void testDoneAndCloseAreNotForwarded() {
+        // given
+        Formatter formatter = mock(Formatter.class);
+        Reporter reporter = mock(Reporter.class);
+        FormatterReporter recorder = FeatureEventsRecorder.create(formatter, reporter, new Object());
+
+        // when
+        recorder.eof();
+        recorder.done();
+        recorder.close();
+
+        // then
+        verify(formatter).eof();
+        verifyNoMoreInteractions(formatter, reporter);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import cucumber.runtime.model.CucumberFeature;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.Tag;
+
+public class FeatureSchedulerTest {
+
+    private ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFeaturesAreBoundToLeastLoadedWorker() {
+        // given
+        List<CucumberFeature> features = ImmutableList.of(feature("a.feature", 3, false), feature("b.feature", 2, false), feature("c.feature", 2, false), feature("d.feature", 1, false));
+
+        // when
+        List<Integer> indexes = FeatureScheduler.bind(features, 2);
+
+        // then
+        assertThat(indexes, contains(0, 1, 1, 0));
+    }
+
+    @Test
+    public void testSerialFeaturesAreBoundToFirstWorker() {
+        // given
+        List<CucumberFeature> features = ImmutableList.of(feature("a.feature", 1, false), feature("b.feature", 1, true), feature("c.feature", 1, false));
+
+        // when
+        List<Integer> indexes = FeatureScheduler.bind(features, 3);
+
+        // then
+        assertThat(indexes, contains(0, 0, 1));
+    }
+
+    @Test
+    public void testSerialScenarioMakesFeatureSerial() {
+        // given
+        CucumberFeature feature = new CucumberFeature(new Feature(Collections.<Comment> emptyList(), Collections.<Tag> emptyList(), "Feature", "a", "", 1, "a"), "a.feature");
+        feature.scenario(new Scenario(Collections.<Comment> emptyList(), ImmutableList.of(new Tag(FeatureScheduler.SERIAL_TAG, 2)), "Scenario", "s", "", 3, "a;s"));
+
+        // when
+        boolean serial = FeatureScheduler.isSerial(feature);
+
+        // then
+        assertThat(serial, is(true));
+    }
+
+    @Test(timeout = 10000)
+    public void testSerialFeatureWaitsForRunningFeaturesAndBlocksNewOnes() throws Exception {
+        // given
+        final FeatureScheduler scheduler = new FeatureScheduler();
+        final CountDownLatch parallelStarted = new CountDownLatch(1);
+        final CountDownLatch releaseParallel = new CountDownLatch(1);
+        final CountDownLatch releaseSerial = new CountDownLatch(1);
+        final AtomicBoolean serialRunning = new AtomicBoolean();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        Future<?> parallel = executor.submit(running(scheduler, false, new Runnable() {
+            @Override
+            public void run() {
+                parallelStarted.countDown();
+                await(releaseParallel);
+            }
+        }));
+        await(parallelStarted);
+
+        // when
+        Future<?> serial = executor.submit(running(scheduler, true, new Runnable() {
+            @Override
+            public void run() {
+                serialRunning.set(true);
+                await(releaseSerial);
+                serialRunning.set(false);
+            }
+        }));
+        Thread.sleep(200);
+
+        // then
+        assertThat(serialRunning.get(), is(false));
+
+        // when
+        releaseParallel.countDown();
+        parallel.get();
+        while (!serialRunning.get()) {
+            Thread.sleep(10);
+        }
+        Future<?> other = executor.submit(running(scheduler, false, new Runnable() {
+            @Override
+            public void run() {
+                overlapped.set(serialRunning.get());
+            }
+        }));
+        Thread.sleep(200);
+
+        // then
+        assertThat(other.isDone(), is(false));
+
+        // when
+        releaseSerial.countDown();
+        serial.get();
+        other.get();
+
+        // then
+        assertThat(overlapped.get(), is(false));
+    }
+
+    @Test(timeout = 10000)
+    public void testAwaitWaitsForAllFeaturesBeforeRethrowingFailure() throws Exception {
+        // given
+        FeatureScheduler scheduler = new FeatureScheduler();
+        final IllegalStateException failure = new IllegalStateException();
+        final CountDownLatch failed = new CountDownLatch(1);
+        final AtomicBoolean finished = new AtomicBoolean();
+        scheduler.submitted(executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                failed.countDown();
+                throw failure;
+            }
+        }));
+        scheduler.submitted(executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                await(failed);
+                sleep(200);
+                finished.set(true);
+            }
+        }));
+
+        // when
+        try {
+            scheduler.await();
+            fail("Expected failure");
+        } catch (IllegalStateException e) {
+            // then
+            assertThat(e, sameInstance(failure));
+            assertThat(finished.get(), is(true));
+        }
+    }
+
+    private static Runnable running(final FeatureScheduler scheduler, final boolean serial, final Runnable feature) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                scheduler.run(feature, serial);
+            }
+        };
+    }
+
+    private static CucumberFeature feature(String path, int numberOfScenarios, boolean serial) {
+        List<Tag> tags = serial ? ImmutableList.of(new Tag(FeatureScheduler.SERIAL_TAG, 1)) : Collections.<Tag> emptyList();
+        CucumberFeature feature = new CucumberFeature(new Feature(Collections.<Comment> emptyList(), tags, "Feature", path, "", 2, path), path);
+        for (int i = 0; i < numberOfScenarios; i++) {
+            feature.scenario(new Scenario(Collections.<Comment> emptyList(), Collections.<Tag> emptyList(), "Scenario", "s" + i, "", 3 + i, path + ";s" + i));
+        }
+        return feature;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.cucumber.internal;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.reflect.Reflection;
+
+import minium.web.actions.Browser;
+
+public class LazyInvocationHandlerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLazyBrowserIsOnlyCreatedOnFirstUse() throws Exception {
+        // given
+        final Browser<?> browser = mock(Browser.class);
+        final AtomicInteger created = new AtomicInteger();
+        LazyInvocationHandler<Browser<?>> handler = new LazyInvocationHandler<Browser<?>>(new Callable<Browser<?>>() {
+            @Override
+            public Browser<?> call() {
+                created.incrementAndGet();
+                return browser;
+            }
+        });
+        Browser<?> lazyBrowser = Reflection.newProxy(Browser.class, handler);
+
+        // then
+        assertThat(created.get(), equalTo(0));
+        assertThat(handler.getIfCreated(), nullValue());
+
+        // when
+        lazyBrowser.quit();
+        lazyBrowser.quit();
+
+        // then
+        assertThat(created.get(), equalTo(1));
+        assertThat((Object) handler.getIfCreated(), sameInstance((Object) browser));
+        verify(browser, times(2)).quit();
+    }
+}
@@ -31,8 +31,10 @@ import minium.web.BasicWebElements;
 import minium.web.ConditionalWebElements;
 import minium.web.EvalWebElements;
 import minium.web.ExtensionsWebElements;
+import minium.web.ExtractWebElements;
 import minium.web.PositionWebElements;
 import minium.web.TargetLocatorWebElements;
+import minium.web.actions.AsyncWebInteractable;
 import minium.web.actions.Browser;
 import minium.web.actions.WebConfiguration;
 import minium.web.actions.WebInteractable;
@@ -64,14 +66,16 @@ public class DocumentationDoclet {
         ExtensionsWebElements.class,
         EvalWebElements.class,
         TargetLocatorWebElements.class,
-        PositionWebElements.class
+        PositionWebElements.class,
+        ExtractWebElements.class
     };
     private static Class<?>[] INTERACTABLES = {
         Interactable.class,
         MouseInteractable.class,
         KeyboardInteractable.class,
         WaitInteractable.class,
-        WebInteractable.class
+        WebInteractable.class,
+        AsyncWebInteractable.class
     };
 
     public static boolean start(RootDoc root) throws IOException {
@@ -0,0 +1,48 @@
+(function($, window) {
+
+	// each extractor receives a jQuery object with a single element and the spec argument (if any)
+	var extractors = {
+		text        : function($elem) { return $elem.text(); },
+		visibleText : function($elem) { return $elem.visibleText(); },
+		html        : function($elem) { return $elem.html(); },
+		val         : function($elem) { return $elem.val(); },
+		tagName     : function($elem) { return $elem.prop("tagName").toLowerCase(); },
+		visible     : function($elem) { return $elem.is(":visible"); },
+		boundingBox : function($elem) {
+			var box = $elem.get(0).getBoundingClientRect();
+			return { left : box.left, top : box.top, right : box.right, bottom : box.bottom, width : box.width, height : box.height };
+		},
+		attr        : function($elem, name) { return $elem.attr(name); },
+		prop        : function($elem, name) { return $elem.prop(name); },
+		css         : function($elem, name) { return $elem.css(name); },
+		data        : function($elem, name) { return $elem.data(name); }
+	};
+
+	// specs are like "text", "attr:href" or "css:color"
+	var parseSpec = function(spec) {
+		var sep = spec.indexOf(":");
+		var name = sep === -1 ? spec : spec.substring(0, sep);
+		var extractor = extractors[name];
+		if (!extractor) throw new Error("Unknown extract spec: " + spec);
+		return { extractor : extractor, arg : sep === -1 ? undefined : spec.substring(sep + 1) };
+	};
+
+	// returns an object with an array of values, one per matched element, for each spec
+	$.fn.extract = function(specs) {
+		specs = $.isArray(specs) ? specs : $.makeArray(arguments);
+		var parsed = $.map(specs, function(spec) { return [ parseSpec(spec) ]; });
+		var result = {};
+		$.each(specs, function(i, spec) { result[spec] = []; });
+
+		this.each(function(i, elem) {
+			var $elem = $(elem);
+			$.each(parsed, function(j, p) {
+				var value = p.extractor($elem, p.arg);
+				result[specs[j]].push(value === undefined ? null : value);
+			});
+		});
+
+		return result;
+	};
+
+})(jQuery, window);
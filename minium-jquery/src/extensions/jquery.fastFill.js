@@ -0,0 +1,69 @@
+(function($, window) {
+
+	var keyEventTypes = [ "keydown", "keypress", "keyup" ];
+	var unfillableTypes = /^(checkbox|radio|file|button|submit|reset|image|hidden|color|range)$/i;
+
+	// jQuery instances whose event handlers we can inspect (ours and, if any, the page one)
+	var jQueries = window.jQuery && window.jQuery !== $ ? [ $, window.jQuery ] : [ $ ];
+
+	var fillable = function(elem) {
+		if (elem.disabled || elem.readOnly) return false;
+		var tagName = elem.tagName.toLowerCase();
+		return tagName === "textarea" || (tagName === "input" && !unfillableTypes.test(elem.type));
+	};
+
+	// true if the element, or some ancestor that may handle its events, has key handlers that
+	// would miss the key events of actual typing. Handlers added with addEventListener cannot be
+	// inspected, so they are not detected
+	var hasKeyHandlers = function(elem) {
+		for (var node = elem; node; node = node.parentNode) {
+			for (var i = 0; i < keyEventTypes.length; i++) {
+				if (node[ "on" + keyEventTypes[i] ]) return true;
+				for (var j = 0; j < jQueries.length; j++) {
+					var events = jQueries[j]._data ? jQueries[j]._data(node, "events") : null;
+					if (events && events[keyEventTypes[i]]) return true;
+				}
+			}
+		}
+		return false;
+	};
+
+	// uses the native value setter, so that frameworks that wrap the value property still notice it
+	var setValue = function(elem, value) {
+		var win = elem.ownerDocument.defaultView || window;
+		var ctor = elem.tagName.toLowerCase() === "textarea" ? win.HTMLTextAreaElement : win.HTMLInputElement;
+		var descriptor = ctor && Object.getOwnPropertyDescriptor ? Object.getOwnPropertyDescriptor(ctor.prototype, "value") : null;
+		if (descriptor && descriptor.set) {
+			descriptor.set.call(elem, value);
+		} else {
+			elem.value = value;
+		}
+	};
+
+	// shared with other extensions, see utils/dispatchEvent.js
+	var dispatch = minium.dispatchEvent;
+
+	// sets the value of the first matched field (or appends to it) and dispatches input and change
+	// events. Returns false, without changing anything, if that field must be typed instead
+	$.fn.fastFill = function(text, append) {
+		var elem = this.get(0);
+		if (!elem || !fillable(elem) || hasKeyHandlers(elem)) return false;
+
+		if (elem.focus) elem.focus();
+		setValue(elem, append ? elem.value + text : text);
+		dispatch(elem, "input");
+		dispatch(elem, "change");
+		return true;
+	};
+
+	// fills fields found by selector inside the matched elements, and returns the selectors of
+	// fields that could not be filled (missing or requiring typing)
+	$.fn.fastFillAll = function(values) {
+		var self = this, unfilled = [];
+		$.each(values, function(selector, text) {
+			if (!self.find(selector).fastFill(text, false)) unfilled.push(selector);
+		});
+		return unfilled;
+	};
+
+})(jQuery, window);
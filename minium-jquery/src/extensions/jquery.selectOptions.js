@@ -0,0 +1,52 @@
+(function($, window) {
+
+	var normalize = function(text) {
+		return $.trim(text).replace(/\s+/g, " ");
+	};
+
+	var matches = function(option, by, value) {
+		if (by === "text") return normalize(option.text) === value;
+		if (by === "val") return option.value === value;
+		return by === "all";
+	};
+
+	// shared with other extensions, see utils/dispatchEvent.js
+	var dispatch = minium.dispatchEvent;
+
+	// selects (or deselects) options of the first matched select element by visible text ("text"),
+	// by value ("val") or all of them ("all"), and then triggers input and change events if the
+	// selection changed. Returns the number of matched options, -1 if only a multi-select supports
+	// the operation, -2 if a matched option that must change is disabled (nothing is changed then), or null if the first
+	// matched element is not a select. Selecting or deselecting all options leaves disabled ones as they are
+	$.fn.selectOptions = function(by, value, selected) {
+		var select = this.get(0);
+		if (!select || !select.tagName || select.tagName.toLowerCase() !== "select") return null;
+		if (!select.multiple && (!selected || by === "all")) return -1;
+
+		var matched = 0, disabled = false, options = [];
+		$.each(select.options, function(i, option) {
+			if (!matches(option, by, value)) return;
+			matched++;
+			if (option.selected !== selected) {
+				if (!option.disabled) {
+					options.push(option);
+				} else if (by !== "all") {
+					disabled = true;
+				}
+			}
+			// a single select can only have one option selected
+			if (selected && !select.multiple) return false;
+		});
+		if (disabled) return -2;
+
+		$.each(options, function(i, option) {
+			option.selected = selected;
+		});
+		if (options.length > 0) {
+			dispatch(select, "input");
+			dispatch(select, "change");
+		}
+		return matched;
+	};
+
+})(jQuery, window);
@@ -40,9 +40,23 @@ jQuery.noConflict = function () {
   return jQuery;
 }
 
+var evaluators = require("./utils/evaluators")();
+var generation = require("./utils/domGeneration")();
+var cachedEvaluation = require("./utils/evalCachedExpressions")(jQuery, evaluators, generation);
+
 return {
   $: jQuery,
 	evalExpression : require("./utils/evalExpression")(jQuery),
+	evalExpressions : require("./utils/evalExpressions")(jQuery),
+	evaluators : evaluators,
+	evalCachedExpression : cachedEvaluation.evalCachedExpression,
+	evalCachedExpressions : cachedEvaluation.evalCachedExpressions,
+	evalCachedElements : cachedEvaluation.evalCachedElements,
+	evalCachedExpressionsInFrames : require("./utils/evalInFrames")(jQuery, evaluators),
+	waitForCachedExpression : require("./utils/waitForExpression")(jQuery, evaluators, generation),
+	generation : generation,
+	modules : require("./utils/modules")(jQuery),
+	dispatchEvent : require("./utils/dispatchEvent"),
   loadStyles : require("./utils/loadStyles")(jQuery)
 };
 
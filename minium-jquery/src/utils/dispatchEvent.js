@@ -0,0 +1,12 @@
+module.exports = function (elem, type) {
+  // dispatches a bubbling event of the given type, like the ones browsers fire on user input
+  var win = elem.ownerDocument.defaultView || window;
+  var event;
+  if (typeof win.Event === "function") {
+    event = new win.Event(type, { bubbles : true });
+  } else {
+    event = elem.ownerDocument.createEvent("HTMLEvents");
+    event.initEvent(type, true, false);
+  }
+  elem.dispatchEvent(event);
+};
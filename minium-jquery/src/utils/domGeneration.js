@@ -0,0 +1,35 @@
+module.exports = function () {
+  // identifies this document, so that generations of a reloaded page never match previous ones
+  var documentId = new Date().getTime().toString(36) + Math.random().toString(36).substr(2);
+  var generation = 0;
+
+  if (!window.MutationObserver) {
+    // without mutation observers, any change may have happened, so every generation is a new one
+    return function () {
+      return documentId + ':' + (++generation);
+    };
+  }
+
+  var changed = function () {
+    generation++;
+  };
+
+  var observer = new MutationObserver(changed);
+  observer.observe(document, { childList : true, subtree : true, attributes : true, characterData : true });
+
+  // element state can also change without DOM mutations (e.g. checked, selected or value properties,
+  // focus, or visibility after css transitions and loaded resources), so events that signal those
+  // changes, or that trigger scripts that may change them, change the generation too
+  var events = [ 'input', 'change', 'reset', 'focus', 'blur', 'click', 'keyup', 'transitionend', 'animationend', 'load' ];
+  for (var i = 0; i < events.length; i++) {
+    document.addEventListener(events[i], changed, true);
+  }
+  window.addEventListener('resize', changed, true);
+
+  // current DOM generation, which only changes when the DOM or the state of its elements may have changed
+  return function () {
+    // mutations that were not delivered to the observer yet
+    if (observer.takeRecords().length > 0) changed();
+    return documentId + ':' + generation;
+  };
+};
@@ -0,0 +1,45 @@
+module.exports = function ($, evaluators, generation) {
+  var evalExpression = require("./evalExpression")($);
+  var evalExpressions = require("./evalExpressions")($);
+  var resolvedElements = require("./resolvedElements")(generation);
+  var uncached = [ 'minium-uncached' ];
+  var unchanged = [ 'minium-unchanged' ];
+
+  var resolve = function (hash, expr) {
+    try {
+      return evaluators.resolve(hash, expr);
+    } catch (e) {
+      // syntax errors must only be thrown when evaluating the corresponding expression
+      return function () { throw e; };
+    }
+  };
+
+  return {
+    evalCachedExpression : function (hash, expr, args) {
+      var evaluator = evaluators.resolve(hash, expr);
+      return evaluator ? evalExpression(evaluator, args) : uncached;
+    },
+
+    evalCachedExpressions : function (hashes, exprs, argsList) {
+      var resolved = [];
+      for (var i = 0; i < hashes.length; i++) {
+        var evaluator = resolve(hashes[i], exprs[i]);
+        if (!evaluator) return uncached;
+        resolved.push(evaluator);
+      }
+      return [ 'batch' ].concat(evalExpressions(resolved, argsList));
+    },
+
+    // elements are returned with the DOM generation they were evaluated in. If lastGeneration is still
+    // the current one, elements the expression evaluated to then are still valid, so it is not evaluated
+    evalCachedElements : function (hash, expr, lastGeneration, args) {
+      var evaluator = evaluators.resolve(hash, expr);
+      if (!evaluator) return uncached;
+      if (lastGeneration && lastGeneration === generation()) return unchanged;
+
+      var result = evaluator($, args);
+      if (!(result instanceof $)) return evalExpression(function () { return result; }, args);
+      return resolvedElements(result.get());
+    }
+  };
+};
@@ -0,0 +1,16 @@
+module.exports = function ($) {
+  var evalExpression = require("./evalExpression")($);
+
+  return function(exprs, argsList) {
+    var results = [];
+    for (var i = 0; i < exprs.length; i++) {
+      try {
+        results.push(evalExpression(exprs[i], argsList[i] || []));
+      } catch (e) {
+        // one failing expression must not prevent the others from being evaluated
+        results.push([ 'exception', e && e.message ? e.message : String(e) ]);
+      }
+    }
+    return results;
+  };
+};
@@ -0,0 +1,62 @@
+module.exports = function ($, evaluators) {
+  var accessibleDocument = function (frame) {
+    try {
+      // cross-origin frames either have no contentDocument or throw an exception
+      var doc = frame.contentDocument;
+      return doc && doc.documentElement ? doc : null;
+    } catch (e) {
+      return null;
+    }
+  };
+
+  // jQuery extensions capture the $ and window of the document they were loaded in, so
+  // frame documents can only be evaluated with their own minium, with the same modules loaded
+  var frameMinium = function (doc, modules) {
+    var win = doc.defaultView;
+    var frameMinium = win && win.minium;
+    return frameMinium && frameMinium.evaluators && !frameMinium.modules.check(modules) ? frameMinium : null;
+  };
+
+  var hasElements = function (response) {
+    if (response.nodeType) return true;
+    for (var i = 1; i < response.length; i++) {
+      if (response[i] && response[i].nodeType) return true;
+    }
+    return false;
+  };
+
+  // evaluates already cached expressions in each frame document, from the parent document.
+  // Returns null for frames that are not accessible or have no minium (or required modules)
+  // yet, and ['minium-frame-elements'] for results with elements, because those can only be
+  // returned by the frame itself
+  return function (modules, hashes, exprs, argsList, frames) {
+    var sources = [];
+    for (var i = 0; i < hashes.length; i++) {
+      var evaluator = evaluators.resolve(hashes[i], exprs[i]);
+      if (!evaluator) return [ 'minium-uncached' ];
+      sources.push(evaluators.source(hashes[i]));
+    }
+
+    var results = [ 'batch' ];
+    for (var f = 0; f < frames.length; f++) {
+      var doc = accessibleDocument(frames[f]);
+      var miniumInFrame = doc ? frameMinium(doc, modules) : null;
+      if (!miniumInFrame) {
+        results.push(null);
+        continue;
+      }
+      var frameResults = [];
+      for (var j = 0; j < sources.length; j++) {
+        try {
+          var frameEvaluator = miniumInFrame.evaluators.resolve(hashes[j], sources[j]);
+          var response = miniumInFrame.evalExpression(frameEvaluator, argsList[j] || []);
+          frameResults.push(hasElements(response) ? [ 'minium-frame-elements' ] : response);
+        } catch (e) {
+          frameResults.push([ 'exception', e && e.message ? e.message : String(e) ]);
+        }
+      }
+      results.push(frameResults);
+    }
+    return results;
+  };
+};
@@ -0,0 +1,41 @@
+module.exports = function () {
+  // compiled expression evaluators, stored by expression hash. This way, the
+  // same expression doesn't need to be sent and parsed every time it is evaluated
+  var maxSize = 500;
+  var evaluators = {};
+  // expression sources, so that they can be compiled again in other documents (e.g. frames)
+  var sources = {};
+  var size = 0;
+
+  var get = function (hash) {
+    return evaluators.hasOwnProperty(hash) ? evaluators[hash] : undefined;
+  };
+
+  var compile = function (hash, expr) {
+    var evaluator = new Function("$", "args", " return (" +  expr + ")");
+    if (!evaluators.hasOwnProperty(hash)) {
+      // we don't want this registry to grow forever in long living pages
+      if (size >= maxSize) {
+        evaluators = {};
+        sources = {};
+        size = 0;
+      }
+      size++;
+    }
+    evaluators[hash] = evaluator;
+    sources[hash] = expr;
+    return evaluator;
+  };
+
+  return {
+    get : get,
+    compile : compile,
+    source : function (hash) {
+      return sources.hasOwnProperty(hash) ? sources[hash] : undefined;
+    },
+    // if expr is not provided, it must already be registered, otherwise undefined is returned
+    resolve : function (hash, expr) {
+      return expr === null || expr === undefined ? get(hash) : compile(hash, expr);
+    }
+  };
+};
@@ -0,0 +1,25 @@
+module.exports = function ($) {
+  // jQuery extensions that were loaded on demand, by name
+  var loaded = {};
+
+  return {
+    // returns ['minium-modules-undefined', name...] if some module is not loaded yet, null otherwise
+    check : function (names) {
+      var missing = [];
+      for (var i = 0; names && i < names.length; i++) {
+        if (!loaded[names[i]]) missing.push(names[i]);
+      }
+      return missing.length > 0 ? [ 'minium-modules-undefined' ].concat(missing) : null;
+    },
+
+    // sources is an object with module names as keys and their scripts as values
+    load : function (sources) {
+      for (var name in sources) {
+        if (!sources.hasOwnProperty(name) || loaded[name]) continue;
+        // same arguments jQuery extensions get when they are loaded with minium core
+        new Function("window", "jQuery", "$", sources[name])(window, $, $);
+        loaded[name] = true;
+      }
+    }
+  };
+};
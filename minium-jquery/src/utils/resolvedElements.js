@@ -0,0 +1,10 @@
+module.exports = function (generation) {
+  // elements are returned with the DOM generation they were evaluated in. Mutations in other documents
+  // (like frames) are not observed, so elements from them are returned without generation
+  return function (elems) {
+    for (var i = 0; i < elems.length; i++) {
+      if (!elems[i] || elems[i].ownerDocument !== document) return [ 'resolved', null ].concat(elems);
+    }
+    return [ 'resolved', generation() ].concat(elems);
+  };
+};
@@ -0,0 +1,73 @@
+module.exports = function ($, evaluators, generation) {
+  var resolvedElements = require("./resolvedElements")(generation);
+  var uncached = [ 'minium-uncached' ];
+  var unchanged = [ 'minium-unchanged' ];
+
+  var exception = function (e) {
+    return [ 'exception', e && e.message ? e.message : String(e) ];
+  };
+
+  // number of elements (or values) an expression evaluates to
+  var sizeOf = function (result) {
+    if (result === null || result === undefined) return 0;
+    if (result instanceof $ || $.isArray(result)) return result.length;
+    return 1;
+  };
+
+  // with spec.resolve, elements that satisfy the wait are returned, so that they don't need to be
+  // evaluated again
+  var resolved = function (result) {
+    return resolvedElements(result instanceof $ ? result.get() : $.makeArray(result));
+  };
+
+  // waits until the expression evaluates to spec.size elements (or any other size, if spec.negated),
+  // checking again on every DOM mutation and every spec.interval milliseconds. The response is passed
+  // to callback, or returned if it is immediately available.
+  // If spec.generation is still the current DOM generation, elements resolved then are still valid
+  // and the expression is not evaluated at all
+  return function (hash, expr, spec, args, callback) {
+    var evaluator = evaluators.resolve(hash, expr);
+    if (!evaluator) return uncached;
+    if (spec.generation && spec.generation === generation()) return unchanged;
+
+    var response;
+    var satisfied = function () {
+      var result = evaluator($, args);
+      if ((sizeOf(result) === spec.size) === spec.negated) return false;
+      response = spec.resolve ? resolved(result) : [ 'boolean', true ];
+      return true;
+    };
+
+    try {
+      if (satisfied()) return response;
+    } catch (e) {
+      return exception(e);
+    }
+
+    var done = false, observer, poller, timer;
+    var finish = function (response) {
+      if (done) return;
+      done = true;
+      if (observer) observer.disconnect();
+      clearInterval(poller);
+      clearTimeout(timer);
+      callback(response);
+    };
+    var check = function () {
+      if (done) return;
+      try {
+        if (satisfied()) finish(response);
+      } catch (e) {
+        finish(exception(e));
+      }
+    };
+
+    if (window.MutationObserver) {
+      observer = new MutationObserver(check);
+      observer.observe(document, { childList : true, subtree : true, attributes : true, characterData : true });
+    }
+    // some changes (e.g. visibility after a css transition) are not DOM mutations
+    poller = setInterval(check, spec.interval);
+    timer = setTimeout(function () { finish([ 'boolean', false ]); }, spec.timeout);
+  };
+};
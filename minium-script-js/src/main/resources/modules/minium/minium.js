@@ -52,6 +52,25 @@
     ensureUnexistence : WebInteractionListeners.ensureUnexistence
   };
 
+  var WaitStrategies = Packages.minium.actions.WaitStrategies;
+  var TimeUnit = Packages.java.util.concurrent.TimeUnit;
+
+  // all times in milliseconds
+  minium.waitStrategies = {
+    fixed : function () {
+      return WaitStrategies.fixed();
+    },
+    exponential : function (multiplier, maxInterval) {
+      return WaitStrategies.exponential(multiplier, maxInterval, TimeUnit.MILLISECONDS);
+    },
+    jittered : function (waitStrategy, jitter) {
+      return WaitStrategies.jittered(waitStrategy, jitter);
+    },
+    progressive : function (initialInterval) {
+      return WaitStrategies.progressive(initialInterval, TimeUnit.MILLISECONDS);
+    }
+  };
+
   // new browsers
   minium.newBrowser = function(config) {
     var browser = minium.__browserFactory.create(config || {});
@@ -15,8 +15,10 @@
  */
 package minium.script.rhinojs;
 
+import static minium.web.internal.WebModules.browserWaitModule;
 import static minium.web.internal.WebModules.combine;
 import static minium.web.internal.WebModules.defaultModule;
+import static minium.web.internal.WebModules.javascriptPreloaderModule;
 
 import java.io.IOException;
 
@@ -24,6 +26,8 @@ import minium.script.js.JsBrowserFactory;
 import minium.web.CoreWebElements.DefaultWebElements;
 import minium.web.actions.WebDriverBrowser;
 import minium.web.config.WebDriverFactory;
+import minium.web.config.WaitingPresetProperties;
+import minium.web.config.WebDriverPool;
 import minium.web.config.WebDriverProperties;
 import minium.web.internal.WebModule;
 import minium.web.internal.WebModules;
@@ -40,14 +44,23 @@ public class RhinoBrowserFactory implements JsBrowserFactory {
     private final ObjectMapper mapper = new ObjectMapper();
     private final RhinoEngine engine;
     private final WebDriverFactory webDriverFactory;
+    private final WebDriverPool webDriverPool;
 
     public RhinoBrowserFactory(RhinoEngine engine) {
         this(engine, new WebDriverFactory(null));
     }
 
     public RhinoBrowserFactory(RhinoEngine engine, WebDriverFactory webDriverFactory) {
+        this(engine, webDriverFactory, null);
+    }
+
+    /**
+     * Browsers are created with web drivers borrowed from the given pool, if not null.
+     */
+    public RhinoBrowserFactory(RhinoEngine engine, WebDriverFactory webDriverFactory, WebDriverPool webDriverPool) {
         this.engine = engine;
         this.webDriverFactory = webDriverFactory;
+        this.webDriverPool = webDriverPool;
     }
 
     /* (non-Javadoc)
@@ -76,11 +89,24 @@ public class RhinoBrowserFactory implements JsBrowserFactory {
             } else {
                 throw new IllegalArgumentException("Only strings or maps are accepted");
             }
-            WebDriver wd = webDriverFactory.create(webDriverProperties);
-            WebModule webModule = combine(defaultModule(wd), WebModules.debugModule(), RhinoWebModules.rhinoModule());
-            return new WebDriverBrowser<DefaultWebElements>(wd, DefaultWebElements.class, webModule);
+            return create(webDriverProperties);
         } catch (IOException e) {
             throw Throwables.propagate(e);
         }
     }
+
+    /**
+     * Creates a browser configured the same way as the one created by {@code WebElementsConfiguration}.
+     */
+    public WebDriverBrowser<DefaultWebElements> create(WebDriverProperties webDriverProperties) throws IOException {
+        WebDriver wd = webDriverPool != null ? webDriverPool.borrow(webDriverProperties) : webDriverFactory.create(webDriverProperties);
+        WebModule webModule = combine(defaultModule(wd), WebModules.debugModule(), javascriptPreloaderModule(webDriverFactory.javascriptPreloaderFor(webDriverProperties)), RhinoWebModules.rhinoModule());
+        if (webDriverProperties.isWaitInBrowser()) {
+            webModule = combine(webModule, browserWaitModule());
+        }
+        WebDriverBrowser<DefaultWebElements> browser = new WebDriverBrowser<DefaultWebElements>(wd, DefaultWebElements.class, webModule);
+        WaitingPresetProperties.configure(browser.configure(), webDriverProperties.getWaitingPresets());
+        browser.configure().nativeSelection(webDriverProperties.isNativeSelection());
+        return browser;
+    }
 }
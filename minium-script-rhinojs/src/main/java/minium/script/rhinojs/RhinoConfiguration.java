@@ -26,6 +26,7 @@ import org.springframework.context.annotation.Configuration;
 import minium.script.js.JsVariablePostProcessor;
 import minium.script.rhinojs.RhinoProperties.RequireProperties;
 import minium.web.config.WebDriverFactory;
+import minium.web.config.WebDriverPool;
 import minium.web.internal.WebModule;
 
 @Configuration
@@ -59,7 +60,7 @@ public class RhinoConfiguration {
 
     @Autowired
     @Bean
-    public RhinoBrowserFactory rhinoBrowserFactory(RhinoEngine engine, WebDriverFactory webDriverFactory) {
-        return new RhinoBrowserFactory(engine, webDriverFactory);
+    public RhinoBrowserFactory rhinoBrowserFactory(RhinoEngine engine, WebDriverFactory webDriverFactory, WebDriverPool webDriverPool) {
+        return new RhinoBrowserFactory(engine, webDriverFactory, webDriverPool);
     }
 }
@@ -81,8 +81,9 @@ public class RhinoWebModules {
             @Override
             public void configure(Builder<?> builder) {
                 builder
-                .withJsResources(
-                        "minium/web/internal/lib/jquery.functionCall.min.js"
+                .withLazyJsResource(
+                        "minium/web/internal/lib/jquery.functionCall.min.js",
+                        "apply", "applyWebElements", "call", "callWebElements"
                 )
                 .implementingInterfaces(JsFunctionWebElements.class)
                 .withExpressionizers(new FunctionExpressionizer())
@@ -19,6 +19,7 @@ import static minium.script.rhinojs.RhinoWebModules.rhinoModule;
 import static minium.web.internal.WebModules.baseModule;
 import static minium.web.internal.WebModules.combine;
 import static minium.web.internal.WebModules.conditionalModule;
+import static minium.web.internal.WebModules.extractModule;
 import static minium.web.internal.WebModules.interactableModule;
 import static minium.web.internal.WebModules.positionModule;
 
@@ -60,6 +61,7 @@ public class RhinoEngineBase {
             WebModule module = combine(
                     baseModule(new StatefulWebDriver(wd)),
                     positionModule(),
+                    extractModule(),
                     conditionalModule(),
                     rhinoModule(),
                     interactableModule());
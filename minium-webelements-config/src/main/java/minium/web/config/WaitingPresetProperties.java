@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.config;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import minium.actions.Configuration;
+import minium.actions.Configuration.WaitingPreset;
+import minium.actions.WaitStrategies;
+import minium.actions.WaitStrategy;
+
+/**
+ * Waiting preset configuration, for instance:
+ *
+ * <pre>
+ * minium.webdriver:
+ *   waitingPresets:
+ *     default:
+ *       timeout: 5000
+ *       interval: 1000
+ *       waitStrategy:
+ *         type: progressive
+ *         initialInterval: 50
+ *     slow:
+ *       timeout: 20000
+ *       fastFill: true
+ *       waitStrategy:
+ *         type: exponential
+ *         multiplier: 2
+ *         maxInterval: 5000
+ *         jitter: 0.2
+ * </pre>
+ *
+ * All times are in milliseconds. The {@code default} preset configures the default timeout,
+ * interval, wait strategy and fast fill.
+ */
+public class WaitingPresetProperties {
+
+    public static final String DEFAULT_PRESET = "default";
+
+    public static class WaitStrategyProperties {
+        private String type = "fixed";
+        private double multiplier = 2;
+        private Long maxInterval;
+        private long initialInterval = 50;
+        private double jitter;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public Long getMaxInterval() {
+            return maxInterval;
+        }
+
+        public void setMaxInterval(Long maxInterval) {
+            this.maxInterval = maxInterval;
+        }
+
+        public long getInitialInterval() {
+            return initialInterval;
+        }
+
+        public void setInitialInterval(long initialInterval) {
+            this.initialInterval = initialInterval;
+        }
+
+        public double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(double jitter) {
+            this.jitter = jitter;
+        }
+
+        public WaitStrategy createWaitStrategy() {
+            WaitStrategy waitStrategy;
+            switch (type) {
+            case "fixed":
+                waitStrategy = WaitStrategies.fixed();
+                break;
+            case "jittered":
+                checkArgument(jitter > 0, "jittered wait strategy requires jitter");
+                waitStrategy = WaitStrategies.fixed();
+                break;
+            case "exponential":
+                checkArgument(maxInterval != null, "exponential wait strategy requires maxInterval");
+                waitStrategy = WaitStrategies.exponential(multiplier, maxInterval, TimeUnit.MILLISECONDS);
+                break;
+            case "progressive":
+                waitStrategy = WaitStrategies.progressive(initialInterval, TimeUnit.MILLISECONDS);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown wait strategy type %s", type));
+            }
+            return jitter > 0 ? WaitStrategies.jittered(waitStrategy, jitter) : waitStrategy;
+        }
+    }
+
+    private Long timeout;
+    private Long interval;
+    private WaitStrategyProperties waitStrategy;
+    private Boolean fastFill;
+
+    public Long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Long timeout) {
+        this.timeout = timeout;
+    }
+
+    public Long getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Long interval) {
+        this.interval = interval;
+    }
+
+    public WaitStrategyProperties getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public void setWaitStrategy(WaitStrategyProperties waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    public Boolean getFastFill() {
+        return fastFill;
+    }
+
+    public void setFastFill(Boolean fastFill) {
+        this.fastFill = fastFill;
+    }
+
+    public void configure(Configuration configuration, String preset) {
+        if (DEFAULT_PRESET.equals(preset)) {
+            if (timeout != null) configuration.defaultTimeout(timeout, TimeUnit.MILLISECONDS);
+            if (interval != null) configuration.defaultInterval(interval, TimeUnit.MILLISECONDS);
+            if (waitStrategy != null) configuration.defaultWaitStrategy(waitStrategy.createWaitStrategy());
+            if (fastFill != null) configuration.defaultFastFill(fastFill);
+        } else {
+            WaitingPreset waitingPreset = configuration.waitingPreset(preset);
+            if (timeout != null) waitingPreset.timeout(timeout, TimeUnit.MILLISECONDS);
+            if (interval != null) waitingPreset.interval(interval, TimeUnit.MILLISECONDS);
+            if (waitStrategy != null) waitingPreset.waitStrategy(waitStrategy.createWaitStrategy());
+            if (fastFill != null) waitingPreset.fastFill(fastFill);
+        }
+    }
+
+    public static void configure(Configuration configuration, Map<String, WaitingPresetProperties> waitingPresets) {
+        if (waitingPresets == null) return;
+        for (Map.Entry<String, WaitingPresetProperties> entry : waitingPresets.entrySet()) {
+            entry.getValue().configure(configuration, entry.getKey());
+        }
+    }
+}
@@ -58,6 +58,8 @@ import minium.web.config.services.ChromeDriverServiceProperties;
 import minium.web.config.services.DriverServicesProperties;
 import minium.web.config.services.FirefoxDriverServiceProperties;
 import minium.web.config.services.InternetExplorerDriverServiceProperties;
+import minium.web.internal.drivers.ChromeDevToolsJavascriptPreloader;
+import minium.web.internal.drivers.JavascriptPreloader;
 
 public class WebDriverFactory {
 
@@ -67,6 +69,8 @@ public class WebDriverFactory {
 
     private final DriverServicesProperties driverServices;
 
+    private JavascriptPreloader javascriptPreloader = new ChromeDevToolsJavascriptPreloader();
+
     enum WebDriverType {
         CHROME(BrowserType.CHROME, BrowserType.GOOGLECHROME) {
             @SuppressWarnings("deprecation")
@@ -129,9 +133,28 @@ public class WebDriverFactory {
         this.driverServices = driverServices;
     }
 
-    public WebDriver create(WebDriverProperties webDriverProperties) throws IOException {
+    public void setJavascriptPreloader(JavascriptPreloader javascriptPreloader) {
+        this.javascriptPreloader = javascriptPreloader;
+    }
+
+    /**
+     * Returns the strategy to preload minium javascript in web drivers created with the given properties.
+     */
+    public JavascriptPreloader javascriptPreloaderFor(WebDriverProperties webDriverProperties) {
+        return webDriverProperties.isPreloadJavascript() ? javascriptPreloader : new JavascriptPreloader.None();
+    }
+
+    /**
+     * Returns the capabilities requested by web drivers created with the given properties.
+     */
+    public DesiredCapabilities desiredCapabilitiesFor(WebDriverProperties webDriverProperties) throws IOException {
         DesiredCapabilities desiredCapabilities = new DesiredCapabilities(webDriverProperties.getDesiredCapabilities());
         desiredCapabilities.merge(browserSpecificCapabilities(webDriverProperties));
+        return desiredCapabilities;
+    }
+
+    public WebDriver create(WebDriverProperties webDriverProperties) throws IOException {
+        DesiredCapabilities desiredCapabilities = desiredCapabilitiesFor(webDriverProperties);
 
         WebDriver webDriver = null;
         if (webDriverProperties.getUrl() != null) {
@@ -0,0 +1,451 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.config;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import minium.web.DelegatorWebDriver;
+import minium.web.config.WebDriverProperties.ChromeOptionsProperties;
+import minium.web.config.WebDriverProperties.FirefoxProfileProperties;
+import minium.web.config.WebDriverProperties.PoolProperties;
+import minium.web.config.WebDriverProperties.PreferenceProperties;
+import minium.web.config.WebDriverProperties.WindowProperties;
+
+/**
+ * Keeps idle web driver sessions so that they can be borrowed instead of starting a new browser
+ * each time. Configured under {@code minium.webdriver.pool}, for instance:
+ *
+ * <pre>
+ * minium.webdriver:
+ *   pool:
+ *     enabled: true
+ *     minIdle: 2
+ *     maxIdle: 4
+ *     healthCheckInterval: 60000
+ *     resetOnReturn: true
+ * </pre>
+ *
+ * Sessions are only shared between web driver properties with the same url, capabilities and
+ * window settings. The pool keeps {@code minIdle} sessions for its own web driver properties
+ * warm in the background, and periodically discards idle sessions that no longer respond.
+ * Borrowed web drivers return to the pool when they quit, after their extra windows are closed
+ * and cookies and storage of the current page are cleared.
+ */
+public class WebDriverPool implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverPool.class);
+
+    private static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+    private static final String BLANK_PAGE = "about:blank";
+
+    /**
+     * Borrow and return metrics of a {@link WebDriverPool}.
+     */
+    public static class Stats {
+        private final long created;
+        private final long borrowed;
+        private final long hits;
+        private final long returned;
+        private final long discarded;
+        private final int idle;
+
+        Stats(long created, long borrowed, long hits, long returned, long discarded, int idle) {
+            this.created = created;
+            this.borrowed = borrowed;
+            this.hits = hits;
+            this.returned = returned;
+            this.discarded = discarded;
+            this.idle = idle;
+        }
+
+        /** Sessions started by the pool, either warmed or on demand. */
+        public long getCreated() {
+            return created;
+        }
+
+        public long getBorrowed() {
+            return borrowed;
+        }
+
+        /** Borrows served by an idle session. */
+        public long getHits() {
+            return hits;
+        }
+
+        public long getReturned() {
+            return returned;
+        }
+
+        /** Sessions quit because they failed a health check or a reset, or exceeded max idle sessions. */
+        public long getDiscarded() {
+            return discarded;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(Stats.class.getSimpleName())
+                    .add("created", created)
+                    .add("borrowed", borrowed)
+                    .add("hits", hits)
+                    .add("returned", returned)
+                    .add("discarded", discarded)
+                    .add("idle", idle)
+                    .toString();
+        }
+    }
+
+    private static class Session {
+        private final List<Object> key;
+        private final WebDriver webDriver;
+        private final String mainWindowHandle;
+
+        Session(List<Object> key, WebDriver webDriver) {
+            this.key = key;
+            this.webDriver = webDriver;
+            this.mainWindowHandle = webDriver.getWindowHandle();
+        }
+    }
+
+    private class PooledWebDriver extends DelegatorWebDriver {
+
+        private final Session session;
+        private boolean released;
+
+        PooledWebDriver(Session session) {
+            this.session = session;
+            setDelegate(session.webDriver);
+        }
+
+        @Override
+        public synchronized void quit() {
+            if (released) return;
+            released = true;
+            setDelegate(null);
+            release(session);
+        }
+    }
+
+    private final WebDriverFactory webDriverFactory;
+    private final WebDriverProperties webDriverProperties;
+    private final PoolProperties poolProperties;
+    // key of sessions created for the pool web driver properties
+    private final List<Object> key;
+    private final ConcurrentMap<List<Object>, BlockingDeque<Session>> idleSessions = Maps.newConcurrentMap();
+    private final ScheduledExecutorService executor;
+    private final AtomicInteger warming = new AtomicInteger();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong returned = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private volatile boolean closed;
+
+    public WebDriverPool(WebDriverFactory webDriverFactory, WebDriverProperties webDriverProperties) {
+        this.webDriverFactory = webDriverFactory;
+        this.webDriverProperties = webDriverProperties;
+        this.poolProperties = webDriverProperties.getPool();
+        this.key = keyFor(webDriverProperties);
+        if (poolProperties.isEnabled()) {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("minium-webdriver-pool-%d").build());
+            long healthCheckInterval = poolProperties.getHealthCheckInterval();
+            if (healthCheckInterval > 0) {
+                executor.scheduleWithFixedDelay(new Runnable() {
+                    @Override
+                    public void run() {
+                        checkIdleSessions();
+                    }
+                }, healthCheckInterval, healthCheckInterval, TimeUnit.MILLISECONDS);
+            }
+            warm();
+        } else {
+            executor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return poolProperties.isEnabled();
+    }
+
+    /**
+     * Borrows a web driver for the pool web driver properties.
+     *
+     * @return the web driver, which returns to the pool when it quits
+     * @throws IOException if a new web driver cannot be created
+     */
+    public WebDriver borrow() throws IOException {
+        return borrow(webDriverProperties);
+    }
+
+    /**
+     * Borrows a web driver for the given web driver properties. If the pool is not enabled, a
+     * new web driver is created.
+     *
+     * @param properties the web driver properties
+     * @return the web driver, which returns to the pool when it quits
+     * @throws IOException if a new web driver cannot be created
+     */
+    public WebDriver borrow(WebDriverProperties properties) throws IOException {
+        if (!isEnabled()) return webDriverFactory.create(properties);
+        Preconditions.checkState(!closed, "Web driver pool is closed");
+
+        borrowed.incrementAndGet();
+        List<Object> key = properties == webDriverProperties ? this.key : keyFor(properties);
+        try {
+            Session session;
+            while ((session = idleSessionsFor(key).pollFirst()) != null) {
+                if (isHealthy(session)) {
+                    hits.incrementAndGet();
+                    return new PooledWebDriver(session);
+                }
+                discard(session);
+            }
+            return new PooledWebDriver(newSession(key, properties));
+        } finally {
+            warm();
+        }
+    }
+
+    public Stats stats() {
+        int idle = 0;
+        for (BlockingDeque<Session> sessions : idleSessions.values()) {
+            idle += sessions.size();
+        }
+        return new Stats(created.get(), borrowed.get(), hits.get(), returned.get(), discarded.get(), idle);
+    }
+
+    /**
+     * Quits all idle sessions. Borrowed web drivers quit when they are returned.
+     */
+    @Override
+    public void close() {
+        if (!isEnabled() || closed) return;
+        closed = true;
+        executor.shutdownNow();
+        for (BlockingDeque<Session> sessions : idleSessions.values()) {
+            Session session;
+            while ((session = sessions.pollFirst()) != null) {
+                quit(session);
+            }
+        }
+        LOGGER.info("Web driver pool closed: {}", stats());
+    }
+
+    private void release(Session session) {
+        returned.incrementAndGet();
+        if (closed) {
+            quit(session);
+            return;
+        }
+        if (poolProperties.isResetOnReturn() && !reset(session)) {
+            discard(session);
+            return;
+        }
+        BlockingDeque<Session> sessions = idleSessionsFor(session.key);
+        if (sessions.size() >= poolProperties.getMaxIdle() || !sessions.offerFirst(session)) {
+            discard(session);
+        }
+    }
+
+    private boolean isHealthy(Session session) {
+        try {
+            return session.webDriver.getWindowHandles().contains(session.mainWindowHandle);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Idle web driver session failed health check", e);
+            return false;
+        }
+    }
+
+    private boolean reset(Session session) {
+        WebDriver webDriver = session.webDriver;
+        try {
+            Set<String> windowHandles = webDriver.getWindowHandles();
+            for (String windowHandle : windowHandles) {
+                if (windowHandle.equals(session.mainWindowHandle)) continue;
+                webDriver.switchTo().window(windowHandle);
+                webDriver.close();
+            }
+            webDriver.switchTo().window(session.mainWindowHandle);
+            webDriver.manage().deleteAllCookies();
+            if (webDriver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            webDriver.get(BLANK_PAGE);
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.debug("Could not reset returned web driver session", e);
+            return false;
+        }
+    }
+
+    /**
+     * Sessions are keyed by the declarative properties they are created from, so that no
+     * capabilities (like firefox profiles) need to be built to find a matching session.
+     */
+    private static List<Object> keyFor(WebDriverProperties properties) {
+        WindowProperties window = properties.getWindow();
+        return Arrays.<Object>asList(
+                properties.getUrl() == null ? null : properties.getUrl().toString(),
+                properties.getDesiredCapabilities(),
+                keyFor(properties.getChromeOptions()),
+                keyFor(properties.getFirefoxProfile()),
+                window == null ? null : window.getSize(),
+                window == null ? null : window.getPosition(),
+                window == null ? null : window.isMaximized(),
+                properties.isStateful());
+    }
+
+    private static List<Object> keyFor(ChromeOptionsProperties chromeOptions) {
+        if (chromeOptions == null) return null;
+        return Arrays.<Object>asList(
+                chromeOptions.getArgs(),
+                chromeOptions.getBinary(),
+                chromeOptions.getExtensions(),
+                chromeOptions.getPreferences(),
+                chromeOptions.getMobileEmulation(),
+                chromeOptions.getLoggingPrefs());
+    }
+
+    private static List<Object> keyFor(FirefoxProfileProperties firefoxProfile) {
+        if (firefoxProfile == null) return null;
+        List<Object> preferences = null;
+        if (firefoxProfile.getPreferences() != null) {
+            preferences = Lists.newArrayList();
+            for (PreferenceProperties preference : firefoxProfile.getPreferences()) {
+                preferences.add(Arrays.asList(preference.getName(), preference.getType(), preference.getValue()));
+            }
+        }
+        return Arrays.<Object>asList(
+                firefoxProfile.getDir(),
+                firefoxProfile.getExtensions(),
+                preferences,
+                firefoxProfile.shouldLoadNoFocusLib(),
+                firefoxProfile.shouldAcceptUntrustedCerts(),
+                firefoxProfile.shouldUntrustedCertIssuer());
+    }
+
+    private void warm() {
+        if (closed) return;
+        int missing = poolProperties.getMinIdle() - idleSessionsFor(key).size() - warming.get();
+        for (int i = 0; i < missing; i++) {
+            warming.incrementAndGet();
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        Session session = newSession(key, webDriverProperties);
+                        if (closed || !idleSessionsFor(session.key).offerLast(session)) quit(session);
+                    } catch (IOException | WebDriverException e) {
+                        LOGGER.warn("Could not warm web driver session", e);
+                    } finally {
+                        warming.decrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    private void checkIdleSessions() {
+        for (BlockingDeque<Session> sessions : idleSessions.values()) {
+            // borrowers never get a session that is being checked
+            for (int i = sessions.size(); i > 0; i--) {
+                Session session = sessions.pollLast();
+                if (session == null) break;
+                if (isHealthy(session)) {
+                    sessions.offerFirst(session);
+                } else {
+                    discard(session);
+                }
+            }
+        }
+        warm();
+    }
+
+    /**
+     * Creates a session with a new web driver, which quits if the session cannot be created
+     * (for instance, if its window handle cannot be read).
+     */
+    private Session newSession(List<Object> key, WebDriverProperties properties) throws IOException {
+        WebDriver webDriver = create(properties);
+        try {
+            return new Session(key, webDriver);
+        } catch (RuntimeException e) {
+            try {
+                webDriver.quit();
+            } catch (WebDriverException quitException) {
+                e.addSuppressed(quitException);
+            }
+            throw e;
+        }
+    }
+
+    private WebDriver create(WebDriverProperties properties) throws IOException {
+        WebDriver webDriver = webDriverFactory.create(properties);
+        created.incrementAndGet();
+        return webDriver;
+    }
+
+    private BlockingDeque<Session> idleSessionsFor(List<Object> key) {
+        BlockingDeque<Session> sessions = idleSessions.get(key);
+        if (sessions == null) {
+            sessions = new LinkedBlockingDeque<>();
+            BlockingDeque<Session> existing = idleSessions.putIfAbsent(key, sessions);
+            if (existing != null) sessions = existing;
+        }
+        return sessions;
+    }
+
+    private void discard(Session session) {
+        discarded.incrementAndGet();
+        quit(session);
+    }
+
+    private void quit(Session session) {
+        try {
+            session.webDriver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.debug("Could not quit web driver session", e);
+        }
+    }
+}
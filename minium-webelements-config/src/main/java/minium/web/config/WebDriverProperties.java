@@ -294,12 +294,65 @@ public class WebDriverProperties {
         }
     }
 
+    public static class PoolProperties {
+        private boolean enabled;
+        private int minIdle = 1;
+        private int maxIdle = 4;
+        private long healthCheckInterval = 60000;
+        private boolean resetOnReturn = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinIdle() {
+            return minIdle;
+        }
+
+        public void setMinIdle(int minIdle) {
+            this.minIdle = minIdle;
+        }
+
+        public int getMaxIdle() {
+            return maxIdle;
+        }
+
+        public void setMaxIdle(int maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+
+        public long getHealthCheckInterval() {
+            return healthCheckInterval;
+        }
+
+        public void setHealthCheckInterval(long healthCheckInterval) {
+            this.healthCheckInterval = healthCheckInterval;
+        }
+
+        public boolean isResetOnReturn() {
+            return resetOnReturn;
+        }
+
+        public void setResetOnReturn(boolean resetOnReturn) {
+            this.resetOnReturn = resetOnReturn;
+        }
+    }
+
     private Map<String, Object> desiredCapabilities = Maps.newHashMap();
     private URL url;
     private WindowProperties window;
     private boolean stateful = true;
+    private boolean preloadJavascript;
+    private boolean waitInBrowser;
+    private boolean nativeSelection;
     private FirefoxProfileProperties firefoxProfile;
     private ChromeOptionsProperties chromeOptions;
+    private Map<String, WaitingPresetProperties> waitingPresets = Maps.newLinkedHashMap();
+    private PoolProperties pool = new PoolProperties();
 
     public WebDriverProperties() {
         desiredCapabilities.put(CapabilityType.BROWSER_NAME, BrowserType.CHROME);
@@ -337,6 +390,30 @@ public class WebDriverProperties {
         this.stateful = stateful;
     }
 
+    public boolean isPreloadJavascript() {
+        return preloadJavascript;
+    }
+
+    public void setPreloadJavascript(boolean preloadJavascript) {
+        this.preloadJavascript = preloadJavascript;
+    }
+
+    public boolean isWaitInBrowser() {
+        return waitInBrowser;
+    }
+
+    public void setWaitInBrowser(boolean waitInBrowser) {
+        this.waitInBrowser = waitInBrowser;
+    }
+
+    public boolean isNativeSelection() {
+        return nativeSelection;
+    }
+
+    public void setNativeSelection(boolean nativeSelection) {
+        this.nativeSelection = nativeSelection;
+    }
+
     public FirefoxProfileProperties getFirefoxProfile() {
         return firefoxProfile;
     }
@@ -352,4 +429,20 @@ public class WebDriverProperties {
     public void setChromeOptions(ChromeOptionsProperties chromeOptions) {
         this.chromeOptions = chromeOptions;
     }
+
+    public Map<String, WaitingPresetProperties> getWaitingPresets() {
+        return waitingPresets;
+    }
+
+    public void setWaitingPresets(Map<String, WaitingPresetProperties> waitingPresets) {
+        this.waitingPresets = waitingPresets;
+    }
+
+    public PoolProperties getPool() {
+        return pool;
+    }
+
+    public void setPool(PoolProperties pool) {
+        this.pool = pool;
+    }
 }
@@ -15,9 +15,11 @@
  */
 package minium.web.config;
 
+import static minium.web.internal.WebModules.browserWaitModule;
 import static minium.web.internal.WebModules.combine;
 import static minium.web.internal.WebModules.debugModule;
 import static minium.web.internal.WebModules.defaultModule;
+import static minium.web.internal.WebModules.javascriptPreloaderModule;
 
 import java.io.IOException;
 import java.util.List;
@@ -61,26 +63,39 @@ public class WebElementsConfiguration {
         return new WebDriverFactory(driverServicesProperties);
     }
 
+    @Autowired
+    @Bean(destroyMethod = "close")
+    public WebDriverPool webDriverPool(WebDriverFactory webDriverFactory, WebDriverProperties webDriverProperties) {
+        return new WebDriverPool(webDriverFactory, webDriverProperties);
+    }
+
     @Autowired
     @Bean(destroyMethod = "quit")
     @Lazy
-    public WebDriver wd(WebDriverFactory webDriverFactory, WebDriverProperties webDriverProperties) throws IOException {
-        return webDriverFactory.create(webDriverProperties);
+    public WebDriver wd(WebDriverPool webDriverPool) throws IOException {
+        return webDriverPool.borrow();
     }
 
     @Autowired
     @Bean
     @Lazy
     @Order(Ordered.HIGHEST_PRECEDENCE)
-    public WebModule defaultWebModule(WebDriver wd) {
-        return combine(defaultModule(wd), debugModule());
+    public WebModule defaultWebModule(WebDriver wd, WebDriverFactory webDriverFactory, WebDriverProperties webDriverProperties) {
+        WebModule webModule = combine(defaultModule(wd), debugModule(), javascriptPreloaderModule(webDriverFactory.javascriptPreloaderFor(webDriverProperties)));
+        if (webDriverProperties.isWaitInBrowser()) {
+            webModule = combine(webModule, browserWaitModule());
+        }
+        return webModule;
     }
 
     @Autowired
     @Bean(destroyMethod = "quit")
     @Lazy
-    public Browser<DefaultWebElements> browser(WebDriver webDriver, List<WebModule> modules) {
+    public Browser<DefaultWebElements> browser(WebDriver webDriver, List<WebModule> modules, WebDriverProperties webDriverProperties) {
         WebModule combinedWebModule = WebModules.combine(modules);
-        return new WebDriverBrowser<DefaultWebElements>(webDriver, DefaultWebElements.class, combinedWebModule);
+        Browser<DefaultWebElements> browser = new WebDriverBrowser<DefaultWebElements>(webDriver, DefaultWebElements.class, combinedWebModule);
+        WaitingPresetProperties.configure(browser.configure(), webDriverProperties.getWaitingPresets());
+        browser.configure().nativeSelection(webDriverProperties.isNativeSelection());
+        return browser;
     }
 }
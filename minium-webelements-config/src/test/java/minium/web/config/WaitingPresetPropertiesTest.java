@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.config;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import minium.actions.Duration;
+import minium.actions.WaitStrategy;
+import minium.web.config.WaitingPresetProperties.WaitStrategyProperties;
+
+import org.junit.Test;
+
+public class WaitingPresetPropertiesTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testJitteredWaitStrategyRequiresJitter() {
+        // given
+        WaitStrategyProperties properties = new WaitStrategyProperties();
+        properties.setType("jittered");
+
+        // when
+        properties.createWaitStrategy();
+    }
+
+    @Test
+    public void testJitteredWaitStrategySpreadsInterval() {
+        // given
+        WaitStrategyProperties properties = new WaitStrategyProperties();
+        properties.setType("jittered");
+        properties.setJitter(0.5);
+
+        // when
+        WaitStrategy waitStrategy = properties.createWaitStrategy();
+
+        // then
+        for (int i = 1; i <= 20; i++) {
+            long sleepTime = waitStrategy.computeSleepTime(i, new Duration(1000, TimeUnit.MILLISECONDS));
+            assertThat(sleepTime, allOf(greaterThanOrEqualTo(500L), lessThanOrEqualTo(1500L)));
+        }
+    }
+}
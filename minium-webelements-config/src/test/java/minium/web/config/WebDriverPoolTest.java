@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.config;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebDriverException;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import minium.web.DelegatorWebDriver;
+import minium.web.config.WebDriverProperties.ChromeOptionsProperties;
+
+public class WebDriverPoolTest {
+
+    private final List<WebDriver> createdWebDrivers = Lists.newArrayList();
+    private WebDriverProperties webDriverProperties;
+    private WebDriverFactory webDriverFactory;
+    private WebDriverPool pool;
+
+    @Before
+    public void setup() throws IOException {
+        webDriverProperties = new WebDriverProperties();
+        webDriverProperties.getPool().setEnabled(true);
+        webDriverProperties.getPool().setMinIdle(0);
+        webDriverProperties.getPool().setHealthCheckInterval(0);
+
+        webDriverFactory = mock(WebDriverFactory.class);
+        when(webDriverFactory.create(any(WebDriverProperties.class))).thenAnswer(new Answer<WebDriver>() {
+            @Override
+            public WebDriver answer(InvocationOnMock invocation) {
+                WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+                when(webDriver.getWindowHandle()).thenReturn("main");
+                when(webDriver.getWindowHandles()).thenReturn(ImmutableSet.of("main"));
+                when(webDriver.switchTo()).thenReturn(mock(TargetLocator.class));
+                when(webDriver.manage()).thenReturn(mock(Options.class));
+                synchronized (createdWebDrivers) {
+                    createdWebDrivers.add(webDriver);
+                }
+                return webDriver;
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (pool != null) pool.close();
+    }
+
+    @Test
+    public void testReturnedSessionIsResetAndReused() throws IOException {
+        // given
+        pool = new WebDriverPool(webDriverFactory, webDriverProperties);
+
+        // when
+        WebDriver first = pool.borrow();
+        first.quit();
+        WebDriver second = pool.borrow();
+
+        // then
+        WebDriver webDriver = createdWebDrivers.get(0);
+        assertThat(createdWebDrivers.size(), equalTo(1));
+        assertThat(((DelegatorWebDriver) second).getDelegate(), sameInstance(webDriver));
+        verify(webDriver.manage()).deleteAllCookies();
+        verify(webDriver).get("about:blank");
+        assertThat(pool.stats().getBorrowed(), equalTo(2L));
+        assertThat(pool.stats().getHits(), equalTo(1L));
+        assertThat(pool.stats().getReturned(), equalTo(1L));
+    }
+
+    @Test
+    public void testUnhealthySessionIsDiscarded() throws IOException {
+        // given
+        pool = new WebDriverPool(webDriverFactory, webDriverProperties);
+        pool.borrow().quit();
+        WebDriver webDriver = createdWebDrivers.get(0);
+        when(webDriver.getWindowHandles()).thenThrow(new WebDriverException("session deleted"));
+
+        // when
+        WebDriver borrowed = pool.borrow();
+
+        // then
+        assertThat(((DelegatorWebDriver) borrowed).getDelegate(), not(sameInstance(webDriver)));
+        verify(webDriver).quit();
+        assertThat(pool.stats().getDiscarded(), equalTo(1L));
+    }
+
+    @Test
+    public void testIdleSessionsAreWarmed() throws Exception {
+        // given
+        webDriverProperties.getPool().setMinIdle(2);
+
+        // when
+        pool = new WebDriverPool(webDriverFactory, webDriverProperties);
+
+        // then
+        for (int i = 0; i < 50 && pool.stats().getIdle() < 2; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(pool.stats().getIdle(), equalTo(2));
+        assertThat(pool.stats().getCreated(), equalTo(2L));
+    }
+
+    @Test
+    public void testSessionsAreMatchedByDeclarativeProperties() throws IOException {
+        // given
+        webDriverProperties.setChromeOptions(chromeOptions("--headless"));
+        pool = new WebDriverPool(webDriverFactory, webDriverProperties);
+        pool.borrow().quit();
+        WebDriverProperties sameProperties = new WebDriverProperties();
+        sameProperties.setChromeOptions(chromeOptions("--headless"));
+        WebDriverProperties otherProperties = new WebDriverProperties();
+        otherProperties.setChromeOptions(chromeOptions("--incognito"));
+
+        // when
+        WebDriver other = pool.borrow(otherProperties);
+        WebDriver same = pool.borrow(sameProperties);
+
+        // then
+        assertThat(((DelegatorWebDriver) same).getDelegate(), sameInstance(createdWebDrivers.get(0)));
+        assertThat(((DelegatorWebDriver) other).getDelegate(), not(sameInstance(createdWebDrivers.get(0))));
+        verify(webDriverFactory, never()).desiredCapabilitiesFor(any(WebDriverProperties.class));
+    }
+
+    @Test
+    public void testWebDriverQuitsIfSessionCannotBeCreated() throws IOException {
+        // given
+        pool = new WebDriverPool(webDriverFactory, webDriverProperties);
+        WebDriver webDriver = mock(WebDriver.class);
+        when(webDriver.getWindowHandle()).thenThrow(new WebDriverException("no such window"));
+        doReturn(webDriver).when(webDriverFactory).create(any(WebDriverProperties.class));
+
+        // when
+        try {
+            pool.borrow();
+            fail("WebDriverException expected");
+        } catch (WebDriverException e) {
+            // expected
+        }
+
+        // then
+        verify(webDriver).quit();
+    }
+
+    private ChromeOptionsProperties chromeOptions(String ... args) {
+        ChromeOptionsProperties chromeOptions = new ChromeOptionsProperties();
+        chromeOptions.setArgs(Arrays.asList(args));
+        return chromeOptions;
+    }
+}
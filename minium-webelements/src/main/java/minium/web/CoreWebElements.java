@@ -23,6 +23,7 @@ import minium.actions.KeyboardInteractable;
 import minium.actions.MouseInteractable;
 import minium.actions.WaitInteractable;
 import minium.web.actions.HasAlert;
+import minium.web.actions.HasAsyncWebInteractable;
 import minium.web.actions.HasBrowser;
 import minium.web.actions.WebInteractable;
 
@@ -35,13 +36,15 @@ public interface CoreWebElements<T extends WebElements & Interactable<T>> extend
         EvalWebElements<T>,
         TargetLocatorWebElements<T>,
         PositionWebElements<T>,
+        ExtractWebElements<T>,
         HasBrowser<T>,
         HasAlert,
         HasConfiguration,
         WaitInteractable<T>,
         MouseInteractable<T>,
         KeyboardInteractable<T>,
-        WebInteractable<T> {
+        WebInteractable<T>,
+        HasAsyncWebInteractable<T> {
 
     public interface DefaultWebElements extends CoreWebElements<DefaultWebElements> { }
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts several properties of all matched elements in a single evaluation.
+ *
+ * @param <T> the generic type
+ */
+public interface ExtractWebElements<T extends WebElements> extends WebElements {
+
+    /**
+     * Extracts properties of all matched elements. Supported specs are <code>text</code>,
+     * <code>visibleText</code>, <code>html</code>, <code>val</code>, <code>tagName</code>,
+     * <code>visible</code>, <code>boundingBox</code>, and <code>attr:name</code>,
+     * <code>prop:name</code>, <code>css:name</code> or <code>data:name</code>.
+     * For instance, <code>$("a").extract("text", "attr:href")</code>.
+     *
+     * @param specs the properties to extract
+     * @return for each spec, the list of values for all matched elements, in the same order
+     */
+    public Map<String, List<Object>> extract(String ... specs);
+
+}
@@ -31,6 +31,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.HasInputDevices;
 import org.openqa.selenium.interactions.Keyboard;
 import org.openqa.selenium.interactions.Mouse;
+import org.openqa.selenium.internal.WrapsDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +40,7 @@ import com.google.common.base.Preconditions;
 
 import minium.web.utils.PerformanceUtils;
 
-public class StatefulWebDriver implements WebDriver, JavascriptExecutor, HasInputDevices, TakesScreenshot, HasCapabilities {
+public class StatefulWebDriver implements WebDriver, JavascriptExecutor, HasInputDevices, TakesScreenshot, HasCapabilities, WrapsDriver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StatefulWebDriver.class);
 
@@ -148,6 +149,11 @@ public class StatefulWebDriver implements WebDriver, JavascriptExecutor, HasInpu
         this.statefulTargetLocator = new StatefulTargetLocator();
     }
 
+    @Override
+    public WebDriver getWrappedDriver() {
+        return webDriver;
+    }
+
     @Override
     public void get(String url) {
         webDriver.get(url);
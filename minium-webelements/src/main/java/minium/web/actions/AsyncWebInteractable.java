@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.actions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import minium.actions.Interactable;
+import minium.actions.Interaction;
+
+/**
+ * Asynchronous counterpart of the most common interactions. Each method returns immediately
+ * with a {@link CompletableFuture} that completes with the corresponding elements once the
+ * interaction is performed, or exceptionally if it fails.
+ * <p>
+ * Asynchronous interactions of the same browser are performed one at a time, in the order they
+ * were requested, while interactions of different browsers run concurrently. For instance, a
+ * scenario driving two browsers can start an action in both and then join on both futures.
+ * Synchronous interactions of a browser are performed after its pending asynchronous ones, but
+ * other synchronous methods (like {@code text()}) are not, so they must only be called once those
+ * futures are completed. Interaction listeners of asynchronous interactions are called in the
+ * browser executor thread.
+ *
+ * @param <T> {@link Interactable} type the futures complete with
+ */
+public interface AsyncWebInteractable<T extends Interactable<?>> {
+
+    /**
+     * Performs the specified interaction asynchronously.
+     *
+     * @param interaction the interaction to perform
+     * @return a future that completes when the interaction is performed
+     * @see Interactable#perform(Interaction)
+     */
+    public CompletableFuture<T> perform(Interaction interaction);
+
+    /**
+     * Runs a task in this browser asynchronous executor, after any pending interaction.
+     *
+     * @param task the task to run
+     * @param <V> task result type
+     * @return a future that completes with the task result
+     */
+    public <V> CompletableFuture<V> call(Callable<V> task);
+
+    public CompletableFuture<T> click();
+
+    public CompletableFuture<T> doubleClick();
+
+    public CompletableFuture<T> contextClick();
+
+    public CompletableFuture<T> moveTo();
+
+    public CompletableFuture<T> clear();
+
+    public CompletableFuture<T> sendKeys(CharSequence ... keys);
+
+    public CompletableFuture<T> type(CharSequence text);
+
+    public CompletableFuture<T> fill(CharSequence text);
+
+    public CompletableFuture<T> submit();
+
+    public CompletableFuture<T> check();
+
+    public CompletableFuture<T> uncheck();
+
+    public CompletableFuture<T> select(String text);
+
+    public CompletableFuture<T> selectVal(String value);
+
+    public CompletableFuture<T> scrollIntoView();
+
+    public CompletableFuture<T> waitForExistence();
+
+    public CompletableFuture<T> waitForUnexistence();
+}
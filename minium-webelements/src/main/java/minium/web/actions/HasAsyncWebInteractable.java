@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.actions;
+
+import minium.actions.Interactable;
+
+public interface HasAsyncWebInteractable<T extends Interactable<?>> {
+
+    /**
+     * Gets an asynchronous facade for interactions on these elements.
+     *
+     * @return the asynchronous interactable
+     */
+    public AsyncWebInteractable<T> async();
+}
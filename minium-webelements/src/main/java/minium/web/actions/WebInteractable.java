@@ -15,6 +15,8 @@
  */
 package minium.web.actions;
 
+import java.util.Map;
+
 import minium.actions.Interactable;
 
 /**
@@ -94,6 +96,25 @@ public interface WebInteractable<T extends Interactable<?>> extends Interactable
      */
     public T deselectAll();
 
+    /**
+     * Fills the corresponding field with the given text, setting its value directly in the page
+     * and triggering <code>input</code> and <code>change</code> events. Fields with key handlers,
+     * as well as special keys, are typed like {@link minium.actions.KeyboardInteractable#fill(CharSequence)}.
+     *
+     * @param text text to fill
+     * @return this {@link Interactable}
+     */
+    public T fastFill(CharSequence text);
+
+    /**
+     * Fills several fields inside the corresponding element, most of them in a single evaluation.
+     * Fields that cannot be filled directly in the page are then typed one by one.
+     *
+     * @param values text to fill, by field selector
+     * @return this {@link Interactable}
+     */
+    public T fillForm(Map<String, ? extends CharSequence> values);
+
     /**
      * Scrolls the corresponding element into view.
      *
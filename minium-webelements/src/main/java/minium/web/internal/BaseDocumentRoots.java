@@ -32,6 +32,8 @@ import com.google.common.collect.Iterators;
 
 public abstract class BaseDocumentRoots<T extends WebElements> extends InternalWebElements.Impl<T> implements DocumentRoots, ExpressionWebElements {
 
+    private static final Expression ROOT_EXPRESSION = new RootExpression();
+
     static class FrozenRootsImpl<T extends WebElements> extends BaseDocumentRoots<T> {
 
         private DocumentWebDriver frozenDriver;
@@ -86,7 +88,7 @@ public abstract class BaseDocumentRoots<T extends WebElements> extends InternalW
 
     @Override
     public Expression getExpression() {
-        return new RootExpression();
+        return ROOT_EXPRESSION;
     }
 
     @Override
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 
 import minium.BasicElements;
+import minium.Elements;
 import minium.web.DocumentWebDriver;
 import minium.web.WebElements;
 import minium.web.internal.drivers.DocumentWebElement;
@@ -29,17 +30,95 @@ import minium.web.internal.expression.Expression;
 import minium.web.internal.expression.Expressionizer;
 import minium.web.internal.expression.FunctionInvocationExpression;
 import minium.web.internal.expression.NativeWebElementsExpression;
-import minium.web.internal.expression.VariableGenerator;
 
+import com.google.common.base.Function;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 
 public class DefaultExpressionWebElements<T extends WebElements> extends InternalWebElements.Impl<T> implements ExpressionWebElements {
 
     static class ExpressionFrozenWebElements<T extends WebElements> extends InternalWebElements.Impl<T> implements ExpressionWebElements, BasicElements<T> {
 
+        /**
+         * Evaluates the parent expression again and picks the native element at the same
+         * position, as long as the parent still has the same number of elements and that
+         * element belongs to the same document. The recovered element replaces the stale one.
+         */
+        private final class StaleElementResolver implements Function<DocumentWebElement, DocumentWebElement> {
+            private final int index;
+            private final int size;
+
+            private StaleElementResolver(int index, int size) {
+                this.index = index;
+                this.size = size;
+            }
+
+            @Override
+            public DocumentWebElement apply(DocumentWebElement staleElem) {
+                List<DocumentWebElement> current = nativeWebElements;
+                // already recovered (or evaluated again) by some other command
+                if (current != null && current.size() == size && current.get(index) != staleElem) return current.get(index);
+
+                List<DocumentWebElement> elems = ImmutableList.copyOf(parent().as(InternalWebElements.class).wrappedNativeElements());
+                if (elems.size() != size) return null;
+                DocumentWebElement elem = elems.get(index);
+                if (!elem.getWrappedDriver().equals(staleElem.getWrappedDriver())) return null;
+
+                DocumentWebElement recovered = new DocumentWebElement(elem.getWrappedWebElement(), elem.getWrappedDriver(), this);
+                replace(staleElem, recovered);
+                return recovered;
+            }
+
+            private void replace(DocumentWebElement staleElem, DocumentWebElement recovered) {
+                List<DocumentWebElement> current = nativeWebElements;
+                if (current == null || current.size() != size || current.get(index) != staleElem) return;
+                List<DocumentWebElement> elems = Lists.newArrayList(current);
+                elems.set(index, recovered);
+                nativeWebElements = ImmutableList.copyOf(elems);
+                // the memoized expression still references the stale element
+                expression = null;
+            }
+        }
+
         private List<DocumentWebElement> nativeWebElements;
+        private Expression expression;
+        private final boolean refreshable;
+
+        public ExpressionFrozenWebElements() {
+            this(null, false);
+        }
+
+        /**
+         * @param nativeWebElements already evaluated native elements, or null
+         * @param refreshable if true, stale native elements can be discarded and parent evaluated again
+         */
+        public ExpressionFrozenWebElements(List<DocumentWebElement> nativeWebElements, boolean refreshable) {
+            this.nativeWebElements = nativeWebElements == null ? null : ImmutableList.copyOf(nativeWebElements);
+            this.refreshable = refreshable;
+        }
+
+        @Override
+        public boolean refresh() {
+            if (!refreshable || nativeWebElements == null) return false;
+            nativeWebElements = null;
+            expression = null;
+            return true;
+        }
+
+        @Override
+        public Expression unresolvedExpression() {
+            return nativeWebElements == null ? parent().as(ExpressionWebElements.class).getExpression() : null;
+        }
+
+        @Override
+        public boolean resolve(List<DocumentWebElement> nativeElements) {
+            // like in wrappedNativeElements, no elements means they were not evaluated yet
+            if (nativeWebElements != null || nativeElements.isEmpty()) return false;
+            nativeWebElements = recoverable(nativeElements);
+            return true;
+        }
 
         @Override
         public Iterable<DocumentWebDriver> candidateDocumentDrivers() {
@@ -59,6 +138,11 @@ public class DefaultExpressionWebElements<T extends WebElements> extends Interna
             }
         }
 
+        @Override
+        public boolean documentDriversRequireEvaluation() {
+            return nativeWebElements == null && parent().as(InternalWebElements.class).documentDriversRequireEvaluation();
+        }
+
         @Override
         public WebElements documentRoots() {
             return parent().as(InternalWebElements.class).documentRoots();
@@ -79,15 +163,28 @@ public class DefaultExpressionWebElements<T extends WebElements> extends Interna
             if (nativeWebElements == null) {
                 List<DocumentWebElement> elems = ImmutableList.copyOf(parent().as(InternalWebElements.class).wrappedNativeElements());
                 if (elems.isEmpty()) return Collections.emptyList();
-                nativeWebElements = elems;
+                nativeWebElements = recoverable(elems);
             }
             return nativeWebElements;
         }
 
+        private List<DocumentWebElement> recoverable(List<DocumentWebElement> elems) {
+            ImmutableList.Builder<DocumentWebElement> recoverableElems = ImmutableList.builder();
+            for (int i = 0; i < elems.size(); i++) {
+                DocumentWebElement elem = elems.get(i);
+                recoverableElems.add(new DocumentWebElement(elem.getWrappedWebElement(), elem.getWrappedDriver(), new StaleElementResolver(i, elems.size())));
+            }
+            return recoverableElems.build();
+        }
+
         @Override
         public Expression getExpression() {
+            if (expression != null) return expression;
             List<DocumentWebElement> nativeElems = ImmutableList.copyOf(wrappedNativeElements());
-            return new NativeWebElementsExpression(nativeElems);
+            Expression nativeElemsExpression = new NativeWebElementsExpression(nativeElems);
+            // once evaluated, frozen elements no longer change
+            if (nativeWebElements != null) expression = nativeElemsExpression;
+            return nativeElemsExpression;
         }
 
         @Override
@@ -128,6 +225,12 @@ public class DefaultExpressionWebElements<T extends WebElements> extends Interna
     private final String function;
     private final Object[] args;
 
+    // expressions are immutable, so we only need to rebuild ours if parent's one or the ones of
+    // elements passed as arguments changed (e.g. a frozen argument was refreshed)
+    private Expression parentExpression;
+    private List<Expression> elementsArgExpressions;
+    private Expression expression;
+
     public DefaultExpressionWebElements(String function, Object... args) {
         this.function = function;
         this.args = args == null ? new Object[0] : args;
@@ -136,11 +239,40 @@ public class DefaultExpressionWebElements<T extends WebElements> extends Interna
     @Override
     public Expression getExpression() {
         Expression parentExpression = parent().as(ExpressionWebElements.class).getExpression();
-        Expressionizer expressionizer = this.as(HasExpressionizer.class).getExpressionizer();
+        List<Expression> elementsArgExpressions = elementsArgExpressions();
+        if (expression == null || parentExpression != this.parentExpression || !sameInstances(elementsArgExpressions, this.elementsArgExpressions)) {
+            Expressionizer expressionizer = this.as(HasExpressionizer.class).getExpressionizer();
+
+            List<Expression> argExpressions = from(Arrays.asList(args)).transform(expressionizer).toList();
+
+            this.expression = new FunctionInvocationExpression(parentExpression, function, argExpressions);
+            this.parentExpression = parentExpression;
+            this.elementsArgExpressions = elementsArgExpressions;
+        }
+        return expression;
+    }
 
-        List<Expression> argExpressions = from(Arrays.asList(args)).transform(expressionizer).toList();
+    private List<Expression> elementsArgExpressions() {
+        List<Expression> expressions = Lists.newArrayList();
+        for (Object arg : args) {
+            if (arg instanceof Elements && ((Elements) arg).is(ExpressionWebElements.class)) {
+                expressions.add(((Elements) arg).as(ExpressionWebElements.class).getExpression());
+            }
+        }
+        return expressions;
+    }
 
-        return new FunctionInvocationExpression(parentExpression, function, argExpressions);
+    private static boolean sameInstances(List<Expression> expressions, List<Expression> otherExpressions) {
+        if (otherExpressions == null || expressions.size() != otherExpressions.size()) return false;
+        for (int i = 0; i < expressions.size(); i++) {
+            if (expressions.get(i) != otherExpressions.get(i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean refresh() {
+        return parent().as(InternalWebElements.class).refresh();
     }
 
     @Override
@@ -168,6 +300,11 @@ public class DefaultExpressionWebElements<T extends WebElements> extends Interna
         return from(wrappedNativeElements()).transform(WebElementFunctions.unwrapDocumentDriver());
     }
 
+    @Override
+    public boolean documentDriversRequireEvaluation() {
+        return true;
+    }
+
     @Override
     public T freeze() {
         return internalFactory().createMixin(myself(), new ExpressionFrozenWebElements<T>());
@@ -176,7 +313,7 @@ public class DefaultExpressionWebElements<T extends WebElements> extends Interna
     @Override
     public String toString() {
         String rootString = candidateDocumentRoots().toString();
-        String expression = getExpression().getJavascript(new VariableGenerator.Impl());
+        String expression = getExpression().getJavascript();
         return Strings.isNullOrEmpty(rootString) ? expression : String.format("%s -> %s", rootString, expression);
     }
 }
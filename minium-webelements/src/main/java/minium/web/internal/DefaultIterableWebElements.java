@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import minium.BasicElements;
+import minium.FreezableElements;
+import minium.IterableElements;
+import minium.internal.BaseElements;
+import minium.web.WebElements;
+import minium.web.internal.DefaultExpressionWebElements.ExpressionFrozenWebElements;
+import minium.web.internal.drivers.DocumentWebElement;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Iterates over web elements by materializing all their native elements at once. Each
+ * iterated element is backed by its native element, and is only evaluated again (as
+ * {@code eq(i)} of the iterated elements) if that native element becomes stale.
+ */
+public class DefaultIterableWebElements<T extends WebElements> extends BaseElements<T> implements IterableElements<T> {
+
+    private final class WebElementsIterator extends AbstractIterator<T> {
+        private final List<DocumentWebElement> nativeElems;
+        private final boolean reevaluable;
+        private int current;
+
+        private WebElementsIterator(List<DocumentWebElement> nativeElems, boolean reevaluable) {
+            this.nativeElems = nativeElems;
+            this.reevaluable = reevaluable;
+        }
+
+        @Override
+        protected T computeNext() {
+            if (current == nativeElems.size()) {
+                return endOfData();
+            }
+            int index = current++;
+            List<DocumentWebElement> nativeElem = Collections.singletonList(nativeElems.get(index));
+            if (!reevaluable) {
+                return internalFactory().createMixin(new NativeWebElements<T>(nativeElem));
+            }
+            TypeToken<BasicElements<T>> typeToken = typeTokenFor(BasicElements.class);
+            T elem = myself().as(typeToken).eq(index);
+            return internalFactory().createMixin(elem, new ExpressionFrozenWebElements<T>(nativeElem, true));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        T frozen = myself().as(FreezableElements.class).freeze().as(typeVariableToken());
+        List<DocumentWebElement> nativeElems = ImmutableList.copyOf(frozen.as(InternalWebElements.class).wrappedNativeElements());
+        // already frozen elements have nothing to be evaluated again
+        return new WebElementsIterator(nativeElems, frozen != myself());
+    }
+}
@@ -23,7 +23,6 @@ import minium.BasicElements;
 import minium.Elements;
 import minium.FreezableElements;
 import minium.IterableElements;
-import minium.internal.DefaultIterableElements;
 import minium.internal.HasElementsFactory;
 import minium.internal.HasParent;
 import minium.internal.InternalElementsFactory;
@@ -37,7 +36,6 @@ import minium.web.internal.actions.HasWebLocator;
 import minium.web.internal.drivers.DefaultJavascriptInvoker;
 import minium.web.internal.drivers.DocumentWebElement;
 import minium.web.internal.drivers.InternalDocumentWebDriver;
-import minium.web.internal.drivers.JavascriptInvoker;
 import minium.web.internal.drivers.WindowDelegatorWebDriver;
 import minium.web.internal.drivers.WindowWebDriver;
 import minium.web.internal.expression.Coercer;
@@ -89,8 +87,10 @@ public class DefaultWebElementsFactory<T extends WebElements> extends Mixin.Impl
             rootDocumentDriver = new WindowWebDriver(webdriver);
         }
 
-        final JavascriptInvoker javascriptInvoker = new DefaultJavascriptInvoker(builder.getClassLoader(), builder.getJsResources(), builder.getCssResources());
-        final Expressionizer expressionizer = new Expressionizer.Composite().add(new JsonExpressionizer(builder.getMapper()))
+        final DefaultJavascriptInvoker javascriptInvoker = new DefaultJavascriptInvoker(builder.getClassLoader(), builder.getJsResources(), builder.getLazyJsResources(), builder.getCssResources());
+        // if not supported, javascript will be injected when first needed
+        builder.getJavascriptPreloader().preload(webdriver, javascriptInvoker.preloadScript());
+        final Expressionizer expressionizer = new Expressionizer.Composite().add(new JsonExpressionizer(builder.getMapper(), builder.isLiteralsAsArgs()))
                 .add(new ExpressionWebElementExpressionizer()).addAll(builder.getAditionalExpressionizers());
         final Coercer coercer = new Coercer.Composite().add(new JsonCoercer(builder.getMapper())).add(new PrimitiveTypeCoercer()).add(new IdentityCoercer())
                 .addAll(builder.getAditionalCoercers());
@@ -114,7 +114,7 @@ public class DefaultWebElementsFactory<T extends WebElements> extends Mixin.Impl
                 implement(HasExpressionizer.class).with(new HasExpressionizer.Impl(expressionizer));
                 implement(HasCoercer.class).with(new HasCoercer.Impl(coercer));
                 implement(TargetLocatorWebElements.class).with(new DefaultTargetLocatorWebElements());
-                implement(IterableElements.class).with(new DefaultIterableElements());
+                implement(IterableElements.class).with(new DefaultIterableWebElements());
                 implement(HasJavascriptInvoker.class).with(new HasJavascriptInvoker.Impl(javascriptInvoker));
                 implement(HasBrowser.class).with(new DefaultHasBrowser<T>());
                 implement(HasWebLocator.class).with(new HasWebLocator.Impl<T>(intf, builerProvidedInterfaces));
@@ -28,6 +28,8 @@ import com.google.common.collect.ImmutableSet;
 
 public class EmptyWebElements<T extends WebElements> extends InternalWebElements.Impl<T> implements ExpressionWebElements {
 
+    private static final Expression EMPTY_EXPRESSION = new EmptyWebElementsExpression();
+
     private final DocumentWebDriver rootWebDriver;
 
     public EmptyWebElements(DocumentWebDriver rootWebDriver) {
@@ -66,7 +68,7 @@ public class EmptyWebElements<T extends WebElements> extends InternalWebElements
 
     @Override
     public Expression getExpression() {
-        return new EmptyWebElementsExpression();
+        return EMPTY_EXPRESSION;
     }
 
     @Override
@@ -15,7 +15,10 @@
  */
 package minium.web.internal;
 
+import static com.google.common.base.MoreObjects.firstNonNull;
+
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Set;
 
 import minium.BasicElements;
@@ -27,22 +30,36 @@ import minium.web.DocumentWebDriver;
 import minium.web.MultipleDocumentDriversFoundException;
 import minium.web.NoDocumentDriverFoundException;
 import minium.web.WebElements;
+import minium.web.internal.drivers.FrameElementsResultException;
+import minium.web.internal.drivers.FrameWebDriver;
+import minium.web.internal.drivers.JavascriptInvocationBatch;
+import minium.web.internal.drivers.JavascriptInvocationFailedException;
 import minium.web.internal.drivers.JavascriptInvoker;
 import minium.web.internal.expression.Coercer;
 import minium.web.internal.expression.Expression;
 import minium.web.internal.expression.FunctionInvocationExpression;
-import minium.web.internal.expression.VariableGenerator;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Defaults;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Predicates;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.AbstractInvocationHandler;
 import com.google.common.reflect.TypeToken;
 
 public class ExpressionInvocationHandler<T extends WebElements> extends AbstractInvocationHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionInvocationHandler.class);
+
     private static final Method SIZE_METHOD = Reflections.getDeclaredMethod(BasicElements.class, "size");
 
     private static class DocumentDriverInvoker implements Function<DocumentWebDriver, Object> {
@@ -61,13 +78,49 @@ public class ExpressionInvocationHandler<T extends WebElements> extends Abstract
 
         @Override
         public Object apply(DocumentWebDriver documentDriver) {
+            initialize();
+            return javascriptInvoker.invokeExpression(documentDriver, expressionJavascript, expressionArgs);
+        }
+
+        public int addTo(JavascriptInvocationBatch batch) {
+            return batch.add(getJavascript(), getArgs());
+        }
+
+        public String getJavascript() {
+            initialize();
+            return expressionJavascript;
+        }
+
+        public Object[] getArgs() {
+            initialize();
+            return expressionArgs;
+        }
+
+        public boolean hasWebElementArgs() {
+            for (Object arg : firstNonNull(getArgs(), new Object[0])) {
+                if (arg instanceof WebElement || (arg instanceof Iterable && Iterables.any((Iterable<?>) arg, Predicates.instanceOf(WebElement.class)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void initialize() {
             if (!initialized) {
-                VariableGenerator varGenerator = new VariableGenerator.Impl();
-                expressionJavascript = expression.getJavascript(varGenerator);
+                expressionJavascript = expression.getJavascript();
                 expressionArgs = expression.getArgs();
                 initialized = true;
             }
-            return javascriptInvoker.invokeExpression(documentDriver, expressionJavascript, expressionArgs);
+        }
+    }
+
+    // result of an expression in the only document driver where it has elements (value may be null)
+    private static class DocumentDriverResult {
+
+        private final Object value;
+
+        public DocumentDriverResult(Object value) {
+            this.value = value;
         }
     }
 
@@ -98,6 +151,21 @@ public class ExpressionInvocationHandler<T extends WebElements> extends Abstract
 
         JavascriptInvoker javascriptInvoker = parent.as(HasJavascriptInvoker.class).javascriptInvoker();
         Object result;
+        try {
+            result = evaluate(javascriptInvoker, parent, webElements, method);
+        } catch (StaleElementReferenceException e) {
+            // parent native elements may be evaluated again (for instance, when iterating), so we give it another chance
+            if (!parent.as(InternalWebElements.class).refresh()) throw e;
+            LOGGER.debug("Native elements of {} became stale, evaluating them again", parent);
+            result = evaluate(javascriptInvoker, parent, webElements, method);
+        }
+
+        return coercer.coerce(result, method.getGenericReturnType());
+    }
+
+    protected Object evaluate(JavascriptInvoker javascriptInvoker, T parent, ExpressionWebElements webElements, Method method) {
+        Class<?> returnClazz = method.getReturnType();
+        Object result;
 
         if (returnClazz == Void.TYPE) {
             Iterable<DocumentWebDriver> documentDrivers = parent.as(InternalWebElements.class).documentDrivers();
@@ -106,6 +174,20 @@ public class ExpressionInvocationHandler<T extends WebElements> extends Abstract
                 documentDriverInvoker.apply(documentDriver);
             }
             result = null;
+        } else if (parent.as(InternalWebElements.class).documentDriversRequireEvaluation()) {
+            // document drivers would be computed by evaluating parent in each candidate document driver,
+            // so we skip that and evaluate parent size together with the expression itself
+            Set<DocumentWebDriver> candidateDocumentDrivers = Sets.newLinkedHashSet(parent.as(InternalWebElements.class).candidateDocumentDrivers());
+            DocumentDriverResult documentDriverResult = probeAndEvaluate(javascriptInvoker, parent, webElements, method.equals(SIZE_METHOD), candidateDocumentDrivers);
+
+            if (documentDriverResult == null) {
+                // same behaviour as when no document driver is found
+                if (method.equals(SIZE_METHOD)) {
+                    return 0;
+                }
+                throw new NoDocumentDriverFoundException(String.format("The expression %s has no frame or window to be evaluated to", parent));
+            }
+            result = documentDriverResult.value;
         } else {
             // materialize document drivers
             Set<DocumentWebDriver> documentDrivers = Sets.newLinkedHashSet(parent.as(InternalWebElements.class).documentDrivers());
@@ -124,45 +206,115 @@ public class ExpressionInvocationHandler<T extends WebElements> extends Abstract
                 result = getSingleDocumentDriverResult(Iterables.get(documentDrivers, 0), javascriptInvoker, webElements);
                 break;
             default:
-                Expression parentExpression = parent.as(ExpressionWebElements.class).getExpression();
-                Expression sizeExpression = new FunctionInvocationExpression(parentExpression, "size");
-
-                DocumentWebDriver webDriverWithResults = getCandidateDocumentDriver(javascriptInvoker, sizeExpression, documentDrivers);
-
-                if (webDriverWithResults != null) {
-                    DocumentDriverInvoker documentDriverInvoker = new DocumentDriverInvoker(javascriptInvoker, webElements.getExpression());
-                    result = documentDriverInvoker.apply(webDriverWithResults);
-                } else {
-                    result = Defaults.defaultValue(returnClazz);
-                }
+                DocumentDriverResult documentDriverResult = probeAndEvaluate(javascriptInvoker, parent, webElements, method.equals(SIZE_METHOD), documentDrivers);
+                result = documentDriverResult != null ? documentDriverResult.value : Defaults.defaultValue(returnClazz);
                 break;
             }
         }
 
-        return coercer.coerce(result, method.getGenericReturnType());
+        return result;
     }
 
-    protected DocumentWebDriver getCandidateDocumentDriver(JavascriptInvoker javascriptInvoker, Expression sizeExpression,
-            Iterable<DocumentWebDriver> documentDrivers) {
-        DocumentWebDriver webDriverWithResults = null;
+    /**
+     * Evaluates parent size and the expression itself in each document driver, with a single
+     * script execution per document driver. Same-origin frames of the same parent document are
+     * evaluated all together from that document. Only the document driver where parent has elements
+     * is considered.
+     *
+     * @return the result in that document driver, or null if parent has no elements in any of them
+     * @throws MultipleDocumentDriversFoundException if parent has elements in more than one document driver
+     */
+    protected DocumentDriverResult probeAndEvaluate(JavascriptInvoker javascriptInvoker, T parent, ExpressionWebElements webElements,
+            boolean sizeOnly, Iterable<DocumentWebDriver> documentDrivers) {
+        Expression parentExpression = parent.as(ExpressionWebElements.class).getExpression();
+        DocumentDriverInvoker sizeInvoker = new DocumentDriverInvoker(javascriptInvoker, new FunctionInvocationExpression(parentExpression, "size"));
+        DocumentDriverInvoker expressionInvoker = new DocumentDriverInvoker(javascriptInvoker, webElements.getExpression());
 
-        boolean multipleCandidates = false;
+        List<DocumentWebDriver> remainingDocumentDrivers = Lists.newArrayList();
+        ListMultimap<DocumentWebDriver, FrameWebDriver> framesByParent = LinkedListMultimap.create();
+        // elements passed as arguments belong to some document, so they cannot be used from a different one
+        boolean canEvaluateFromParent = !sizeInvoker.hasWebElementArgs() && (sizeOnly || !expressionInvoker.hasWebElementArgs());
         for (DocumentWebDriver candidate : documentDrivers) {
-            DocumentDriverInvoker documentDriverInvoker = new DocumentDriverInvoker(javascriptInvoker, sizeExpression);
-            long size = (Long) documentDriverInvoker.apply(candidate);
-            if (size > 0) {
-                if (webDriverWithResults == null) {
-                    webDriverWithResults = candidate;
-                } else {
-                    multipleCandidates = true;
+            if (canEvaluateFromParent && candidate instanceof FrameWebDriver) {
+                FrameWebDriver frameDriver = (FrameWebDriver) candidate;
+                framesByParent.put(frameDriver.getFrameElement().getWrappedDriver(), frameDriver);
+            } else {
+                remainingDocumentDrivers.add(candidate);
+            }
+        }
+
+        DocumentDriverResult documentDriverResult = null;
+        for (DocumentWebDriver parentDriver : framesByParent.keySet()) {
+            List<FrameWebDriver> frameDrivers = framesByParent.get(parentDriver);
+            if (frameDrivers.size() < 2) {
+                // no round trip to save
+                remainingDocumentDrivers.addAll(frameDrivers);
+                continue;
+            }
+
+            List<List<Object>> framesResults = invokeInFrames(javascriptInvoker, parentDriver, frameDrivers, sizeInvoker, sizeOnly ? null : expressionInvoker);
+            for (int i = 0; i < frameDrivers.size(); i++) {
+                List<Object> frameResults = framesResults == null ? null : framesResults.get(i);
+                if (frameResults == null) {
+                    // cross-origin frame, or frame without minium yet, it will be evaluated by switching to it
+                    remainingDocumentDrivers.add(frameDrivers.get(i));
+                    continue;
+                }
+                long size = ((Number) resultValue(frameResults.get(0))).longValue();
+                if (size > 0) {
+                    Object value = sizeOnly ? size : frameResults.get(1);
+                    if (value instanceof FrameElementsResultException) {
+                        value = expressionInvoker.apply(frameDrivers.get(i));
+                    }
+                    documentDriverResult = mergeResult(documentDriverResult, resultValue(value));
                 }
             }
         }
 
-        if (multipleCandidates) {
+        for (DocumentWebDriver candidate : remainingDocumentDrivers) {
+            JavascriptInvocationBatch batch = new JavascriptInvocationBatch(javascriptInvoker);
+            int sizeIndex = sizeInvoker.addTo(batch);
+            int resultIndex = sizeOnly ? sizeIndex : expressionInvoker.addTo(batch);
+            batch.flush(candidate);
+
+            long size = ((Number) batch.get(sizeIndex)).longValue();
+            if (size > 0) {
+                documentDriverResult = mergeResult(documentDriverResult, batch.get(resultIndex));
+            }
+        }
+        return documentDriverResult;
+    }
+
+    private List<List<Object>> invokeInFrames(JavascriptInvoker javascriptInvoker, DocumentWebDriver parentDriver, List<FrameWebDriver> frameDrivers,
+            DocumentDriverInvoker sizeInvoker, DocumentDriverInvoker expressionInvoker) {
+        List<WebElement> frameElems = Lists.newArrayList();
+        for (FrameWebDriver frameDriver : frameDrivers) {
+            frameElems.add(frameDriver.getFrameElement().getWrappedWebElement());
+        }
+        List<String> expressions = Lists.newArrayList(sizeInvoker.getJavascript());
+        List<Object[]> args = Lists.<Object[]>newArrayList(sizeInvoker.getArgs());
+        if (expressionInvoker != null) {
+            expressions.add(expressionInvoker.getJavascript());
+            args.add(expressionInvoker.getArgs());
+        }
+        try {
+            return javascriptInvoker.invokeExpressionsInFrames(parentDriver, frameElems, expressions, args);
+        } catch (JavascriptInvocationFailedException e) {
+            LOGGER.debug("Could not evaluate expressions in frames from their parent document, switching to each frame instead", e);
+            return null;
+        }
+    }
+
+    private Object resultValue(Object value) {
+        if (value instanceof JavascriptInvocationFailedException) throw (JavascriptInvocationFailedException) value;
+        return value;
+    }
+
+    private DocumentDriverResult mergeResult(DocumentDriverResult documentDriverResult, Object value) {
+        if (documentDriverResult != null) {
             throw new MultipleDocumentDriversFoundException("Several frames or windows match the same expression, so value cannot be computed");
         }
-        return webDriverWithResults;
+        return new DocumentDriverResult(value);
     }
 
     protected Object getSingleDocumentDriverResult(DocumentWebDriver documentDriver, JavascriptInvoker javascriptInvoker, ExpressionWebElements webElements) {
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import minium.web.WebElements;
+
+/**
+ * Sets field values in the page, dispatching <code>input</code> and <code>change</code> events,
+ * instead of typing them. Fields with key handlers are left untouched, because those handlers
+ * would miss the key events.
+ *
+ * @param <T> the generic type
+ */
+public interface FastFillWebElements<T extends WebElements> extends WebElements {
+
+    /**
+     * Sets (or appends to) the value of the first matched field.
+     *
+     * @param text the text
+     * @param append if text is appended to the current value
+     * @return true if the field was filled, false if it must be typed instead
+     */
+    public Boolean fastFill(String text, boolean append);
+
+    /**
+     * Fills the fields found by each selector inside the matched elements, in a single evaluation.
+     *
+     * @param values the text to fill, by field selector
+     * @return the selectors of fields that were not filled
+     */
+    public List<String> fastFillAll(Map<String, String> values);
+
+}
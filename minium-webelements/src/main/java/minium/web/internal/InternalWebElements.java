@@ -18,6 +18,7 @@ package minium.web.internal;
 import static com.google.common.collect.FluentIterable.from;
 
 import java.util.Iterator;
+import java.util.List;
 
 import minium.FreezableElements;
 import minium.internal.BaseElements;
@@ -27,7 +28,6 @@ import minium.web.WebElements;
 import minium.web.internal.drivers.DocumentWebElement;
 import minium.web.internal.drivers.JavascriptInvoker;
 import minium.web.internal.expression.Expression;
-import minium.web.internal.expression.VariableGenerator;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -58,6 +58,39 @@ public interface InternalWebElements extends WebElements {
 
     public abstract Iterable<DocumentWebElement> wrappedNativeElements();
 
+    /**
+     * Returns true if {@link #documentDrivers()} are computed by evaluating this expression in
+     * each candidate document driver and keeping the ones with matching elements.
+     *
+     * @return true if document drivers require evaluation
+     */
+    public abstract boolean documentDriversRequireEvaluation();
+
+    /**
+     * Discards materialized native elements, if allowed, so that they get evaluated again
+     * (for instance, when they became stale).
+     *
+     * @return true if native elements will be evaluated again
+     */
+    public abstract boolean refresh();
+
+    /**
+     * Frozen elements are only evaluated once. Until then, whoever evaluates their expression anyway
+     * (for instance, a wait in the browser) can {@link #resolve(List)} them with the result.
+     *
+     * @return the expression these frozen elements will be evaluated from, or null if they are not
+     *         frozen or were already evaluated
+     */
+    public abstract Expression unresolvedExpression();
+
+    /**
+     * Sets the native elements of frozen elements that were not evaluated yet.
+     *
+     * @param nativeElements native elements their {@link #unresolvedExpression()} evaluated to
+     * @return true if the native elements were accepted
+     */
+    public abstract boolean resolve(List<DocumentWebElement> nativeElements);
+
     public abstract static class Impl<T extends WebElements> extends BaseElements<T> implements InternalWebElements, FreezableElements<T> {
 
         private static final Logger LOGGER = LoggerFactory.getLogger(InternalWebElements.Impl.class);
@@ -69,6 +102,21 @@ public interface InternalWebElements extends WebElements {
             }
         }
 
+        @Override
+        public boolean refresh() {
+            return false;
+        }
+
+        @Override
+        public Expression unresolvedExpression() {
+            return null;
+        }
+
+        @Override
+        public boolean resolve(List<DocumentWebElement> nativeElements) {
+            return false;
+        }
+
         @Override
         public DocumentWebDriver documentDriver() {
             Iterator<DocumentWebDriver> documentDriversIterator = documentDrivers().iterator();
@@ -90,18 +138,20 @@ public interface InternalWebElements extends WebElements {
             return nativeElems;
         }
 
+        @Override
+        public boolean documentDriversRequireEvaluation() {
+            return false;
+        }
+
         @Override
         public Iterable<WebElement> computeNativeElements(DocumentWebDriver wd) {
             Expression expression = this.as(ExpressionWebElements.class).getExpression();
-            VariableGenerator varGenerator = new VariableGenerator.Impl();
 
-            String javascript = expression.getJavascript(varGenerator);
+            String javascript = expression.getJavascript();
             Object[] args = expression.getArgs();
             if (args == null) args = new Object[0];
 
-            Preconditions.checkState(varGenerator.usedVariables() == args.length);
-
-            return javascriptInvoker().invokeExpression(wd, javascript, args);
+            return javascriptInvoker().invokeExpressionElements(wd, javascript, args);
         }
 
         protected WebDriver nativeWebDriver() {
@@ -40,10 +40,12 @@ import com.google.common.collect.Lists;
 public class NativeWebElements<T extends WebElements> extends InternalWebElements.Impl<T> implements ExpressionWebElements {
 
     private final List<DocumentWebElement> nativeWebElements;
+    private final Expression expression;
 
     public NativeWebElements(Collection<DocumentWebElement> nativeWebElements) {
         Preconditions.checkArgument(from(nativeWebElements).allMatch(instanceOf(DocumentWebElement.class)));
         this.nativeWebElements = Lists.newArrayList(nativeWebElements);
+        this.expression = new NativeWebElementsExpression(this.nativeWebElements);
     }
 
     @Override
@@ -80,7 +82,7 @@ public class NativeWebElements<T extends WebElements> extends InternalWebElement
 
     @Override
     public Expression getExpression() {
-        return new NativeWebElementsExpression(nativeWebElements);
+        return expression;
     }
 
     @Override
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal;
+
+import minium.web.WebElements;
+
+/**
+ * Selects options of a select element in a single evaluation.
+ *
+ * @param <T> the generic type
+ */
+public interface SelectionWebElements<T extends WebElements> extends WebElements {
+
+    /**
+     * Selects or deselects options of the first matched select element, triggering
+     * <code>input</code> and <code>change</code> events if the selection changed.
+     *
+     * @param by <code>text</code> to match options by visible text, <code>val</code> by value, or <code>all</code>
+     * @param value the text or value to match, ignored for <code>all</code>
+     * @param selected true to select options, false to deselect them
+     * @return the number of matched options, -1 if only a multi-select supports the operation, or
+     *         null if the first matched element is not a select
+     */
+    public Integer selectOptions(String by, String value, boolean selected);
+
+}
@@ -17,12 +17,14 @@ package minium.web.internal;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import minium.internal.ElementsFactory;
 import minium.web.DocumentWebDriver;
 import minium.web.WebElements;
 import minium.web.internal.drivers.DocumentWebElement;
+import minium.web.internal.drivers.JavascriptPreloader;
 import minium.web.internal.expression.Coercer;
 import minium.web.internal.expression.Expressionizer;
 
@@ -33,7 +35,9 @@ import platypus.MixinInitializer;
 import platypus.MixinInitializers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 public interface WebElementsFactory<T extends WebElements> extends ElementsFactory<T> {
@@ -52,8 +56,11 @@ public interface WebElementsFactory<T extends WebElements> extends ElementsFacto
 
         private WebDriver webDriver;
         private ObjectMapper mapper = new ObjectMapper();
+        private boolean literalsAsArgs;
+        private JavascriptPreloader javascriptPreloader = new JavascriptPreloader.None();
         private ClassLoader classLoader = Builder.class.getClassLoader();
         private Set<String> jsResources = Sets.newLinkedHashSet();
+        private Map<String, Set<String>> lazyJsResources = Maps.newLinkedHashMap();
         private Set<String> cssResources = Sets.newLinkedHashSet();
         private Set<Expressionizer> expressionizers = Sets.newLinkedHashSet();
         private Set<Coercer> coercers = Sets.newLinkedHashSet();
@@ -70,6 +77,20 @@ public interface WebElementsFactory<T extends WebElements> extends ElementsFacto
             return this;
         }
 
+        /**
+         * If enabled, literal arguments (strings, numbers, maps, etc.) are passed as script
+         * arguments instead of being inlined as JSON in the generated javascript.
+         */
+        public Builder<T> withLiteralsAsArgs(boolean literalsAsArgs) {
+            this.literalsAsArgs = literalsAsArgs;
+            return this;
+        }
+
+        public Builder<T> withJavascriptPreloader(JavascriptPreloader javascriptPreloader) {
+            this.javascriptPreloader = javascriptPreloader;
+            return this;
+        }
+
         public Builder<T> withClassLoader(ClassLoader classLoader) {
             this.classLoader = classLoader;
             return this;
@@ -84,6 +105,21 @@ public interface WebElementsFactory<T extends WebElements> extends ElementsFacto
             return this;
         }
 
+        /**
+         * Javascript resource that is only loaded in a page when some expression invokes
+         * one of the given jQuery functions, which must be the ones the resource defines.
+         * Only invocations chained to a previous call, like {@code $(...).fn(...)}, count.
+         */
+        public Builder<T> withLazyJsResource(String resource, String... functions) {
+            Set<String> resourceFunctions = lazyJsResources.get(resource);
+            if (resourceFunctions == null) {
+                resourceFunctions = Sets.newLinkedHashSet();
+                lazyJsResources.put(resource, resourceFunctions);
+            }
+            resourceFunctions.addAll(Arrays.asList(functions));
+            return this;
+        }
+
         public Builder<T> withCssResources(String... resources) {
             return this.withCssResources(Arrays.asList(resources));
         }
@@ -133,6 +169,14 @@ public interface WebElementsFactory<T extends WebElements> extends ElementsFacto
             return mapper;
         }
 
+        public boolean isLiteralsAsArgs() {
+            return literalsAsArgs;
+        }
+
+        public JavascriptPreloader getJavascriptPreloader() {
+            return javascriptPreloader;
+        }
+
         public ClassLoader getClassLoader() {
             return classLoader;
         }
@@ -141,6 +185,15 @@ public interface WebElementsFactory<T extends WebElements> extends ElementsFacto
             return ImmutableSet.copyOf(jsResources);
         }
 
+        public Map<String, Set<String>> getLazyJsResources() {
+            ImmutableMap.Builder<String, Set<String>> builder = ImmutableMap.builder();
+            for (Map.Entry<String, Set<String>> entry : lazyJsResources.entrySet()) {
+                // resources that are loaded with core don't need to be loaded lazily
+                if (!jsResources.contains(entry.getKey())) builder.put(entry.getKey(), ImmutableSet.copyOf(entry.getValue()));
+            }
+            return builder.build();
+        }
+
         public Set<String> getCssResources() {
             return ImmutableSet.copyOf(cssResources);
         }
@@ -16,6 +16,7 @@
 package minium.web.internal;
 
 import static java.lang.String.format;
+
 import minium.actions.Configuration;
 import minium.actions.HasConfiguration;
 import minium.actions.HasInteractionListeners;
@@ -27,19 +28,28 @@ import minium.actions.debug.DebugInteractable;
 import minium.actions.internal.DefaultConfiguration;
 import minium.actions.internal.DefaultHasInteractionListeners;
 import minium.actions.internal.DefaultWaitInteractable;
+import minium.actions.internal.HasWait;
+import minium.actions.internal.InteractionRunner;
+import minium.actions.internal.Waits;
 import minium.internal.LocatableElements;
 import minium.web.ConditionalWebElements;
 import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.ExtractWebElements;
 import minium.web.PositionWebElements;
 import minium.web.WebElements;
 import minium.web.actions.HasAlert;
+import minium.web.actions.HasAsyncWebInteractable;
 import minium.web.actions.WebInteractable;
 import minium.web.internal.WebElementsFactory.Builder;
+import minium.web.internal.actions.BrowserWait;
 import minium.web.internal.actions.DefaultDebugInteractable;
 import minium.web.internal.actions.DefaultHasAlert;
+import minium.web.internal.actions.DefaultHasAsyncWebInteractable;
 import minium.web.internal.actions.DefaultKeyboardInteractable;
 import minium.web.internal.actions.DefaultMouseInteractable;
 import minium.web.internal.actions.DefaultWebInteractable;
+import minium.web.internal.actions.SerialInteractionExecutor;
+import minium.web.internal.drivers.JavascriptPreloader;
 
 import org.openqa.selenium.WebDriver;
 
@@ -57,8 +67,9 @@ public class WebModules {
             @Override
             public void configure(Builder<?> builder) {
                 builder
-                    .withJsResources(
-                            "minium/web/internal/lib/jquery.position.min.js"
+                    .withLazyJsResource(
+                            "minium/web/internal/lib/jquery.position.min.js",
+                            "leftOf", "rightOf", "above", "below", "overlaps", "boundingBoxes"
                     )
                     .implementingInterfaces(
                             PositionWebElements.class
@@ -72,14 +83,37 @@ public class WebModules {
         };
     }
 
+    public static WebModule extractModule() {
+        return new WebModule() {
+
+            @Override
+            public void configure(Builder<?> builder) {
+                builder
+                    .withLazyJsResource(
+                            "minium/web/internal/lib/jquery.extract.min.js",
+                            "extract"
+                    )
+                    .implementingInterfaces(
+                            ExtractWebElements.class
+                    );
+            }
+
+            @Override
+            public String toString() {
+                return "WebModule[extract]";
+            }
+        };
+    }
+
     public static WebModule conditionalModule() {
         return new WebModule() {
 
             @Override
             public void configure(Builder<?> builder) {
                 builder
-                .withJsResources(
-                        "minium/web/internal/lib/jquery.conditional.min.js"
+                .withLazyJsResource(
+                        "minium/web/internal/lib/jquery.conditional.min.js",
+                        "when", "unless", "then", "and", "or"
                         )
                         .implementingInterfaces(
                                 ConditionalWebElements.class
@@ -94,7 +128,7 @@ public class WebModules {
     }
 
     public static WebModule defaultModule(final WebDriver wd) {
-        return combine(baseModule(wd), positionModule(), conditionalModule(), interactableModule());
+        return combine(baseModule(wd), positionModule(), extractModule(), conditionalModule(), interactableModule());
     }
 
     public static WebModule baseModule(WebDriver wd) {
@@ -151,12 +185,21 @@ public class WebModules {
 
     public static WebModule interactableModule() {
         final Configuration configuration = new DefaultConfiguration();
+        // interactions of this browser run one at a time, in the order they were requested, be they
+        // synchronous or asynchronous
+        final SerialInteractionExecutor interactionExecutor = new SerialInteractionExecutor();
 
         return new WebModule() {
             @Override
             public void configure(Builder<?> builder) {
                 builder
-                .implementingInterfaces(HasInteractionListeners.class, HasConfiguration.class, WaitInteractable.class, MouseInteractable.class, KeyboardInteractable.class, WebInteractable.class)
+                .withLazyJsResource(
+                        "minium/web/internal/lib/jquery.fastFill.min.js",
+                        "fastFill", "fastFillAll")
+                .withLazyJsResource(
+                        "minium/web/internal/lib/jquery.selectOptions.min.js",
+                        "selectOptions")
+                .implementingInterfaces(HasInteractionListeners.class, HasConfiguration.class, WaitInteractable.class, MouseInteractable.class, KeyboardInteractable.class, WebInteractable.class, HasAsyncWebInteractable.class, InteractionRunner.class, FastFillWebElements.class, SelectionWebElements.class)
                 .usingMixinConfigurer(new AbstractMixinInitializer() {
 
                     @Override
@@ -167,6 +210,8 @@ public class WebModules {
                         implement(MouseInteractable.class).with(new DefaultMouseInteractable<Interactable<?>>());
                         implement(KeyboardInteractable.class).with(new DefaultKeyboardInteractable<Interactable<?>>());
                         implement(WebInteractable.class).with(new DefaultWebInteractable<Interactable<?>>());
+                        implement(HasAsyncWebInteractable.class).with(new DefaultHasAsyncWebInteractable<Interactable<?>>(interactionExecutor));
+                        implement(InteractionRunner.class).with(interactionExecutor);
                     }
                 });
             }
@@ -178,14 +223,47 @@ public class WebModules {
         };
     };
 
+    /**
+     * Waits for existence / unexistence of these elements in the browser instead of polling.
+     * Other elements keep waiting as before.
+     */
+    public static WebModule browserWaitModule() {
+        final BrowserWait browserWait = new BrowserWait();
+
+        return new WebModule() {
+            @Override
+            public void configure(Builder<?> builder) {
+                builder
+                .implementingInterfaces(HasWait.class)
+                .usingMixinConfigurer(new AbstractMixinInitializer() {
+                    @Override
+                    protected void initialize() {
+                        implement(HasWait.class).with(new HasWait() {
+                            @Override
+                            public Waits.Wait getWait() {
+                                return browserWait;
+                            }
+                        });
+                    }
+                });
+            }
+
+            @Override
+            public String toString() {
+                return "WebModule[browserWait]";
+            }
+        };
+    }
+
     public static WebModule debugModule() {
         return new WebModule() {
             @Override
             public void configure(Builder<?> builder) {
                 builder
                 .implementingInterfaces(DebugInteractable.class)
-                .withJsResources(
-                        "minium/web/internal/lib/jquery.highlight.min.js")
+                .withLazyJsResource(
+                        "minium/web/internal/lib/jquery.highlight.min.js",
+                        "highlight")
                 .usingMixinConfigurer(new AbstractMixinInitializer() {
                     @Override
                     protected void initialize() {
@@ -201,6 +279,34 @@ public class WebModules {
         };
     }
 
+    public static WebModule literalsAsArgsModule() {
+        return new WebModule() {
+            @Override
+            public void configure(Builder<?> builder) {
+                builder.withLiteralsAsArgs(true);
+            }
+
+            @Override
+            public String toString() {
+                return "WebModule[literalsAsArgs]";
+            }
+        };
+    }
+
+    public static WebModule javascriptPreloaderModule(final JavascriptPreloader javascriptPreloader) {
+        return new WebModule() {
+            @Override
+            public void configure(Builder<?> builder) {
+                builder.withJavascriptPreloader(javascriptPreloader);
+            }
+
+            @Override
+            public String toString() {
+                return "WebModule[javascriptPreloader]";
+            }
+        };
+    }
+
     public static WebModule combine(final Iterable<? extends WebModule> modules) {
         return new WebModule() {
             @Override
@@ -50,6 +50,17 @@ public abstract class AbstractWebInteraction extends AbstractInteraction {
         return documentWebElement == null ? null : documentWebElement.getWrappedWebElement();
     }
 
+    /**
+     * Gets the first element of the source as a {@link DocumentWebElement}. If it becomes stale,
+     * it is evaluated again and the failed command is retried once. Selenium actions need
+     * {@link #getFirstElement()} instead.
+     *
+     * @return the first element
+     */
+    protected WebElement getFirstDocumentElement() {
+        return Iterables.getFirst(getSource().as(InternalWebElements.class).wrappedNativeElements(), null);
+    }
+
     /**
      * New actions.
      *
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static com.google.common.collect.FluentIterable.from;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import minium.Elements;
+import minium.actions.Configuration;
+import minium.actions.Duration;
+import minium.actions.HasConfiguration;
+import minium.actions.TimeoutException;
+import minium.actions.WaitStrategy;
+import minium.actions.internal.InteractionDeadline;
+import minium.actions.internal.WaitPredicates.SizePredicate;
+import minium.actions.internal.Waits;
+import minium.web.DocumentWebDriver;
+import minium.web.internal.ExpressionWebElements;
+import minium.web.internal.HasJavascriptInvoker;
+import minium.web.internal.InternalWebElements;
+import minium.web.internal.WebElementFunctions;
+import minium.web.internal.drivers.JavascriptInvoker;
+import minium.web.internal.expression.Expression;
+
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Predicate;
+
+/**
+ * Waits for predicates that only depend on the number of elements (like
+ * {@link minium.actions.internal.WaitPredicates#forExistence()}) in the browser itself, with
+ * a single asynchronous script that evaluates the expression again on DOM mutations. Other
+ * predicates, or elements that span several documents, fall back to polling. Frozen elements
+ * that were not evaluated yet get their native elements from that same script.
+ * <p>
+ * Only elements configured with {@link minium.web.internal.WebModules#browserWaitModule()} wait
+ * with it, through {@link minium.actions.internal.HasWait}. All others keep using {@link Waits}.
+ */
+public class BrowserWait extends Waits.Wait {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserWait.class);
+
+    @Override
+    public void forPredicate(Elements elements, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
+        if (!waitsInBrowser(elements, predicate)) {
+            super.forPredicate(elements, timeout, interval, waitStrategy, predicate);
+            return;
+        }
+        Configuration configuration = elements.as(HasConfiguration.class).configure();
+        timeout = timeout == null ? configuration.defaultTimeout() : timeout;
+        interval = interval == null ? configuration.defaultInterval() : interval;
+        timeout = InteractionDeadline.bound(timeout);
+
+        long start = System.currentTimeMillis();
+        try {
+            if (!waitInBrowser(elements, timeout, interval, (SizePredicate<?>) predicate)) {
+                throw new TimeoutException(predicate, elements, 1);
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof TimeoutException) throw e;
+            LOGGER.debug("Waiting in the browser failed, falling back to polling", e);
+            super.forPredicate(elements, remaining(timeout, start), interval, waitStrategy, predicate);
+        }
+    }
+
+    @Override
+    public boolean forPredicateOrTimeout(Elements elements, Duration timeout, Duration interval, WaitStrategy waitStrategy, Predicate<? super Elements> predicate) {
+        if (!waitsInBrowser(elements, predicate)) {
+            return super.forPredicateOrTimeout(elements, timeout, interval, waitStrategy, predicate);
+        }
+        Configuration configuration = elements.as(HasConfiguration.class).configure();
+        timeout = timeout == null ? configuration.defaultTimeout() : timeout;
+        interval = interval == null ? configuration.defaultInterval() : interval;
+        timeout = InteractionDeadline.bound(timeout);
+
+        long start = System.currentTimeMillis();
+        try {
+            return waitInBrowser(elements, timeout, interval, (SizePredicate<?>) predicate);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Waiting in the browser failed, falling back to polling", e);
+            return super.forPredicateOrTimeout(elements, remaining(timeout, start), interval, waitStrategy, predicate);
+        }
+    }
+
+    protected boolean waitsInBrowser(Elements elements, Predicate<?> predicate) {
+        if (!(predicate instanceof SizePredicate) || !elements.is(ExpressionWebElements.class) || !elements.is(HasJavascriptInvoker.class)) return false;
+        // the expression must be evaluated in a single document
+        return from(elements.as(InternalWebElements.class).candidateDocumentDrivers()).limit(2).size() == 1;
+    }
+
+    protected boolean waitInBrowser(Elements elements, Duration timeout, Duration interval, SizePredicate<?> predicate) {
+        InternalWebElements internalElements = elements.as(InternalWebElements.class);
+        DocumentWebDriver documentDriver = from(internalElements.candidateDocumentDrivers()).first().get();
+        JavascriptInvoker invoker = elements.as(HasJavascriptInvoker.class).javascriptInvoker();
+        long timeoutMillis = timeout.getUnit().toMillis(timeout.getTime());
+        long intervalMillis = interval.getUnit().toMillis(interval.getTime());
+
+        Expression unresolvedExpression = internalElements.unresolvedExpression();
+        if (unresolvedExpression != null) {
+            // frozen elements that were not evaluated yet are resolved by the wait itself, so that
+            // the interaction does not need to evaluate them again
+            List<WebElement> nativeElems = invoker.waitForExpressionElements(documentDriver, unresolvedExpression.getJavascript(),
+                    predicate.getSize(), predicate.isNegated(), timeoutMillis, intervalMillis, args(unresolvedExpression));
+            if (nativeElems == null) return false;
+            internalElements.resolve(from(nativeElems).transform(WebElementFunctions.wrap(documentDriver)).toList());
+            return true;
+        }
+
+        Expression expression = elements.as(ExpressionWebElements.class).getExpression();
+        return invoker.waitForExpressionSize(documentDriver, expression.getJavascript(), predicate.getSize(), predicate.isNegated(),
+                timeoutMillis, intervalMillis, args(expression));
+    }
+
+    private Object[] args(Expression expression) {
+        Object[] args = expression.getArgs();
+        return args == null ? new Object[0] : args;
+    }
+
+    private Duration remaining(Duration timeout, long start) {
+        long elapsed = System.currentTimeMillis() - start;
+        return new Duration(Math.max(0, timeout.getUnit().toMillis(timeout.getTime()) - elapsed), TimeUnit.MILLISECONDS);
+    }
+}
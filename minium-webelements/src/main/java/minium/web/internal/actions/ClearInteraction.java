@@ -36,6 +36,6 @@ public class ClearInteraction extends KeyboardInteraction {
      */
     @Override
     protected void doPerform() {
-        getFirstElement().clear();
+        getFirstDocumentElement().clear();
     }
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import minium.actions.Interactable;
+import minium.actions.Interaction;
+import minium.actions.KeyboardInteractable;
+import minium.actions.MouseInteractable;
+import minium.actions.WaitInteractable;
+import minium.internal.Chainable;
+import minium.web.actions.AsyncWebInteractable;
+import minium.web.actions.HasAsyncWebInteractable;
+import minium.web.actions.WebInteractable;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+public class DefaultHasAsyncWebInteractable<T extends Interactable<?>> extends Chainable<T> implements HasAsyncWebInteractable<T> {
+
+    // idle executor threads are released after this time, so browsers don't need to shut them down
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60;
+
+    class DefaultAsyncWebInteractable implements AsyncWebInteractable<T> {
+
+        @Override
+        public CompletableFuture<T> perform(final Interaction interaction) {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    DefaultHasAsyncWebInteractable.this.as(Interactable.class).perform(interaction);
+                }
+            });
+        }
+
+        @Override
+        public <V> CompletableFuture<V> call(final Callable<V> task) {
+            final CompletableFuture<V> future = new CompletableFuture<V>();
+            Runnable runnable = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        future.complete(task.call());
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                }
+            };
+            if (isDrivingBrowser()) {
+                // this thread is inside another interaction (e.g. in a listener) and holds the browser, so
+                // queuing the task would deadlock as soon as that interaction waits for the returned future
+                runnable.run();
+            } else {
+                executor.execute(runnable);
+            }
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<T> click() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    mouse().click();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> doubleClick() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    mouse().doubleClick();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> contextClick() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    mouse().contextClick();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> moveTo() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    mouse().moveTo();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> clear() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    keyboard().clear();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> sendKeys(final CharSequence... keys) {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    keyboard().sendKeys(keys);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> type(final CharSequence text) {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    keyboard().type(text);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> fill(final CharSequence text) {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    keyboard().fill(text);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> submit() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    web().submit();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> check() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    web().check();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> uncheck() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    web().uncheck();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> select(final String text) {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    web().select(text);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> selectVal(final String value) {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    web().selectVal(value);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> scrollIntoView() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    web().scrollIntoView();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> waitForExistence() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    waits().waitForExistence();
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<T> waitForUnexistence() {
+            return interact(new Runnable() {
+                @Override
+                public void run() {
+                    waits().waitForUnexistence();
+                }
+            });
+        }
+
+        private CompletableFuture<T> interact(final Runnable interaction) {
+            return call(new Callable<T>() {
+                @Override
+                public T call() {
+                    interaction.run();
+                    return myself();
+                }
+            });
+        }
+    }
+
+    private final Executor executor;
+
+    /**
+     * @param executor executor where asynchronous interactions run, which must run them one at a
+     *        time (see {@link SerialInteractionExecutor})
+     */
+    public DefaultHasAsyncWebInteractable(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public AsyncWebInteractable<T> async() {
+        return new DefaultAsyncWebInteractable();
+    }
+
+    /**
+     * Creates an executor that runs tasks one at a time, in submission order. Its thread is a
+     * daemon thread and is released when idle.
+     *
+     * @return a new serial executor
+     */
+    public static ExecutorService newSerialExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("minium-async-%d").build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    protected boolean isDrivingBrowser() {
+        return executor instanceof SerialInteractionExecutor && ((SerialInteractionExecutor) executor).isHeldByCurrentThread();
+    }
+
+    protected MouseInteractable<?> mouse() {
+        return this.as(MouseInteractable.class);
+    }
+
+    protected KeyboardInteractable<?> keyboard() {
+        return this.as(KeyboardInteractable.class);
+    }
+
+    protected WebInteractable<?> web() {
+        return this.as(WebInteractable.class);
+    }
+
+    protected WaitInteractable<?> waits() {
+        return this.as(WaitInteractable.class);
+    }
+}
@@ -15,14 +15,131 @@
  */
 package minium.web.internal.actions;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import minium.Elements;
 import minium.Offsets.Offset;
+import minium.actions.Gesture;
 import minium.actions.Interactable;
+import minium.actions.Keys;
 import minium.actions.MouseInteractable;
 import minium.actions.internal.AbstractInteractable;
+import minium.web.internal.actions.GestureInteraction.PointerAction;
+
+import com.google.common.collect.Lists;
 
 public class DefaultMouseInteractable<T extends Interactable<?>> extends AbstractInteractable<T> implements MouseInteractable<T> {
 
+    class DefaultGesture implements Gesture<T> {
+
+        private final List<GestureInteraction.Step> steps = Lists.newArrayList();
+
+        @Override
+        public Gesture<T> moveTo() {
+            return moveTo(getSource(), null);
+        }
+
+        @Override
+        public Gesture<T> moveTo(Offset offset) {
+            return moveTo(getSource(), offset);
+        }
+
+        @Override
+        public Gesture<T> moveTo(Elements target) {
+            return moveTo(target, null);
+        }
+
+        @Override
+        public Gesture<T> moveTo(Elements target, Offset offset) {
+            return pointer(PointerAction.MOVE, target, offset);
+        }
+
+        @Override
+        public Gesture<T> clickAndHold() {
+            return clickAndHold(null);
+        }
+
+        @Override
+        public Gesture<T> clickAndHold(Elements target) {
+            return pointer(PointerAction.CLICK_AND_HOLD, target, null);
+        }
+
+        @Override
+        public Gesture<T> release() {
+            return release(null);
+        }
+
+        @Override
+        public Gesture<T> release(Elements target) {
+            return pointer(PointerAction.RELEASE, target, null);
+        }
+
+        @Override
+        public Gesture<T> click() {
+            return click(null);
+        }
+
+        @Override
+        public Gesture<T> click(Elements target) {
+            return pointer(PointerAction.CLICK, target, null);
+        }
+
+        @Override
+        public Gesture<T> doubleClick() {
+            return doubleClick(null);
+        }
+
+        @Override
+        public Gesture<T> doubleClick(Elements target) {
+            return pointer(PointerAction.DOUBLE_CLICK, target, null);
+        }
+
+        @Override
+        public Gesture<T> contextClick() {
+            return contextClick(null);
+        }
+
+        @Override
+        public Gesture<T> contextClick(Elements target) {
+            return pointer(PointerAction.CONTEXT_CLICK, target, null);
+        }
+
+        @Override
+        public Gesture<T> keyDown(Keys keys) {
+            steps.add(new GestureInteraction.KeyStep(true, keys));
+            return this;
+        }
+
+        @Override
+        public Gesture<T> keyUp(Keys keys) {
+            steps.add(new GestureInteraction.KeyStep(false, keys));
+            return this;
+        }
+
+        @Override
+        public Gesture<T> sendKeys(CharSequence... keys) {
+            steps.add(new GestureInteraction.SendKeysStep(keys));
+            return this;
+        }
+
+        @Override
+        public Gesture<T> pause(long time, TimeUnit unit) {
+            steps.add(new GestureInteraction.PauseStep(time, unit));
+            return this;
+        }
+
+        @Override
+        public T perform() {
+            return DefaultMouseInteractable.this.perform(new GestureInteraction(getSource(), steps));
+        }
+
+        private Gesture<T> pointer(PointerAction action, Elements target, Offset offset) {
+            steps.add(new GestureInteraction.PointerStep(action, target, offset));
+            return this;
+        }
+    }
+
     @Override
     public T clickAndHold() {
         return clickAndHold(null);
@@ -94,4 +211,9 @@ public class DefaultMouseInteractable<T extends Interactable<?>> extends Abstrac
         perform(new DragAndDropInteraction(getSource(), null, target, null));
         return myself();
     }
+
+    @Override
+    public Gesture<T> gesture() {
+        return new DefaultGesture();
+    }
 }
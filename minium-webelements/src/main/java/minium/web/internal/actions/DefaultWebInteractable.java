@@ -15,6 +15,8 @@
  */
 package minium.web.internal.actions;
 
+import java.util.Map;
+
 import minium.actions.Interactable;
 import minium.actions.internal.AbstractInteractable;
 import minium.web.actions.WebInteractable;
@@ -67,6 +69,17 @@ public class DefaultWebInteractable<T extends Interactable<?>> extends AbstractI
         return perform(new DeselectAllInteraction(getSource()));
     }
 
+    // fill
+    @Override
+    public T fastFill(CharSequence text) {
+        return perform(new FillInteraction(getSource(), text, true));
+    }
+
+    @Override
+    public T fillForm(Map<String, ? extends CharSequence> values) {
+        return perform(new FillFormInteraction(getSource(), values));
+    }
+
     @Override
     public T scrollIntoView() {
         return perform(new ScrollIntoViewInteraction(getSource()));
@@ -36,6 +36,11 @@ public class DeselectAllInteraction extends SelectionInteraction {
      */
     @Override
     protected void doPerform() {
-        getSelectElement().deselectAll();
+        Integer matched = selectOptions(ALL, null, false);
+        if (matched == null) {
+            getSelectElement().deselectAll();
+        } else if (matched == MULTI_SELECT_REQUIRED) {
+            throw new UnsupportedOperationException("You may only deselect all options of a multi-select");
+        }
     }
 }
@@ -40,6 +40,13 @@ public class DeselectInteraction extends SelectionInteraction {
      */
     @Override
     protected void doPerform() {
-        getSelectElement().deselectByVisibleText(text);
+        Integer matched = selectOptions(BY_TEXT, text, false);
+        if (matched == null) {
+            getSelectElement().deselectByVisibleText(text);
+        } else if (matched == MULTI_SELECT_REQUIRED) {
+            throw new UnsupportedOperationException("You may only deselect options of a multi-select");
+        } else if (matched == DISABLED_OPTION) {
+            throw new UnsupportedOperationException("You may not deselect a disabled option");
+        }
     }
 }
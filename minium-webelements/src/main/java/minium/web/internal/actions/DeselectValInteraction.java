@@ -40,7 +40,14 @@ public class DeselectValInteraction extends SelectionInteraction {
      */
     @Override
     protected void doPerform() {
-        getSelectElement().deselectByValue(val);
+        Integer matched = selectOptions(BY_VAL, val, false);
+        if (matched == null) {
+            getSelectElement().deselectByValue(val);
+        } else if (matched == MULTI_SELECT_REQUIRED) {
+            throw new UnsupportedOperationException("You may only deselect options of a multi-select");
+        } else if (matched == DISABLED_OPTION) {
+            throw new UnsupportedOperationException("You may not deselect a disabled option");
+        }
     }
 
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+
+import minium.Elements;
+import minium.actions.Interactable;
+import minium.web.BasicWebElements;
+import minium.web.internal.FastFillWebElements;
+
+/**
+ * Fills several fields inside the source elements. Fields are set in a single javascript
+ * evaluation, and only the ones that need it (missing, with key handlers or with special keys
+ * to send) are then typed one by one.
+ */
+public class FillFormInteraction extends KeyboardInteraction {
+
+    private final Map<String, ? extends CharSequence> values;
+
+    /**
+     * Instantiates a new fill form interaction.
+     *
+     * @param source the source
+     * @param values the text to fill, by field selector
+     */
+    public FillFormInteraction(Elements source, Map<String, ? extends CharSequence> values) {
+        super(source);
+        this.values = values;
+    }
+
+    @Override
+    protected void doPerform() {
+        Map<String, String> fastValues = Maps.newLinkedHashMap();
+        for (Entry<String, ? extends CharSequence> entry : values.entrySet()) {
+            if (!hasSpecialKeys(entry.getValue())) fastValues.put(entry.getKey(), entry.getValue().toString());
+        }
+
+        List<String> unfilled = fastValues.isEmpty() ? ImmutableList.<String>of() : getSource().as(FastFillWebElements.class).fastFillAll(fastValues);
+
+        for (Entry<String, ? extends CharSequence> entry : values.entrySet()) {
+            String selector = entry.getKey();
+            if (fastValues.containsKey(selector) && unfilled != null && !unfilled.contains(selector)) continue;
+            // like any other interaction, so that listeners are called and it runs in the interaction runner
+            Elements field = getSource().as(BasicWebElements.class).find(selector);
+            field.as(Interactable.class).perform(new FillInteraction(field, entry.getValue(), false));
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.openqa.selenium.WebElement;
 public class FillInteraction extends KeyboardInteraction {
 
     private CharSequence text;
+    private Boolean fast;
 
     /**
      * Instantiates a new fill interaction.
@@ -33,8 +34,20 @@ public class FillInteraction extends KeyboardInteraction {
      * @param text the text
      */
     public FillInteraction(Elements source, CharSequence text) {
+        this(source, text, null);
+    }
+
+    /**
+     * Instantiates a new fill interaction.
+     *
+     * @param source the source
+     * @param text the text
+     * @param fast if the text is set directly in the page, or null to use the waiting preset choice
+     */
+    public FillInteraction(Elements source, CharSequence text, Boolean fast) {
         super(source);
         this.text = text;
+        this.fast = fast;
     }
 
     /* (non-Javadoc)
@@ -42,7 +55,9 @@ public class FillInteraction extends KeyboardInteraction {
      */
     @Override
     protected void doPerform() {
-        WebElement elem = getFirstElement();
+        if (fastFill(text, false, fast)) return;
+
+        WebElement elem = getFirstDocumentElement();
         elem.clear();
         elem.sendKeys(text);
     }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import minium.Dimension;
+import minium.Elements;
+import minium.FreezableElements;
+import minium.Offsets.Offset;
+import minium.Point;
+import minium.actions.Keys;
+import minium.actions.internal.WaitPredicates;
+import minium.web.internal.InternalWebElements;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+
+/**
+ * Performs a recorded sequence of mouse and keyboard steps with a single {@link Actions} chain,
+ * so that drivers supporting W3C actions receive them in a single command. Existence of the
+ * source and of all step targets is checked before performing any step.
+ */
+public class GestureInteraction extends MouseInteraction {
+
+    enum PointerAction {
+        MOVE, CLICK_AND_HOLD, RELEASE, CLICK, DOUBLE_CLICK, CONTEXT_CLICK
+    }
+
+    /**
+     * A single step of a gesture.
+     */
+    abstract static class Step {
+
+        /**
+         * @return elements this step targets, or null if it acts at the current location
+         */
+        Elements getTarget() {
+            return null;
+        }
+
+        abstract void addTo(GestureInteraction gesture, Actions actions);
+    }
+
+    static class PointerStep extends Step {
+        private final PointerAction action;
+        private final Elements target;
+        private final Offset offset;
+
+        PointerStep(PointerAction action, Elements target, Offset offset) {
+            // offsets are relative to an element, and document roots have none
+            checkArgument(offset == null || target == null || !isDocumentRoots(target), "Offsets are not supported on document roots");
+            this.action = action;
+            this.target = target;
+            this.offset = offset;
+        }
+
+        @Override
+        Elements getTarget() {
+            return target;
+        }
+
+        @Override
+        void addTo(GestureInteraction gesture, Actions actions) {
+            if (target != null) {
+                WebElement elem = gesture.getTargetElement(target);
+                if (offset != null) {
+                    Point offsetPoint = offset.offset(gesture.getTargetSize(target));
+                    actions.moveToElement(elem, offsetPoint.x(), offsetPoint.y());
+                } else if (elem != null) {
+                    actions.moveToElement(elem);
+                }
+            }
+            switch (action) {
+            case MOVE:
+                break;
+            case CLICK_AND_HOLD:
+                actions.clickAndHold();
+                break;
+            case RELEASE:
+                actions.release();
+                break;
+            case CLICK:
+                actions.click();
+                break;
+            case DOUBLE_CLICK:
+                actions.doubleClick();
+                break;
+            case CONTEXT_CLICK:
+                actions.contextClick();
+                break;
+            }
+        }
+    }
+
+    static class KeyStep extends Step {
+        private final boolean down;
+        private final Keys keys;
+
+        KeyStep(boolean down, Keys keys) {
+            this.down = down;
+            this.keys = keys;
+        }
+
+        @Override
+        void addTo(GestureInteraction gesture, Actions actions) {
+            org.openqa.selenium.Keys seleniumKeys = org.openqa.selenium.Keys.getKeyFromUnicode(keys.getKeyCode());
+            if (down) {
+                actions.keyDown(seleniumKeys);
+            } else {
+                actions.keyUp(seleniumKeys);
+            }
+        }
+    }
+
+    static class SendKeysStep extends Step {
+        private final CharSequence[] keys;
+
+        SendKeysStep(CharSequence... keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        void addTo(GestureInteraction gesture, Actions actions) {
+            actions.sendKeys(keys);
+        }
+    }
+
+    static class PauseStep extends Step {
+        private final long millis;
+
+        PauseStep(long time, TimeUnit unit) {
+            this.millis = unit.toMillis(time);
+        }
+
+        @Override
+        void addTo(GestureInteraction gesture, Actions actions) {
+            actions.pause(millis);
+        }
+    }
+
+    private final Elements originalSource;
+    private final List<Step> steps;
+    // frozen version of each step target, so that each one is evaluated only once
+    private Map<Elements, Elements> targets;
+
+    public GestureInteraction(Elements source, List<Step> steps) {
+        super(source, null);
+        this.originalSource = source;
+        this.steps = ImmutableList.copyOf(steps);
+        freezeTargets();
+    }
+
+    @Override
+    public void refreeze() {
+        super.refreeze();
+        // called by the super constructor before steps are set
+        if (steps != null) freezeTargets();
+    }
+
+    @Override
+    public void waitToPerform() {
+        super.waitToPerform();
+        for (Elements target : targets.values()) {
+            // document roots always exist
+            if (target != getSource() && !isDocumentRoots(target)) wait(target, getWaitingPreset(), WaitPredicates.forExistence());
+        }
+    }
+
+    @Override
+    protected void doPerform() {
+        Actions actions = getActions();
+        for (Step step : steps) {
+            step.addTo(this, actions);
+        }
+        actions.perform();
+    }
+
+    WebElement getTargetElement(Elements target) {
+        Elements frozenTarget = targets.get(target);
+        return isDocumentRoots(frozenTarget) ? null : getFirstElement(frozenTarget);
+    }
+
+    Dimension getTargetSize(Elements target) {
+        WebElement elem = Iterables.getFirst(targets.get(target).as(InternalWebElements.class).wrappedNativeElements(), null);
+        org.openqa.selenium.Dimension size = elem.getSize();
+        return new Dimension(size.width, size.height);
+    }
+
+    private static boolean isDocumentRoots(Elements target) {
+        return target.is(InternalWebElements.class) && target.as(InternalWebElements.class).isDocumentRoots();
+    }
+
+    private void freezeTargets() {
+        Map<Elements, Elements> frozenTargets = new IdentityHashMap<Elements, Elements>();
+        for (Step step : steps) {
+            Elements target = step.getTarget();
+            if (target == null || frozenTargets.containsKey(target)) continue;
+            if (target == originalSource) {
+                frozenTargets.put(target, getSource());
+            } else {
+                frozenTargets.put(target, target.is(FreezableElements.class) ? target.as(FreezableElements.class).freeze() : target);
+            }
+        }
+        targets = frozenTargets;
+    }
+}
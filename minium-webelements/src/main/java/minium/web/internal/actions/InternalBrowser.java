@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.OutputType;
@@ -36,7 +37,9 @@ import minium.actions.Configuration;
 import minium.actions.Duration;
 import minium.actions.ExceptionHandler;
 import minium.actions.HasConfiguration;
+import minium.actions.InteractionEvent;
 import minium.actions.InteractionListener;
+import minium.actions.WaitStrategy;
 import minium.actions.internal.AbstractInteraction;
 import minium.internal.HasElementsFactory;
 import minium.web.BasicWebElements;
@@ -204,6 +207,39 @@ public class InternalBrowser<T extends WebElements> implements Browser<T> {
             return this;
         }
 
+        @Override
+        public WaitStrategy defaultWaitStrategy() {
+            return getConfiguration().defaultWaitStrategy();
+        }
+
+        @Override
+        public Configuration defaultWaitStrategy(WaitStrategy defaultWaitStrategy) {
+            getConfiguration().defaultWaitStrategy(defaultWaitStrategy);
+            return this;
+        }
+
+        @Override
+        public boolean defaultFastFill() {
+            return getConfiguration().defaultFastFill();
+        }
+
+        @Override
+        public Configuration defaultFastFill(boolean defaultFastFill) {
+            getConfiguration().defaultFastFill(defaultFastFill);
+            return this;
+        }
+
+        @Override
+        public boolean nativeSelection() {
+            return getConfiguration().nativeSelection();
+        }
+
+        @Override
+        public Configuration nativeSelection(boolean nativeSelection) {
+            getConfiguration().nativeSelection(nativeSelection);
+            return this;
+        }
+
         @Override
         public WaitingPreset waitingPreset(final String preset) {
             final WaitingPreset waitingPreset = getConfiguration().waitingPreset(preset);
@@ -249,6 +285,28 @@ public class InternalBrowser<T extends WebElements> implements Browser<T> {
                     return this;
                 }
 
+                @Override
+                public WaitStrategy waitStrategy() {
+                    return waitingPreset.waitStrategy();
+                }
+
+                @Override
+                public WaitingPreset waitStrategy(WaitStrategy waitStrategy) {
+                    waitingPreset.waitStrategy(waitStrategy);
+                    return this;
+                }
+
+                @Override
+                public boolean fastFill() {
+                    return waitingPreset.fastFill();
+                }
+
+                @Override
+                public WaitingPreset fastFill(boolean fastFill) {
+                    waitingPreset.fastFill(fastFill);
+                    return this;
+                }
+
                 @Override
                 public Configuration done() {
                     return InternalWebConfiguration.this;
@@ -288,6 +346,11 @@ public class InternalBrowser<T extends WebElements> implements Browser<T> {
                     interactionListeners.add(interactionListener);
                     return this;
                 }
+
+                @Override
+                public List<InteractionListener> listeners(InteractionEvent.Type type) {
+                    return interactionListeners.listeners(type);
+                }
             };
         }
 
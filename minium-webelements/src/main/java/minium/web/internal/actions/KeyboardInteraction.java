@@ -16,6 +16,7 @@
 package minium.web.internal.actions;
 
 import minium.Elements;
+import minium.web.internal.FastFillWebElements;
 import minium.web.internal.InternalWebElements;
 
 import org.openqa.selenium.interactions.Keyboard;
@@ -38,4 +39,31 @@ public abstract class KeyboardInteraction extends AbstractWebInteraction {
         return getSource().as(InternalWebElements.class).documentDriver().getKeyboard();
     }
 
+    /**
+     * Sets the text in the first source element through javascript, if fast fill is enabled for
+     * this interaction (or, when <code>fast</code> is null, for its waiting preset). Document roots,
+     * special keys and fields with key handlers still need the text to be typed.
+     *
+     * @param text the text
+     * @param append if text is appended to the current value
+     * @param fast explicit fast fill choice, or null to use the waiting preset one
+     * @return true if the text was set, false if it must be typed instead
+     */
+    protected boolean fastFill(CharSequence text, boolean append, Boolean fast) {
+        boolean enabled = fast != null ? fast.booleanValue() : configure().waitingPreset(getWaitingPreset()).fastFill();
+        if (!enabled || isSourceDocumentRoot() || hasSpecialKeys(text)) return false;
+        return Boolean.TRUE.equals(getSource().as(FastFillWebElements.class).fastFill(text.toString(), append));
+    }
+
+    /**
+     * Selenium {@link org.openqa.selenium.Keys} are chars in the unicode private use area.
+     */
+    protected static boolean hasSpecialKeys(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\uE000' && c <= '\uF8FF') return true;
+        }
+        return false;
+    }
+
 }
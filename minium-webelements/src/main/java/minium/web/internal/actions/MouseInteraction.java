@@ -38,7 +38,7 @@ public abstract class MouseInteraction extends AbstractWebInteraction {
     }
 
     protected Dimension getSize() {
-        org.openqa.selenium.Dimension size = getFirstElement().getSize();
+        org.openqa.selenium.Dimension size = getFirstDocumentElement().getSize();
         return new Dimension(size.width, size.height);
     }
 
@@ -39,9 +39,15 @@ public class SelectAllInteraction extends SelectionInteraction {
      */
     @Override
     protected void doPerform() {
+        Integer matched = selectOptions(ALL, null, true);
+        if (matched != null) {
+            if (matched == MULTI_SELECT_REQUIRED) throw new UnsupportedOperationException("You may only select all options of a multi-select");
+            return;
+        }
+
         Select select = getSelectElement();
         if (!select.isMultiple()) {
-            throw new UnsupportedOperationException("You may only deselect all options of a multi-select");
+            throw new UnsupportedOperationException("You may only select all options of a multi-select");
         }
 
         for (WebElement option : select.getOptions()) {
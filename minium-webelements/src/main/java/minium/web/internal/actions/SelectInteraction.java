@@ -17,6 +17,8 @@ package minium.web.internal.actions;
 
 import minium.Elements;
 
+import org.openqa.selenium.NoSuchElementException;
+
 /**
  * The Class SelectInteraction.
  */
@@ -40,7 +42,14 @@ public class SelectInteraction extends SelectionInteraction {
      */
     @Override
     protected void doPerform() {
-        getSelectElement().selectByVisibleText(text);
+        Integer matched = selectOptions(BY_TEXT, text, true);
+        if (matched == null) {
+            getSelectElement().selectByVisibleText(text);
+        } else if (matched == 0) {
+            throw new NoSuchElementException("Cannot locate element with text: " + text);
+        } else if (matched == DISABLED_OPTION) {
+            throw new UnsupportedOperationException("You may not select a disabled option");
+        }
     }
 
 }
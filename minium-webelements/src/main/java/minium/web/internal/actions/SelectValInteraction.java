@@ -17,6 +17,8 @@ package minium.web.internal.actions;
 
 import minium.Elements;
 
+import org.openqa.selenium.NoSuchElementException;
+
 /**
  * The Class SelectValInteraction.
  */
@@ -40,6 +42,13 @@ public class SelectValInteraction extends SelectionInteraction {
      */
     @Override
     protected void doPerform() {
-        getSelectElement().selectByValue(val);
+        Integer matched = selectOptions(BY_VAL, val, true);
+        if (matched == null) {
+            getSelectElement().selectByValue(val);
+        } else if (matched == 0) {
+            throw new NoSuchElementException("Cannot locate option with value: " + val);
+        } else if (matched == DISABLED_OPTION) {
+            throw new UnsupportedOperationException("You may not select a disabled option");
+        }
     }
 }
@@ -16,14 +16,25 @@
 package minium.web.internal.actions;
 
 import minium.Elements;
+import minium.web.internal.SelectionWebElements;
 
 import org.openqa.selenium.support.ui.Select;
 
 /**
- * The Class SelectionInteraction.
+ * The Class SelectionInteraction. Options are selected in a single script evaluation, unless
+ * native selection is configured or the element is not a select, in which case
+ * {@link Select} is used.
  */
 public abstract class SelectionInteraction extends AbstractWebInteraction {
 
+    protected static final String BY_TEXT = "text";
+    protected static final String BY_VAL = "val";
+    protected static final String ALL = "all";
+
+    // results of selectOptions other than the number of matched options
+    protected static final int MULTI_SELECT_REQUIRED = -1;
+    protected static final int DISABLED_OPTION = -2;
+
     /**
      * Instantiates a new selection interaction.
      *
@@ -39,7 +50,22 @@ public abstract class SelectionInteraction extends AbstractWebInteraction {
      * @return the select element
      */
     protected Select getSelectElement() {
-        return new Select(getFirstElement());
+        return new Select(getFirstDocumentElement());
+    }
+
+    /**
+     * Selects or deselects options of the select element in a single script evaluation.
+     *
+     * @param by {@link #BY_TEXT}, {@link #BY_VAL} or {@link #ALL}
+     * @param value the text or value to match
+     * @param selected true to select options, false to deselect them
+     * @return the number of matched options, {@link #MULTI_SELECT_REQUIRED} if only a multi-select
+     *         supports the operation, {@link #DISABLED_OPTION} if a matched option that must change
+     *         is disabled, or null if {@link #getSelectElement()} must be used instead
+     */
+    protected Integer selectOptions(String by, String value, boolean selected) {
+        if (configure().nativeSelection()) return null;
+        return getSource().as(SelectionWebElements.class).selectOptions(by, value, selected);
     }
 
 }
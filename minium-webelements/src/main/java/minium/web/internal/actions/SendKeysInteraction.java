@@ -45,7 +45,7 @@ public class SendKeysInteraction extends KeyboardInteraction {
         if (isSourceDocumentRoot()) {
             keyboard().sendKeys(keys);
         } else {
-            getFirstElement().sendKeys(keys);
+            getFirstDocumentElement().sendKeys(keys);
         }
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import minium.actions.Interaction;
+import minium.actions.internal.InteractionRunner;
+
+/**
+ * Runs the interactions of a browser one at a time, so that its web driver is never used by two
+ * threads at once. Asynchronous interactions run in a single thread, in the order they were
+ * requested. Synchronous interactions run in the calling thread, after the asynchronous
+ * interactions requested before them.
+ * <p>
+ * Other synchronous methods (like {@code text()}) are not ordered with asynchronous interactions,
+ * so they must only be called once pending futures are completed. Interaction listeners of
+ * asynchronous interactions are called in the executor thread. Asynchronous interactions requested
+ * by the thread that is driving the browser (e.g. by a listener) run immediately in that thread.
+ */
+public class SerialInteractionExecutor implements Executor, InteractionRunner {
+
+    private static final Runnable NOOP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    private final Executor executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    // held by the thread that is currently driving the browser
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SerialInteractionExecutor() {
+        this(DefaultHasAsyncWebInteractable.newSerialExecutor());
+    }
+
+    /**
+     * @param executor executor that runs tasks one at a time, in submission order
+     */
+    public SerialInteractionExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        pending.incrementAndGet();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                lock.lock();
+                try {
+                    task.run();
+                } finally {
+                    lock.unlock();
+                    pending.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * @return true if the current thread is driving the browser, that is, it is performing an
+     *         interaction or running an asynchronous task
+     */
+    public boolean isHeldByCurrentThread() {
+        return lock.isHeldByCurrentThread();
+    }
+
+    @Override
+    public void run(Interaction interaction) {
+        // interactions performed inside another interaction must not wait for it
+        if (!lock.isHeldByCurrentThread() && pending.get() > 0) {
+            // tasks run in submission order, so once this one runs, all previous ones are done
+            CompletableFuture.runAsync(NOOP, executor).join();
+        }
+        lock.lock();
+        try {
+            interaction.perform();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -32,7 +32,7 @@ public class SubmitInteraction extends AbstractWebInteraction {
      */
     @Override
     protected void doPerform() {
-        getFirstElement().submit();
+        getFirstDocumentElement().submit();
     }
 
 }
@@ -22,6 +22,9 @@ import minium.Elements;
  */
 public class TypeInteraction extends SendKeysInteraction {
 
+    private CharSequence text;
+    private Boolean fast;
+
     /**
      * Instantiates a new type interaction.
      *
@@ -29,6 +32,26 @@ public class TypeInteraction extends SendKeysInteraction {
      * @param text the text
      */
     public TypeInteraction(Elements source, CharSequence text) {
+        this(source, text, null);
+    }
+
+    /**
+     * Instantiates a new type interaction.
+     *
+     * @param source the source
+     * @param text the text
+     * @param fast if the text is appended directly in the page, or null to use the waiting preset choice
+     */
+    public TypeInteraction(Elements source, CharSequence text, Boolean fast) {
         super(source, text);
+        this.text = text;
+        this.fast = fast;
+    }
+
+    @Override
+    protected void doPerform() {
+        if (fastFill(text, true, fast)) return;
+
+        super.doPerform();
     }
 }
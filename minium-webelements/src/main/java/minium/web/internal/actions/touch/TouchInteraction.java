@@ -63,7 +63,7 @@ public abstract class TouchInteraction extends AbstractWebInteraction {
     }
 
     protected Dimension getSize() {
-        org.openqa.selenium.Dimension size = getFirstElement().getSize();
+        org.openqa.selenium.Dimension size = getFirstDocumentElement().getSize();
         return new Dimension(size.width, size.height);
     }
 
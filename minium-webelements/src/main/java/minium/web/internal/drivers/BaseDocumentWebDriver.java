@@ -22,6 +22,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -31,6 +33,7 @@ import org.openqa.selenium.interactions.HasInputDevices;
 import org.openqa.selenium.interactions.Keyboard;
 import org.openqa.selenium.interactions.Mouse;
 
+import com.google.common.base.Function;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 
@@ -40,22 +43,32 @@ import minium.web.utils.PerformanceUtils;
 public abstract class BaseDocumentWebDriver implements InternalDocumentWebDriver {
 
     protected final WebDriver webDriver;
+    protected final SwitchContextTracker switchContext;
 
     public BaseDocumentWebDriver(WebDriver webDriver) {
         Preconditions.checkArgument(webDriver != null && !(webDriver instanceof DocumentWebDriver));
         this.webDriver = webDriver;
+        this.switchContext = SwitchContextTracker.forWebDriver(webDriver);
     }
 
     @Override
     public void get(String url) {
         ensureSwitch();
-        webDriver.get(url);
+        try {
+            webDriver.get(url);
+        } finally {
+            switchContext.invalidate();
+        }
     }
 
     @Override
     public String getCurrentUrl() {
-        ensureSwitch();
-        return webDriver.getCurrentUrl();
+        return execute(new Function<WebDriver, String>() {
+            @Override
+            public String apply(WebDriver wd) {
+                return wd.getCurrentUrl();
+            }
+        });
     }
 
     public String getPerformance() {
@@ -65,36 +78,57 @@ public abstract class BaseDocumentWebDriver implements InternalDocumentWebDriver
 
     @Override
     public String getTitle() {
-        ensureSwitch();
-        return webDriver.getTitle();
+        return execute(new Function<WebDriver, String>() {
+            @Override
+            public String apply(WebDriver wd) {
+                return wd.getTitle();
+            }
+        });
     }
 
     @Override
-    public List<WebElement> findElements(By by) {
-        ensureSwitch();
-        return webDriver.findElements(by);
+    public List<WebElement> findElements(final By by) {
+        return execute(new Function<WebDriver, List<WebElement>>() {
+            @Override
+            public List<WebElement> apply(WebDriver wd) {
+                return wd.findElements(by);
+            }
+        });
     }
 
     @Override
-    public WebElement findElement(By by) {
-        ensureSwitch();
-        return webDriver.findElement(by);
+    public WebElement findElement(final By by) {
+        return execute(new Function<WebDriver, WebElement>() {
+            @Override
+            public WebElement apply(WebDriver wd) {
+                return wd.findElement(by);
+            }
+        });
     }
 
     @Override
     public String getPageSource() {
-        ensureSwitch();
-        return webDriver.getPageSource();
+        return execute(new Function<WebDriver, String>() {
+            @Override
+            public String apply(WebDriver wd) {
+                return wd.getPageSource();
+            }
+        });
     }
 
     @Override
     public void close() {
         ensureSwitch();
-        webDriver.close();
+        try {
+            webDriver.close();
+        } finally {
+            switchContext.invalidate();
+        }
     }
 
     @Override
     public void quit() {
+        switchContext.invalidate();
         webDriver.quit();
     }
 
@@ -106,19 +140,26 @@ public abstract class BaseDocumentWebDriver implements InternalDocumentWebDriver
 
     @Override
     public String getWindowHandle() {
-        ensureSwitch();
-        return webDriver.getWindowHandle();
+        return execute(new Function<WebDriver, String>() {
+            @Override
+            public String apply(WebDriver wd) {
+                return wd.getWindowHandle();
+            }
+        });
     }
 
     @Override
     public TargetLocator switchTo() {
         ensureSwitch();
+        // callers may switch to a different context, so we can no longer trust the tracked one
+        switchContext.invalidate();
         return webDriver.switchTo();
     }
 
     @Override
     public Navigation navigate() {
         ensureSwitch();
+        switchContext.invalidate();
         return webDriver.navigate();
     }
 
@@ -129,15 +170,23 @@ public abstract class BaseDocumentWebDriver implements InternalDocumentWebDriver
     }
 
     @Override
-    public Object executeScript(String script, Object... args) {
-        ensureSwitch();
-        return ((JavascriptExecutor) webDriver).executeScript(script, args);
+    public Object executeScript(final String script, final Object... args) {
+        return execute(new Function<WebDriver, Object>() {
+            @Override
+            public Object apply(WebDriver wd) {
+                return ((JavascriptExecutor) wd).executeScript(script, args);
+            }
+        });
     }
 
     @Override
-    public Object executeAsyncScript(String script, Object... args) {
-        ensureSwitch();
-        return ((JavascriptExecutor) webDriver).executeAsyncScript(script, args);
+    public Object executeAsyncScript(final String script, final Object... args) {
+        return execute(new Function<WebDriver, Object>() {
+            @Override
+            public Object apply(WebDriver wd) {
+                return ((JavascriptExecutor) wd).executeAsyncScript(script, args);
+            }
+        });
     }
 
     @Override
@@ -166,6 +215,28 @@ public abstract class BaseDocumentWebDriver implements InternalDocumentWebDriver
         return webDriver;
     }
 
+    public SwitchContextTracker getSwitchContext() {
+        return switchContext;
+    }
+
+    /**
+     * Switches to this document and applies the function to the native web driver. If the
+     * document's frame or window no longer exists, the tracked switch context is invalidated.
+     */
+    protected <T> T execute(Function<WebDriver, T> fn) {
+        ensureSwitch();
+        try {
+            return fn.apply(webDriver);
+        } catch (NoSuchFrameException | NoSuchWindowException e) {
+            throw contextLost(e);
+        }
+    }
+
+    protected WebDriverException contextLost(WebDriverException e) {
+        switchContext.invalidate();
+        return e;
+    }
+
     @Override
     public int hashCode() {
         return webDriver.hashCode();
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import minium.web.DelegatorWebDriver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+
+/**
+ * Preloads minium javascript in Chrome using DevTools
+ * {@code Page.addScriptToEvaluateOnNewDocument} command. For any other browser,
+ * or if chromedriver does not support it, nothing is preloaded. Each script is only
+ * registered once per web driver session.
+ */
+public class ChromeDevToolsJavascriptPreloader implements JavascriptPreloader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChromeDevToolsJavascriptPreloader.class);
+
+    static final String SEND_COMMAND = "sendDevToolsCommandAndGetResult";
+    static final String ADD_SCRIPT_COMMAND = "Page.addScriptToEvaluateOnNewDocument";
+
+    private static final CommandInfo SEND_COMMAND_INFO = new CommandInfo("/session/:sessionId/chromium/send_command_and_get_result", HttpMethod.POST);
+
+    // scripts already registered in each web driver
+    private final LoadingCache<RemoteWebDriver, Set<String>> preloadedScripts = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<RemoteWebDriver, Set<String>>() {
+                @Override
+                public Set<String> load(RemoteWebDriver webDriver) {
+                    return Collections.synchronizedSet(Sets.<String>newHashSet());
+                }
+            });
+
+    @Override
+    public boolean preload(WebDriver webDriver, String script) {
+        RemoteWebDriver remoteWebDriver = unwrap(webDriver);
+        if (remoteWebDriver == null || !isChrome(remoteWebDriver)) return false;
+
+        Set<String> scripts = preloadedScripts.getUnchecked(remoteWebDriver);
+        if (scripts.contains(script)) return true;
+
+        CommandExecutor executor = remoteWebDriver.getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) return false;
+
+        try {
+            defineSendCommand((HttpCommandExecutor) executor);
+            Map<String, ?> params = ImmutableMap.of("cmd", ADD_SCRIPT_COMMAND, "params", ImmutableMap.of("source", script));
+            Response response = executor.execute(new Command(remoteWebDriver.getSessionId(), SEND_COMMAND, params));
+            boolean preloaded = response != null && (response.getStatus() == null || response.getStatus() == ErrorCodes.SUCCESS);
+            LOGGER.debug("Javascript preloaded using Chrome DevTools: {}", preloaded);
+            if (preloaded) scripts.add(script);
+            return preloaded;
+        } catch (Exception e) {
+            LOGGER.debug("Could not preload javascript using Chrome DevTools", e);
+            return false;
+        }
+    }
+
+    protected RemoteWebDriver unwrap(WebDriver webDriver) {
+        while (!(webDriver instanceof RemoteWebDriver)) {
+            if (webDriver instanceof DelegatorWebDriver) {
+                webDriver = ((DelegatorWebDriver) webDriver).getDelegate();
+            } else if (webDriver instanceof WrapsDriver) {
+                webDriver = ((WrapsDriver) webDriver).getWrappedDriver();
+            } else {
+                return null;
+            }
+        }
+        return (RemoteWebDriver) webDriver;
+    }
+
+    protected boolean isChrome(RemoteWebDriver webDriver) {
+        return webDriver.getCapabilities() != null && BrowserType.CHROME.equals(webDriver.getCapabilities().getBrowserName());
+    }
+
+    // selenium only supports chrome specific commands defined when ChromeDriver is created, and
+    // we may be dealing with a RemoteWebDriver, so we need to define the command ourselves
+    private void defineSendCommand(HttpCommandExecutor executor) throws Exception {
+        Method defineCommand = HttpCommandExecutor.class.getDeclaredMethod("defineCommand", String.class, CommandInfo.class);
+        defineCommand.setAccessible(true);
+        defineCommand.invoke(executor, SEND_COMMAND, SEND_COMMAND_INFO);
+    }
+}
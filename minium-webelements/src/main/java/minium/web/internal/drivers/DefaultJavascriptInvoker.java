@@ -19,8 +19,14 @@ import static java.lang.String.format;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Pattern;
 
+import minium.internal.Throwables;
 import minium.web.internal.utils.ResourceFunctions;
 
 import org.openqa.selenium.JavascriptExecutor;
@@ -29,12 +35,24 @@ import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 
 /**
  * This class is responsible for injecting the necessary javascript code in the
@@ -48,15 +66,33 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
 
     private static final String ARGS_DECLARATION = "var args = Array.prototype.slice.call(arguments)";
 
+    private static final HashFunction EXPRESSION_HASH_FUNCTION = Hashing.murmur3_128();
+
+    // maximum number of expression hashes we remember to have sent
+    private static final int MAX_CACHED_EXPRESSIONS = 1000;
+
+    // maximum number of expressions whose resolved elements we remember
+    private static final int MAX_RESOLVED_EXPRESSIONS = 100;
+
+    // longest time a single asynchronous script waits in the browser, well below the 30 seconds
+    // sessions give asynchronous scripts by default. Longer waits take several scripts
+    private static final long MAX_SCRIPT_WAIT_MILLIS = 10000;
+
     enum ResponseType {
         MINIUM_UNDEFINED("minium-undefined"),
+        MINIUM_UNCACHED("minium-uncached"),
+        MINIUM_MODULES_UNDEFINED("minium-modules-undefined"),
+        MINIUM_FRAME_ELEMENTS("minium-frame-elements"),
         NULL("null"),
         JSON("json"),
         ARRAY("array"),
         NUMBER("number"),
         STRING("string"),
         BOOLEAN("boolean"),
-        EXCEPTION("exception");
+        EXCEPTION("exception"),
+        BATCH("batch"),
+        MINIUM_UNCHANGED("minium-unchanged"),
+        RESOLVED("resolved");
 
         private String typeStr;
 
@@ -79,6 +115,7 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
 
     // resource paths
     private final Collection<String> jsResources;
+    private final Map<String, ? extends Collection<String>> lazyJsResources;
     private final Collection<String> cssResources;
 
     // concatenated styles resources content
@@ -86,17 +123,70 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
 
     private final ClassLoader classLoader;
 
+    // lazy resources content and patterns that detect if an expression uses them
+    private final Map<String, String> lazyJsContents = Maps.newHashMap();
+    private final Map<String, Pattern> lazyJsPatterns = Maps.newLinkedHashMap();
+
     private final String setMiniumVarTemplate;
+    private final String preloadTemplate;
+    private final String loadModulesTemplate;
     private final String evalExpressionTemplate;
+    private final String evalExpressionsTemplate;
+    private final String evalElementsTemplate;
+    private final String evalExpressionsInFramesTemplate;
+    private final String waitForExpressionTemplate;
+
+    // hashes of expressions that were already sent (and therefore compiled) in each document.
+    // Document may not have them anymore (e.g. page was reloaded), but in that case it will
+    // ask for the expression again
+    private final LoadingCache<JavascriptExecutor, Set<String>> cachedExpressionHashes = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<JavascriptExecutor, Set<String>>() {
+                @Override
+                public Set<String> load(JavascriptExecutor wd) {
+                    return Collections.newSetFromMap(CacheBuilder.newBuilder()
+                            .maximumSize(MAX_CACHED_EXPRESSIONS)
+                            .<String, Boolean>build()
+                            .asMap());
+                }
+            });
+
+    // last elements each expression was resolved to in the browser, with the DOM generation they were
+    // resolved in. While that generation is current, those elements can be reused without evaluating
+    // the expression again
+    private final Cache<ResolutionKey, Resolution> resolutions = CacheBuilder.newBuilder()
+            .maximumSize(MAX_RESOLVED_EXPRESSIONS)
+            .build();
 
     public DefaultJavascriptInvoker(ClassLoader classLoader, Collection<String> jsResources, Collection<String> cssResources) {
+        this(classLoader, jsResources, ImmutableMap.<String, Collection<String>>of(), cssResources);
+    }
+
+    /**
+     * @param lazyJsResources resources that are only loaded in a page when some expression invokes one
+     *        of the jQuery functions they define, mapped to those function names
+     */
+    public DefaultJavascriptInvoker(ClassLoader classLoader, Collection<String> jsResources, Map<String, ? extends Collection<String>> lazyJsResources, Collection<String> cssResources) {
         this.classLoader = classLoader;
         this.jsResources = jsResources;
+        this.lazyJsResources = lazyJsResources;
         this.cssResources = cssResources;
 
         LOGGER.debug("DefaultJavascriptInvoker initialized with:");
-        LOGGER.debug("  jsResources  : {}", jsResources);
-        LOGGER.debug("  cssResources : {}", cssResources);
+        LOGGER.debug("  jsResources     : {}", jsResources);
+        LOGGER.debug("  lazyJsResources : {}", lazyJsResources.keySet());
+        LOGGER.debug("  cssResources    : {}", cssResources);
+
+        for (Entry<String, ? extends Collection<String>> entry : lazyJsResources.entrySet()) {
+            lazyJsContents.put(entry.getKey(), getJsContent(entry.getKey()));
+            List<String> quotedFunctions = Lists.newArrayList();
+            for (String function : entry.getValue()) {
+                quotedFunctions.add(Pattern.quote(function));
+            }
+            // only calls chained to a previous call match, like $(...).and(...), because some of those
+            // names (e.g. and, or, call, apply) are also common in plain javascript, like fn.call(...)
+            lazyJsPatterns.put(entry.getKey(), Pattern.compile(format("\\)\\s*\\.(?:%s)\\(", Joiner.on("|").join(quotedFunctions))));
+        }
 
         String miniumJqueryScript = getJsContent("minium/web/internal/lib/minium-jquery.min.js");
         String jsScripts = combineResources(jsResources);
@@ -112,7 +202,32 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
             .append("minium.loadStyles(styles);")
             .append("})(window, minium.$, minium.$, args.shift());")
             .toString();
-        evalExpressionTemplate = "return typeof minium==='undefined'?['minium-undefined']:minium.evalExpression(args.shift(),args);";
+        loadModulesTemplate = "minium.modules.load(args.shift())";
+        preloadTemplate = new StringBuilder()
+            .append("if (typeof minium === 'undefined') {")
+            .append(miniumJqueryScript).append(";")
+            .append("(function (window, jQuery, $, styles) {")
+            .append(jsScripts).append(";")
+            // document is still empty when this script runs, so styles must wait
+            .append("$(function () { minium.loadStyles(styles); });")
+            .append("})(window, minium.$, minium.$, ").append(toJsonString(styles)).append(");")
+            .append("}")
+            .toString();
+        evalExpressionTemplate = "return typeof minium==='undefined'?['minium-undefined']:minium.modules.check(args.shift())||minium.evalCachedExpression(args.shift(),args.shift(),args);";
+        evalElementsTemplate = "return typeof minium==='undefined'?['minium-undefined']:minium.modules.check(args.shift())||minium.evalCachedElements(args.shift(),args.shift(),args.shift(),args);";
+        evalExpressionsTemplate = "return typeof minium==='undefined'?['minium-undefined']:minium.modules.check(args.shift())||minium.evalCachedExpressions(args.shift(),args.shift(),args.shift());";
+        // required modules are also passed to frames, which must have them loaded too
+        evalExpressionsInFramesTemplate = "return typeof minium==='undefined'?['minium-undefined']:minium.modules.check(args[0])||minium.evalCachedExpressionsInFrames(args.shift(),args.shift(),args.shift(),args.shift(),args.shift());";
+        // asynchronous script: callback is the last argument, and it is only called later if the response is not immediately available
+        waitForExpressionTemplate = "var callback=args.pop();var response=typeof minium==='undefined'?['minium-undefined']:minium.modules.check(args.shift())||minium.waitForCachedExpression(args.shift(),args.shift(),args.shift(),args,callback);if(response)callback(response);";
+    }
+
+    /**
+     * Script that exposes minium global variable and loads core jQuery extensions, without
+     * evaluating any expression, to be evaluated in new documents before their own scripts.
+     */
+    public String preloadScript() {
+        return preloadTemplate;
     }
 
     /* (non-Javadoc)
@@ -128,37 +243,196 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
         return this.<T>invoke(executor, expression, args);
     }
 
+    @Override
     @SuppressWarnings("unchecked")
-    protected <T> T doInvoke(JavascriptExecutor wd, String expression, Object... args) {
+    public List<WebElement> invokeExpressionElements(JavascriptExecutor wd, String expression, Object... args) {
+        try {
+            ResolutionKey key = new ResolutionKey(wd, expression, args);
+            Resolution last = resolutions.getIfPresent(key);
+            String hash = hash(expression);
+            Object[] elementsArgs = Lists.asList(last == null ? null : last.generation, args == null ? new Object[0] : args).toArray();
+
+            List<?> response = execute(wd, evalElementsTemplate, requiredModules(ImmutableList.of(expression), args), hash, expression, elementsArgs);
+            ResponseType type = ResponseType.of((String) response.get(0));
+            cachedExpressionHashes.getUnchecked(wd).add(hash);
+
+            if (type == ResponseType.MINIUM_UNCHANGED) return last.elements;
+            if (type == ResponseType.RESOLVED) return resolved(key, response);
+            // it did not evaluate to elements
+            resolutions.invalidate(key);
+            return (List<WebElement>) extractValue(type, response);
+        } catch (WebDriverException e) {
+            throw new JavascriptInvocationFailedException(format("Failed invoking expression:\n%s", expression), e);
+        }
+    }
+
+    @Override
+    public List<Object> invokeExpressions(JavascriptExecutor wd, List<String> expressions, List<Object[]> args) {
+        Preconditions.checkArgument(expressions.size() == args.size(), "Expected %s argument arrays but got %s", expressions.size(), args.size());
         try {
-            Object[] fullArgs = createLightInvokerScriptArgs(expression, args);
+            List<String> hashes = hashes(expressions);
+            List<?> response = execute(wd, evalExpressionsTemplate, requiredModules(expressions, args), hashes, expressions, argsLists(args));
+            ResponseType type = ResponseType.of((String) response.get(0));
+            Preconditions.checkState(type == ResponseType.BATCH, "Expected a batch response but got %s", type);
+
+            return extractValues(wd, response.subList(1, response.size()), hashes, expressions);
+        } catch (WebDriverException e) {
+            throw new JavascriptInvocationFailedException(format("Failed invoking expressions:\n%s", Joiner.on("\n").join(expressions)), e);
+        }
+    }
 
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("About to invoke light invoker: {}", fullArgs);
+    @Override
+    public List<List<Object>> invokeExpressionsInFrames(JavascriptExecutor wd, List<WebElement> frames, List<String> expressions, List<Object[]> args) {
+        Preconditions.checkArgument(expressions.size() == args.size(), "Expected %s argument arrays but got %s", expressions.size(), args.size());
+        try {
+            List<String> hashes = hashes(expressions);
+            List<?> response = execute(wd, evalExpressionsInFramesTemplate, requiredModules(expressions, args), hashes, expressions, argsLists(args), frames);
+            ResponseType type = ResponseType.of((String) response.get(0));
+            Preconditions.checkState(type == ResponseType.BATCH, "Expected a batch response but got %s", type);
+
+            List<List<Object>> results = Lists.newArrayListWithCapacity(frames.size());
+            for (Object frameResponse : response.subList(1, response.size())) {
+                // null means that frame document cannot be accessed from the parent document
+                results.add(frameResponse == null ? null : extractValues(wd, (List<?>) frameResponse, hashes, expressions));
             }
+            return results;
+        } catch (WebDriverException e) {
+            throw new JavascriptInvocationFailedException(format("Failed invoking expressions in frames:\n%s", Joiner.on("\n").join(expressions)), e);
+        }
+    }
+
+    @Override
+    public boolean waitForExpressionSize(JavascriptExecutor wd, String expression, int size, boolean negated, long timeoutMillis, long intervalMillis, Object... args) {
+        Map<String, Object> spec = ImmutableMap.<String, Object>of("size", size, "negated", negated, "interval", intervalMillis);
+        List<?> response = waitForExpression(wd, expression, spec, timeoutMillis, args);
+        return Boolean.TRUE.equals(extractValue(ResponseType.of((String) response.get(0)), response));
+    }
 
-            Object result = wd.executeScript(lightInvokerScript(), fullArgs);
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WebElement> waitForExpressionElements(JavascriptExecutor wd, String expression, int size, boolean negated, long timeoutMillis, long intervalMillis, Object... args) {
+        ResolutionKey key = new ResolutionKey(wd, expression, args);
+        Resolution last = resolutions.getIfPresent(key);
+
+        Map<String, Object> spec = Maps.newHashMap();
+        spec.put("size", size);
+        spec.put("negated", negated);
+        spec.put("interval", intervalMillis);
+        spec.put("resolve", true);
+        // last resolved elements are only worth reusing if they satisfy this wait
+        if (last != null && (last.elements.size() == size) != negated) spec.put("generation", last.generation);
+
+        List<?> response = waitForExpression(wd, expression, spec, timeoutMillis, args);
+        ResponseType type = ResponseType.of((String) response.get(0));
+        switch (type) {
+        case MINIUM_UNCHANGED:
+            return last.elements;
+        case RESOLVED:
+            return resolved(key, response);
+        default:
+            resolutions.invalidate(key);
+            return null;
+        }
+    }
 
-            LOGGER.trace("result: {}", result);
+    /**
+     * Remembers the elements of a {@code resolved} response, unless they were returned without
+     * DOM generation, in which case they cannot be reused later.
+     */
+    @SuppressWarnings("unchecked")
+    private List<WebElement> resolved(ResolutionKey key, List<?> response) {
+        List<WebElement> elements = ImmutableList.copyOf((List<WebElement>) response.subList(2, response.size()));
+        String generation = (String) response.get(1);
+        if (generation == null) {
+            resolutions.invalidate(key);
+        } else {
+            resolutions.put(key, new Resolution(generation, elements));
+        }
+        return elements;
+    }
 
-            List<?> response = getValidResponse(result);
+    /**
+     * Waits with as many asynchronous scripts as needed, each one waiting at most
+     * 10 seconds in the browser, so that the session script timeout never
+     * needs to be changed.
+     */
+    private List<?> waitForExpression(JavascriptExecutor wd, String expression, Map<String, Object> spec, long timeoutMillis, Object... args) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (true) {
+            long scriptTimeout = Math.min(remaining, MAX_SCRIPT_WAIT_MILLIS);
+            Map<String, Object> scriptSpec = ImmutableMap.<String, Object>builder().putAll(spec).put("timeout", scriptTimeout).build();
+            List<?> response = waitForExpressionOnce(wd, expression, scriptSpec, args);
+            remaining = Math.min(remaining - scriptTimeout, deadline - System.currentTimeMillis());
+            if (!timedOut(response) || remaining <= 0) return response;
+        }
+    }
+
+    private List<?> waitForExpressionOnce(JavascriptExecutor wd, String expression, Map<String, Object> spec, Object... args) {
+        try {
+            String hash = hash(expression);
+            List<Object> waitArgs = Lists.<Object>newArrayList(spec);
+            if (args != null) waitArgs.addAll(Arrays.asList(args));
+
+            List<?> response = execute(wd, true, waitForExpressionTemplate, requiredModules(ImmutableList.of(expression), args), hash, expression, waitArgs.toArray());
             ResponseType type = ResponseType.of((String) response.get(0));
+            if (type == ResponseType.EXCEPTION) {
+                throw new JavascriptInvocationFailedException(format("Failed waiting for expression:\n%s\n%s", expression, response.get(1)));
+            }
+            cachedExpressionHashes.getUnchecked(wd).add(hash);
 
-            if (type == ResponseType.MINIUM_UNDEFINED) {
-                // minium is not defined yet, we need to send all the necessary javascript
-                fullArgs = createFullInvokerScriptArgs(expression, args);
+            return response;
+        } catch (WebDriverException e) {
+            throw new JavascriptInvocationFailedException(format("Failed waiting for expression:\n%s", expression), e);
+        }
+    }
 
-                if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("About to invoke full invoker: {}", fullArgs);
-                }
+    private boolean timedOut(List<?> response) {
+        return ResponseType.of((String) response.get(0)) == ResponseType.BOOLEAN && Boolean.FALSE.equals(response.get(1));
+    }
 
-                result = wd.executeScript(fullInvokerScript(), fullArgs);
+    private List<String> hashes(List<String> expressions) {
+        List<String> hashes = Lists.newArrayListWithCapacity(expressions.size());
+        for (String expression : expressions) {
+            hashes.add(hash(expression));
+        }
+        return hashes;
+    }
 
-                LOGGER.trace("result: {}", result);
+    private List<List<Object>> argsLists(List<Object[]> args) {
+        List<List<Object>> argsLists = Lists.newArrayListWithCapacity(args.size());
+        for (Object[] expressionArgs : args) {
+            argsLists.add(expressionArgs == null ? ImmutableList.of() : Arrays.asList(expressionArgs));
+        }
+        return argsLists;
+    }
 
-                response = getValidResponse(result);
-                type = ResponseType.of((String) response.get(0));
+    private List<Object> extractValues(JavascriptExecutor wd, List<?> responses, List<String> hashes, List<String> expressions) {
+        List<Object> results = Lists.newArrayListWithCapacity(expressions.size());
+        for (int i = 0; i < responses.size(); i++) {
+            List<?> expressionResponse = getValidResponse(responses.get(i));
+            ResponseType expressionType = ResponseType.of((String) expressionResponse.get(0));
+            String expression = expressions.get(i);
+            if (expressionType == ResponseType.EXCEPTION) {
+                results.add(new JavascriptInvocationFailedException(format("Failed invoking expression:\n%s\n%s", expression, expressionResponse.get(1))));
+            } else if (expressionType == ResponseType.MINIUM_FRAME_ELEMENTS) {
+                cachedExpressionHashes.getUnchecked(wd).add(hashes.get(i));
+                results.add(new FrameElementsResultException(format("Expression result has frame elements and must be evaluated in the frame itself:\n%s", expression)));
+            } else {
+                cachedExpressionHashes.getUnchecked(wd).add(hashes.get(i));
+                results.add(extractValue(expressionType, expressionResponse));
             }
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> T doInvoke(JavascriptExecutor wd, String expression, Object... args) {
+        try {
+            String hash = hash(expression);
+            List<?> response = execute(wd, evalExpressionTemplate, requiredModules(ImmutableList.of(expression), args), hash, expression, args);
+            ResponseType type = ResponseType.of((String) response.get(0));
+            cachedExpressionHashes.getUnchecked(wd).add(hash);
 
             return (T) extractValue(type, response);
 
@@ -167,9 +441,75 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
         }
     }
 
+    /**
+     * Executes the light script and, if necessary, the module loader or the full script. Expressions
+     * are only sent if their hashes are not known to be cached in the browser.
+     *
+     * @param evalTemplate template that evaluates the expression, after minium and required modules are loaded
+     * @param modules lazy resources the expression requires
+     * @param hash either a single expression hash or a list of hashes
+     * @param expression either a single expression or a list of expressions
+     */
+    protected List<?> execute(JavascriptExecutor wd, String evalTemplate, Collection<String> modules, Object hash, Object expression, Object... args) {
+        return execute(wd, false, evalTemplate, modules, hash, expression, args);
+    }
+
+    /**
+     * Same as {@link #execute(JavascriptExecutor, String, Collection, Object, Object, Object...)}, but scripts
+     * can be executed asynchronously, in which case the evaluation template must pass its response to the callback.
+     */
+    protected List<?> execute(JavascriptExecutor wd, boolean async, String evalTemplate, Collection<String> modules, Object hash, Object expression, Object... args) {
+        String lightScript = invokerScript(evalTemplate);
+        List<?> response = execute(wd, async, "light invoker", lightScript, createLightInvokerScriptArgs(modules, hash, uncachedExpression(wd, hash, expression), args));
+        ResponseType type = ResponseType.of((String) response.get(0));
+
+        if (type == ResponseType.MINIUM_UNCACHED) {
+            // browser no longer has some compiled expression (e.g. page was reloaded), so we send them all,
+            // and we forget the other hashes too, as that document won't have them either
+            cachedExpressionHashes.getUnchecked(wd).clear();
+            response = execute(wd, async, "light invoker with uncached expressions", lightScript, createLightInvokerScriptArgs(modules, hash, expression, args));
+            type = ResponseType.of((String) response.get(0));
+        }
+
+        if (type == ResponseType.MINIUM_MODULES_UNDEFINED) {
+            // minium is defined but some jQuery extensions are not loaded yet
+            Map<String, String> missingModules = moduleSources(response.subList(1, response.size()));
+            String script = invokerScript(loadModulesTemplate, evalTemplate);
+            response = execute(wd, async, "module loader invoker", script, createFullInvokerScriptArgsAfterPartitionedLoad(missingModules, modules, hash, expression, args));
+            type = ResponseType.of((String) response.get(0));
+        }
+
+        if (type == ResponseType.MINIUM_UNDEFINED) {
+            // minium is not defined yet, we need to send all the necessary javascript. It's a new document,
+            // so none of the expressions we sent before are compiled there
+            cachedExpressionHashes.getUnchecked(wd).clear();
+            String script = invokerScript(setMiniumVarTemplate, loadModulesTemplate, evalTemplate);
+            response = execute(wd, async, "full invoker", script, createFullInvokerScriptArgs(moduleSources(modules), modules, hash, expression, args));
+        }
+
+        return response;
+    }
+
+    private List<?> execute(JavascriptExecutor wd, boolean async, String description, String script, Object[] fullArgs) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("About to invoke {}{}: {}", async ? "asynchronous " : "", description, fullArgs);
+        }
+
+        Object result = async ? wd.executeAsyncScript(script, fullArgs) : wd.executeScript(script, fullArgs);
+
+        LOGGER.trace("result: {}", result);
+
+        return getValidResponse(result);
+    }
+
     private Object extractValue(ResponseType type, List<?> response) {
         switch (type) {
         case MINIUM_UNDEFINED:
+        case MINIUM_UNCACHED:
+        case MINIUM_MODULES_UNDEFINED:
+        case MINIUM_FRAME_ELEMENTS:
+        case MINIUM_UNCHANGED:
+        case RESOLVED:
             throw new IllegalStateException("Should not be here...");
         case NULL:
             return null;
@@ -200,36 +540,144 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
         return response;
     }
 
-    protected Object[] createLightInvokerScriptArgs(String expr, Object... args) {
-        List<Object> fullArgs = Lists.<Object>newArrayList(expr);
+    protected String hash(String expression) {
+        return EXPRESSION_HASH_FUNCTION.hashString(expression, Charsets.UTF_8).toString();
+    }
+
+    /**
+     * Returns the expression (or expressions) that must be sent to the browser,
+     * replacing the ones that are already cached in that document by {@code null}.
+     */
+    protected Object uncachedExpression(JavascriptExecutor wd, Object hash, Object expression) {
+        Set<String> cached = cachedExpressionHashes.getUnchecked(wd);
+        if (hash instanceof List<?>) {
+            List<?> hashes = (List<?>) hash;
+            List<?> expressions = (List<?>) expression;
+            List<Object> uncached = Lists.newArrayListWithCapacity(expressions.size());
+            for (int i = 0; i < expressions.size(); i++) {
+                uncached.add(cached.contains(hashes.get(i)) ? null : expressions.get(i));
+            }
+            return uncached;
+        }
+        return cached.contains(hash) ? null : expression;
+    }
+
+    /**
+     * Returns the lazy resources that the expressions require, based on the jQuery functions they invoke.
+     */
+    protected Collection<String> requiredModules(Collection<String> expressions) {
+        Set<String> modules = Sets.newLinkedHashSet();
+        for (Entry<String, Pattern> entry : lazyJsPatterns.entrySet()) {
+            for (String expression : expressions) {
+                if (entry.getValue().matcher(expression).find()) {
+                    modules.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Same as {@link #requiredModules(Collection)}, but string arguments are scanned too, because
+     * literals passed as arguments may be code that is evaluated in the browser (e.g. {@code eval(...)}).
+     */
+    protected Collection<String> requiredModules(Collection<String> expressions, Object args) {
+        List<String> sources = Lists.newArrayList(expressions);
+        collectStrings(args, sources);
+        return requiredModules(sources);
+    }
+
+    private void collectStrings(Object value, List<String> strings) {
+        if (value instanceof String) {
+            strings.add((String) value);
+        } else if (value instanceof Object[]) {
+            collectStrings(Arrays.asList((Object[]) value), strings);
+        } else if (value instanceof Iterable<?>) {
+            for (Object item : (Iterable<?>) value) {
+                collectStrings(item, strings);
+            }
+        } else if (value instanceof Map<?, ?>) {
+            collectStrings(((Map<?, ?>) value).values(), strings);
+        }
+    }
+
+    protected Map<String, String> moduleSources(Collection<?> modules) {
+        Map<String, String> sources = Maps.newLinkedHashMap();
+        for (Object module : modules) {
+            String content = lazyJsContents.get(module);
+            Preconditions.checkState(content != null, "Unknown javascript module %s", module);
+            sources.put((String) module, content);
+        }
+        return sources;
+    }
+
+    protected Object[] createLightInvokerScriptArgs(Collection<String> modules, Object hash, Object expr, Object... args) {
+        List<Object> fullArgs = Lists.<Object>newArrayList(ImmutableList.copyOf(modules), hash, expr);
         if (args != null && args.length > 0) fullArgs.addAll(Arrays.asList(args));
         return fullArgs.toArray(new Object[fullArgs.size()]);
     }
 
-    protected Object[] createFullInvokerScriptArgs(String expr, Object... args) {
-        List<Object> fullArgs = Lists.<Object>newArrayList(styles, expr);
-        if (args != null && args.length > 0) fullArgs.addAll(Arrays.asList(args));
+    protected Object[] createFullInvokerScriptArgs(Map<String, String> moduleSources, Collection<String> modules, Object hash, Object expr, Object... args) {
+        List<Object> fullArgs = Lists.<Object>newArrayList(styles);
+        fullArgs.addAll(Arrays.asList(createFullInvokerScriptArgsAfterPartitionedLoad(moduleSources, modules, hash, expr, args)));
         return fullArgs.toArray(new Object[fullArgs.size()]);
     }
 
-    protected Object[] createFullInvokerScriptArgsAfterPartitionedLoad(String expr, Object... args) {
-        List<Object> fullArgs = Lists.<Object>newArrayList("", "", expr);
+    protected Object[] createFullInvokerScriptArgsAfterPartitionedLoad(Map<String, String> moduleSources, Collection<String> modules, Object hash, Object expr, Object... args) {
+        List<Object> fullArgs = Lists.<Object>newArrayList(moduleSources, ImmutableList.copyOf(modules), hash, expr);
         if (args != null && args.length > 0) fullArgs.addAll(Arrays.asList(args));
         return fullArgs.toArray(new Object[fullArgs.size()]);
     }
 
     protected String lightInvokerScript() {
-        return Joiner.on("; ").join(ARGS_DECLARATION, evalExpressionTemplate);
+        return invokerScript(evalExpressionTemplate);
+    }
+
+    protected String moduleLoaderInvokerScript() {
+        return invokerScript(loadModulesTemplate, evalExpressionTemplate);
     }
 
     protected String fullInvokerScript() {
-        return Joiner.on("; ").join(ARGS_DECLARATION, setMiniumVarTemplate, evalExpressionTemplate);
+        return invokerScript(setMiniumVarTemplate, loadModulesTemplate, evalExpressionTemplate);
+    }
+
+    protected String lightBatchInvokerScript() {
+        return invokerScript(evalExpressionsTemplate);
+    }
+
+    protected String moduleLoaderBatchInvokerScript() {
+        return invokerScript(loadModulesTemplate, evalExpressionsTemplate);
+    }
+
+    protected String fullBatchInvokerScript() {
+        return invokerScript(setMiniumVarTemplate, loadModulesTemplate, evalExpressionsTemplate);
+    }
+
+    protected String lightFramesInvokerScript() {
+        return invokerScript(evalExpressionsInFramesTemplate);
+    }
+
+    protected String lightElementsInvokerScript() {
+        return invokerScript(evalElementsTemplate);
+    }
+
+    protected String lightWaitInvokerScript() {
+        return invokerScript(waitForExpressionTemplate);
+    }
+
+    private String invokerScript(String... templates) {
+        return Joiner.on("; ").join(Lists.asList(ARGS_DECLARATION, templates));
     }
 
     protected Collection<String> getJsResources() {
         return jsResources;
     }
 
+    protected Map<String, ? extends Collection<String>> getLazyJsResources() {
+        return lazyJsResources;
+    }
+
     protected Collection<String> getCssResources() {
         return cssResources;
     }
@@ -238,8 +686,49 @@ public class DefaultJavascriptInvoker implements JavascriptInvoker {
         return ResourceFunctions.classpathFileToStringFunction(classLoader).apply(filePath);
     }
 
+    protected String toJsonString(String value) {
+        try {
+            return new ObjectMapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw Throwables.propagate(e);
+        }
+    }
+
     protected String combineResources(Collection<String> resources) {
         return Joiner.on("\n\n").join(Collections2.transform(resources, ResourceFunctions.classpathFileToStringFunction(classLoader)));
     }
 
+    private static final class ResolutionKey {
+        private final JavascriptExecutor wd;
+        private final String expression;
+        private final Object[] args;
+
+        private ResolutionKey(JavascriptExecutor wd, String expression, Object[] args) {
+            this.wd = wd;
+            this.expression = expression;
+            this.args = args == null ? new Object[0] : args;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(wd, expression, Arrays.deepHashCode(args));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ResolutionKey)) return false;
+            ResolutionKey other = (ResolutionKey) obj;
+            return wd.equals(other.wd) && expression.equals(other.expression) && Arrays.deepEquals(args, other.args);
+        }
+    }
+
+    private static final class Resolution {
+        private final String generation;
+        private final List<WebElement> elements;
+
+        private Resolution(String generation, List<WebElement> elements) {
+            this.generation = generation;
+            this.elements = elements;
+        }
+    }
 }
@@ -22,127 +22,215 @@ import java.util.List;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.internal.Coordinates;
 import org.openqa.selenium.interactions.internal.Locatable;
 import org.openqa.selenium.internal.WrapsDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Function;
 import com.google.common.base.Objects;
 
 import minium.web.DocumentWebDriver;
 
 public class DocumentWebElement implements WebElement, WrapsDriver, TakesScreenshot, Locatable {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentWebElement.class);
+
     private final WebElement webElement;
     private final InternalDocumentWebDriver webDriver;
+    private final Function<DocumentWebElement, DocumentWebElement> staleElementResolver;
 
     public DocumentWebElement(WebElement webElement, DocumentWebDriver webDriver) {
+        this(webElement, webDriver, null);
+    }
+
+    /**
+     * @param webElement the native element
+     * @param webDriver the document driver the native element belongs to
+     * @param staleElementResolver evaluates a stale element again and returns the element that replaces
+     *        it, or null if it cannot be recovered. It can be null if stale elements are not recoverable.
+     */
+    public DocumentWebElement(WebElement webElement, DocumentWebDriver webDriver, Function<DocumentWebElement, DocumentWebElement> staleElementResolver) {
         checkNotNull(webElement);
         checkNotNull(webDriver);
 
         this.webElement = webElement;
         this.webDriver = (InternalDocumentWebDriver) webDriver;
+        this.staleElementResolver = staleElementResolver;
     }
 
     @Override
     public void click() {
-        webDriver.ensureSwitch();
-        webElement.click();
+        execute(new Function<WebElement, Void>() {
+            @Override
+            public Void apply(WebElement elem) {
+                elem.click();
+                return null;
+            }
+        });
     }
 
     @Override
     public void submit() {
-        webDriver.ensureSwitch();
-        webElement.submit();
+        execute(new Function<WebElement, Void>() {
+            @Override
+            public Void apply(WebElement elem) {
+                elem.submit();
+                return null;
+            }
+        });
     }
 
     @Override
-    public void sendKeys(CharSequence... keysToSend) {
-        webDriver.ensureSwitch();
-        webElement.sendKeys(keysToSend);
+    public void sendKeys(final CharSequence... keysToSend) {
+        execute(new Function<WebElement, Void>() {
+            @Override
+            public Void apply(WebElement elem) {
+                elem.sendKeys(keysToSend);
+                return null;
+            }
+        });
     }
 
     @Override
     public void clear() {
-        webDriver.ensureSwitch();
-        webElement.clear();
+        execute(new Function<WebElement, Void>() {
+            @Override
+            public Void apply(WebElement elem) {
+                elem.clear();
+                return null;
+            }
+        });
     }
 
     @Override
     public String getTagName() {
-        webDriver.ensureSwitch();
-        return webElement.getTagName();
+        return execute(new Function<WebElement, String>() {
+            @Override
+            public String apply(WebElement elem) {
+                return elem.getTagName();
+            }
+        });
     }
 
     @Override
-    public String getAttribute(String name) {
-        webDriver.ensureSwitch();
-        return webElement.getAttribute(name);
+    public String getAttribute(final String name) {
+        return execute(new Function<WebElement, String>() {
+            @Override
+            public String apply(WebElement elem) {
+                return elem.getAttribute(name);
+            }
+        });
     }
 
     @Override
     public boolean isSelected() {
-        webDriver.ensureSwitch();
-        return webElement.isSelected();
+        return execute(new Function<WebElement, Boolean>() {
+            @Override
+            public Boolean apply(WebElement elem) {
+                return elem.isSelected();
+            }
+        });
     }
 
     @Override
     public boolean isEnabled() {
-        webDriver.ensureSwitch();
-        return webElement.isEnabled();
+        return execute(new Function<WebElement, Boolean>() {
+            @Override
+            public Boolean apply(WebElement elem) {
+                return elem.isEnabled();
+            }
+        });
     }
 
     @Override
     public String getText() {
-        webDriver.ensureSwitch();
-        return webElement.getText();
+        return execute(new Function<WebElement, String>() {
+            @Override
+            public String apply(WebElement elem) {
+                return elem.getText();
+            }
+        });
     }
 
     @Override
-    public List<WebElement> findElements(By by) {
-        webDriver.ensureSwitch();
-        return webElement.findElements(by);
+    public List<WebElement> findElements(final By by) {
+        return execute(new Function<WebElement, List<WebElement>>() {
+            @Override
+            public List<WebElement> apply(WebElement elem) {
+                return elem.findElements(by);
+            }
+        });
     }
 
     @Override
-    public WebElement findElement(By by) {
-        webDriver.ensureSwitch();
-        return webElement.findElement(by);
+    public WebElement findElement(final By by) {
+        return execute(new Function<WebElement, WebElement>() {
+            @Override
+            public WebElement apply(WebElement elem) {
+                return elem.findElement(by);
+            }
+        });
     }
 
     @Override
     public boolean isDisplayed() {
-        webDriver.ensureSwitch();
-        return webElement.isDisplayed();
+        return execute(new Function<WebElement, Boolean>() {
+            @Override
+            public Boolean apply(WebElement elem) {
+                return elem.isDisplayed();
+            }
+        });
     }
 
     @Override
     public Point getLocation() {
-        webDriver.ensureSwitch();
-        return webElement.getLocation();
+        return execute(new Function<WebElement, Point>() {
+            @Override
+            public Point apply(WebElement elem) {
+                return elem.getLocation();
+            }
+        });
     }
 
     @Override
     public Dimension getSize() {
-        webDriver.ensureSwitch();
-        return webElement.getSize();
+        return execute(new Function<WebElement, Dimension>() {
+            @Override
+            public Dimension apply(WebElement elem) {
+                return elem.getSize();
+            }
+        });
     }
 
     @Override
-    public String getCssValue(String propertyName) {
-        webDriver.ensureSwitch();
-        return webElement.getCssValue(propertyName);
+    public String getCssValue(final String propertyName) {
+        return execute(new Function<WebElement, String>() {
+            @Override
+            public String apply(WebElement elem) {
+                return elem.getCssValue(propertyName);
+            }
+        });
     }
 
     @Override
     public Coordinates getCoordinates() {
-        webDriver.ensureSwitch();
-        return ((Locatable) webElement).getCoordinates();
+        return execute(new Function<WebElement, Coordinates>() {
+            @Override
+            public Coordinates apply(WebElement elem) {
+                return ((Locatable) elem).getCoordinates();
+            }
+        });
     }
 
     @Override
@@ -155,15 +243,68 @@ public class DocumentWebElement implements WebElement, WrapsDriver, TakesScreens
     }
 
     @Override
-    public <X> X getScreenshotAs(OutputType<X> type) throws WebDriverException {
-        webDriver.ensureSwitch();
-        return ((TakesScreenshot) webElement).getScreenshotAs(type);
+    public <X> X getScreenshotAs(final OutputType<X> type) throws WebDriverException {
+        return execute(new Function<WebElement, X>() {
+            @Override
+            public X apply(WebElement elem) {
+                return ((TakesScreenshot) elem).getScreenshotAs(type);
+            }
+        });
     }
 
     @Override
     public Rectangle getRect() {
+        return execute(new Function<WebElement, Rectangle>() {
+            @Override
+            public Rectangle apply(WebElement elem) {
+                return elem.getRect();
+            }
+        });
+    }
+
+    /**
+     * Switches to the element document and applies the function to the native element. If it is
+     * stale, the function is applied once again to the recovered element. If the document's frame or
+     * window no longer exists, either at first or when retrying, the tracked switch context is invalidated.
+     */
+    protected <T> T execute(Function<WebElement, T> fn) {
         webDriver.ensureSwitch();
-        return webElement.getRect();
+        try {
+            try {
+                return fn.apply(webElement);
+            } catch (StaleElementReferenceException e) {
+                return fn.apply(recover(e).webElement);
+            }
+        } catch (NoSuchFrameException | NoSuchWindowException e) {
+            throw contextLost(e);
+        }
+    }
+
+    /**
+     * Evaluates a stale element again, so that the failed command can be retried once with it.
+     * This element is not changed, the recovered one is a new instance, and it must belong to
+     * the same document.
+     *
+     * @param e the stale element exception, thrown if the element cannot be recovered
+     * @return the recovered element
+     */
+    protected DocumentWebElement recover(StaleElementReferenceException e) {
+        if (staleElementResolver == null) throw e;
+        DocumentWebElement recovered;
+        try {
+            recovered = staleElementResolver.apply(this);
+        } catch (RuntimeException resolveException) {
+            e.addSuppressed(resolveException);
+            throw e;
+        }
+        if (recovered == null || recovered.webElement.equals(webElement) || !recovered.webDriver.equals(webDriver)) throw e;
+        LOGGER.debug("Stale element {} recovered as {}", webElement, recovered.webElement);
+        return recovered;
+    }
+
+    protected WebDriverException contextLost(WebDriverException e) {
+        SwitchContextTracker.forWebDriver(webDriver.nativeWebDriver()).invalidate();
+        return e;
     }
 
     @Override
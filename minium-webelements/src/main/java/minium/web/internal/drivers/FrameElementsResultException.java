@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+/**
+ * Signals that an expression evaluated from a parent document returned elements of one of
+ * its frames, and therefore it must be evaluated in that frame.
+ */
+public class FrameElementsResultException extends JavascriptInvocationFailedException {
+
+    private static final long serialVersionUID = 1L;
+
+    public FrameElementsResultException(String message) {
+        super(message);
+    }
+}
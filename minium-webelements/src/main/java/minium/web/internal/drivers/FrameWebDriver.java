@@ -17,6 +17,8 @@ package minium.web.internal.drivers;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
@@ -36,13 +38,23 @@ public class FrameWebDriver extends BaseDocumentWebDriver {
         this.frameElem = frameElem;
     }
 
+    public DocumentWebElement getFrameElement() {
+        return frameElem;
+    }
+
     @Override
     public void ensureSwitch() {
+        if (switchContext.isCurrent(this)) return;
         InternalDocumentWebDriver parentDocumentDriver = parentDocumentDriver();
         Preconditions.checkState(Objects.equal(parentDocumentDriver, frameElem.getWrappedDriver()), "Frame %s does not belongs to %s", frameElem, parentDocumentDriver);
         parentDocumentDriver.ensureSwitch();
         WebElement nativeFrameElem = frameElem.getWrappedWebElement();
-        webDriver.switchTo().frame(nativeFrameElem);
+        try {
+            webDriver.switchTo().frame(nativeFrameElem);
+        } catch (NoSuchFrameException | NoSuchWindowException e) {
+            throw contextLost(e);
+        }
+        switchContext.switched(this);
         LOGGER.trace("Switched to frame {}", frameElem);
     }
 
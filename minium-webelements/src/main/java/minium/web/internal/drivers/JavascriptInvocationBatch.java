@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+/**
+ * Queues several expressions so that they can be evaluated with a single
+ * {@link JavascriptExecutor#executeScript(String, Object...)} call. Each queued
+ * expression gets an index that can be used to retrieve its result after the
+ * batch is flushed.
+ * <p>
+ * It only saves round trips when several expressions are evaluated in the same
+ * document at the same time, like a parent size probed together with the
+ * expression itself. Evaluations of a single expression per document (native
+ * elements, sizes) keep using {@link JavascriptInvoker#invokeExpression(JavascriptExecutor, String, Object...)}.
+ */
+public class JavascriptInvocationBatch {
+
+    private final JavascriptInvoker javascriptInvoker;
+    private final List<String> expressions = Lists.newArrayList();
+    private final List<Object[]> args = Lists.newArrayList();
+    private List<Object> results;
+
+    public JavascriptInvocationBatch(JavascriptInvoker javascriptInvoker) {
+        this.javascriptInvoker = Preconditions.checkNotNull(javascriptInvoker);
+    }
+
+    public int add(String expression, Object... args) {
+        Preconditions.checkState(results == null, "Batch was already flushed");
+        expressions.add(Preconditions.checkNotNull(expression));
+        this.args.add(args == null ? new Object[0] : args);
+        return expressions.size() - 1;
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    public boolean isFlushed() {
+        return results != null;
+    }
+
+    public void flush(JavascriptExecutor executor) {
+        Preconditions.checkState(results == null, "Batch was already flushed");
+        if (expressions.isEmpty()) {
+            results = Collections.emptyList();
+        } else {
+            results = javascriptInvoker.invokeExpressions(executor, expressions, args);
+            Preconditions.checkState(results.size() == expressions.size(), "Expected %s results but got %s", expressions.size(), results.size());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        Preconditions.checkState(results != null, "Batch was not flushed yet");
+        Object result = results.get(index);
+        if (result instanceof JavascriptInvocationFailedException) {
+            throw (JavascriptInvocationFailedException) result;
+        }
+        return (T) result;
+    }
+}
@@ -15,11 +15,94 @@
  */
 package minium.web.internal.drivers;
 
+import java.util.List;
+
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
 
 public interface JavascriptInvoker {
 
     public abstract <T> T invoke(JavascriptExecutor wd, String expression, Object ... args);
 
     public abstract <T> T invokeExpression(JavascriptExecutor executor, String expression, Object ... args);
-}
\ No newline at end of file
+
+    /**
+     * Evaluates an expression that evaluates to elements. The browser keeps a DOM generation, which changes
+     * on DOM mutations and on events that signal element state changes (like {@code input}, {@code change}
+     * or {@code focus}). If the same expression, with the same arguments, was already evaluated in the same
+     * document and that generation did not change since then, it is not evaluated again and the elements
+     * it evaluated to then are returned.
+     *
+     * @param executor the executor where the expression will be evaluated
+     * @param expression the expression to evaluate
+     * @param args expression arguments
+     * @return the elements the expression evaluated to
+     */
+    public abstract List<WebElement> invokeExpressionElements(JavascriptExecutor executor, String expression, Object ... args);
+
+    /**
+     * Evaluates several expressions in a single script execution. Each expression is evaluated with
+     * its own arguments, so {@code args.get(i)} are the arguments for {@code expressions.get(i)}.
+     * <p>
+     * If some expression fails in the browser, the remaining ones are still evaluated and the
+     * corresponding result will be a {@link JavascriptInvocationFailedException} instance (it is
+     * not thrown). {@link JavascriptInvocationBatch} can be used to handle that transparently.
+     *
+     * @param executor the executor where expressions will be evaluated
+     * @param expressions expressions to evaluate
+     * @param args arguments for each expression
+     * @return the results, one per expression and in the same order
+     */
+    public abstract List<Object> invokeExpressions(JavascriptExecutor executor, List<String> expressions, List<Object[]> args);
+
+    /**
+     * Evaluates several expressions in the documents of the given frames, without switching to them.
+     * The script is executed in the parent document, so only same-origin frames can be evaluated.
+     * Each frame is evaluated with its own minium, so frames where minium or the required jQuery
+     * extensions are not loaded yet are not evaluated either.
+     * <p>
+     * Results are the same as in {@link #invokeExpressions(JavascriptExecutor, List, List)}, except
+     * that results with elements are {@link FrameElementsResultException} instances, because those
+     * elements can only be returned when the script is executed in the frame itself.
+     *
+     * @param executor the executor of the parent document
+     * @param frames frame elements, which must belong to the parent document
+     * @param expressions expressions to evaluate
+     * @param args arguments for each expression
+     * @return the results of each frame, or {@code null} if that frame cannot be evaluated from the parent document
+     */
+    public abstract List<List<Object>> invokeExpressionsInFrames(JavascriptExecutor executor, List<WebElement> frames, List<String> expressions, List<Object[]> args);
+
+    /**
+     * Waits in the browser, with a single asynchronous script execution, until the expression evaluates
+     * to {@code size} elements (or to any other number of elements, if {@code negated} is true). The
+     * expression is evaluated again on every DOM mutation and every {@code intervalMillis}.
+     *
+     * @param executor the executor where the expression will be evaluated
+     * @param expression the expression to evaluate
+     * @param size expected number of elements
+     * @param negated if true, waits for any number of elements other than {@code size}
+     * @param timeoutMillis maximum time to wait
+     * @param intervalMillis time between evaluations when no DOM mutation occurs
+     * @param args expression arguments
+     * @return true if the expected number of elements was found before timeout
+     */
+    public abstract boolean waitForExpressionSize(JavascriptExecutor executor, String expression, int size, boolean negated, long timeoutMillis, long intervalMillis, Object ... args);
+
+    /**
+     * Same as {@link #waitForExpressionSize(JavascriptExecutor, String, int, boolean, long, long, Object...)},
+     * but also returns the elements that satisfied the wait, so that they don't need to be evaluated again.
+     * Like in {@link #invokeExpressionElements(JavascriptExecutor, String, Object...)}, if the DOM generation
+     * did not change since the expression was last resolved, those elements are returned without evaluating it.
+     *
+     * @param executor the executor where the expression will be evaluated
+     * @param expression the expression to evaluate
+     * @param size expected number of elements
+     * @param negated if true, waits for any number of elements other than {@code size}
+     * @param timeoutMillis maximum time to wait
+     * @param intervalMillis time between evaluations when no DOM mutation occurs
+     * @param args expression arguments
+     * @return the elements the expression evaluated to, or null if the wait timed out
+     */
+    public abstract List<WebElement> waitForExpressionElements(JavascriptExecutor executor, String expression, int size, boolean negated, long timeoutMillis, long intervalMillis, Object ... args);
+}
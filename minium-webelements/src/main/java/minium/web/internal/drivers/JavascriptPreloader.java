@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Strategy to make minium javascript available in pages before any expression is
+ * evaluated there, so that it doesn't need to be injected after each navigation.
+ */
+public interface JavascriptPreloader {
+
+    /**
+     * Registers the script to be evaluated in every new document.
+     *
+     * @return true if the web driver supports it, false otherwise, in which case
+     *         minium javascript will be injected when first needed
+     */
+    public boolean preload(WebDriver webDriver, String script);
+
+    public static class None implements JavascriptPreloader {
+
+        @Override
+        public boolean preload(WebDriver webDriver, String script) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Keeps track of the document a native {@link WebDriver} is currently switched to,
+ * so that {@link InternalDocumentWebDriver#ensureSwitch()} can skip redundant switches.
+ * It must be invalidated whenever that context may have changed behind our back
+ * (navigation, window close, {@code NoSuchFrameException} / {@code NoSuchWindowException}).
+ */
+public class SwitchContextTracker {
+
+    private static final LoadingCache<WebDriver, SwitchContextTracker> TRACKERS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<WebDriver, SwitchContextTracker>() {
+                @Override
+                public SwitchContextTracker load(WebDriver key) throws Exception {
+                    return new SwitchContextTracker();
+                }
+            });
+
+    private InternalDocumentWebDriver current;
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong performed = new AtomicLong();
+
+    public static SwitchContextTracker forWebDriver(WebDriver webDriver) {
+        return TRACKERS.getUnchecked(webDriver);
+    }
+
+    /**
+     * Returns true (and counts it as a skipped switch) if the native driver is already
+     * switched to the given document.
+     */
+    public synchronized boolean isCurrent(InternalDocumentWebDriver documentDriver) {
+        if (current != null && Objects.equal(current, documentDriver)) {
+            skipped.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void switched(InternalDocumentWebDriver documentDriver) {
+        current = documentDriver;
+        performed.incrementAndGet();
+    }
+
+    public synchronized void invalidate() {
+        current = null;
+    }
+
+    public long getSkippedSwitches() {
+        return skipped.get();
+    }
+
+    public long getPerformedSwitches() {
+        return performed.get();
+    }
+
+    public void resetCounters() {
+        skipped.set(0);
+        performed.set(0);
+    }
+}
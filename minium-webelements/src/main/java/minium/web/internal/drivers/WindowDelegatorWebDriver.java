@@ -22,6 +22,7 @@ import java.util.Observer;
 
 import minium.web.DelegatorWebDriver;
 
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +48,13 @@ public class WindowDelegatorWebDriver extends BaseDocumentWebDriver implements O
     @Override
     public void ensureSwitch() {
         Preconditions.checkState(windowHandle != null);
-        webDriver.switchTo().window(windowHandle);
+        if (switchContext.isCurrent(this)) return;
+        try {
+            webDriver.switchTo().window(windowHandle);
+        } catch (NoSuchWindowException e) {
+            throw contextLost(e);
+        }
+        switchContext.switched(this);
         LOGGER.trace("Switched to window {}", windowHandle);
     }
 
@@ -88,5 +95,7 @@ public class WindowDelegatorWebDriver extends BaseDocumentWebDriver implements O
     public void update(Observable o, Object arg) {
         WebDriver webDriver = (WebDriver) arg;
         this.windowHandle = webDriver == null ? null : webDriver.getWindowHandle();
+        // delegate changed, so whatever context was being tracked belongs to another driver
+        switchContext.invalidate();
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package minium.web.internal.drivers;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,7 +41,13 @@ public class WindowWebDriver extends BaseDocumentWebDriver {
 
     @Override
     public void ensureSwitch() {
-        webDriver.switchTo().window(windowHandle);
+        if (switchContext.isCurrent(this)) return;
+        try {
+            webDriver.switchTo().window(windowHandle);
+        } catch (NoSuchWindowException e) {
+            throw contextLost(e);
+        }
+        switchContext.switched(this);
         LOGGER.trace("Switched to window {}", windowHandle);
     }
 
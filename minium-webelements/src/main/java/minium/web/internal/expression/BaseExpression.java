@@ -15,8 +15,24 @@
  */
 package minium.web.internal.expression;
 
+import com.google.common.base.Preconditions;
+
 public abstract class BaseExpression implements Expression {
 
+    private volatile String javascript;
+
+    @Override
+    public String getJavascript() {
+        if (javascript == null) {
+            VariableGenerator varGenerator = new VariableGenerator.Impl();
+            String generated = getJavascript(varGenerator);
+            Object[] args = getArgs();
+            Preconditions.checkState(varGenerator.usedVariables() == (args == null ? 0 : args.length));
+            javascript = generated;
+        }
+        return javascript;
+    }
+
     @Override
     public Object[] getArgs() {
         return null;
@@ -24,6 +40,6 @@ public abstract class BaseExpression implements Expression {
 
     @Override
     public String toString() {
-        return getJavascript(new VariableGenerator.Impl());
+        return getJavascript();
     }
 }
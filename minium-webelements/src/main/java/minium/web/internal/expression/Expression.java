@@ -19,6 +19,13 @@ public interface Expression {
 
     public String getJavascript(VariableGenerator varGenerator);
 
+    /**
+     * Expressions are immutable, so implementations are expected to memoize this.
+     *
+     * @return javascript template with variables numbered from {@code args[0]}
+     */
+    public String getJavascript();
+
     /**
      *
      * @return argument if any
@@ -18,6 +18,7 @@ package minium.web.internal.expression;
 import static java.lang.String.format;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import com.google.common.base.Joiner;
@@ -29,6 +30,7 @@ public class FunctionInvocationExpression extends BaseExpression {
     private final Expression parentExpression;
     private final String function;
     private final List<Expression> argExpressions;
+    private volatile Object[] args;
 
     public FunctionInvocationExpression(Expression parentExpression, String function, Expression ... argExpressions) {
         this(parentExpression, function, Lists.newArrayList(argExpressions));
@@ -37,7 +39,7 @@ public class FunctionInvocationExpression extends BaseExpression {
     public FunctionInvocationExpression(Expression parentExpression, String function, List<Expression> argExpressions) {
         this.parentExpression = parentExpression;
         this.function = function;
-        this.argExpressions = argExpressions;
+        this.argExpressions = Collections.unmodifiableList(Lists.newArrayList(argExpressions));
     }
 
     @Override
@@ -47,19 +49,28 @@ public class FunctionInvocationExpression extends BaseExpression {
         }
 
         return format("%s.%s(%s)",
-                parentExpression.getJavascript(varGenerator),
+                parentJavascript(varGenerator),
                 function,
                 argsAsString(varGenerator));
     }
 
     @Override
     public Object[] getArgs() {
-        List<Object> allArgs = Lists.newArrayList();
-        addArgs(allArgs, parentExpression.getArgs());
-        for (Expression argExpression : argExpressions) {
-            addArgs(allArgs, argExpression.getArgs());
+        if (args == null) {
+            List<Object> allArgs = Lists.newArrayList();
+            addArgs(allArgs, parentExpression.getArgs());
+            for (Expression argExpression : argExpressions) {
+                addArgs(allArgs, argExpression.getArgs());
+            }
+            args = Iterables.toArray(allArgs, Object.class);
         }
-        return Iterables.toArray(allArgs, Object.class);
+        return args;
+    }
+
+    protected String parentJavascript(VariableGenerator varGenerator) {
+        Object[] parentArgs = parentExpression.getArgs();
+        // without variables, the memoized template does not depend on the variable generator
+        return parentArgs == null || parentArgs.length == 0 ? parentExpression.getJavascript() : parentExpression.getJavascript(varGenerator);
     }
 
     protected void addArgs(List<Object> args, Object[] expressionArgs) {
@@ -19,16 +19,28 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import minium.internal.Throwables;
 
+/**
+ * Converts objects into javascript expressions. By default, objects are serialized
+ * as JSON and inlined in the javascript, but if {@code literalsAsArgs} is enabled
+ * they are passed as script arguments instead, which keeps the generated
+ * javascript the same regardless of the values.
+ */
 public class JsonExpressionizer implements Expressionizer {
 
     private final ObjectMapper mapper;
+    private final boolean literalsAsArgs;
 
     public JsonExpressionizer() {
         this(null);
     }
 
     public JsonExpressionizer(ObjectMapper objectMapper) {
+        this(objectMapper, false);
+    }
+
+    public JsonExpressionizer(ObjectMapper objectMapper, boolean literalsAsArgs) {
         this.mapper = objectMapper == null ? new ObjectMapper() : objectMapper;
+        this.literalsAsArgs = literalsAsArgs;
     }
 
     @Override
@@ -39,6 +51,10 @@ public class JsonExpressionizer implements Expressionizer {
 
     @Override
     public Expression apply(Object obj) {
+        if (literalsAsArgs) {
+            // webdriver only accepts primitives, strings, lists and maps as script arguments
+            return new LiteralExpression(mapper.convertValue(obj, Object.class));
+        }
         try {
             String json = mapper.writeValueAsString(obj);
             return new BasicExpression(json);
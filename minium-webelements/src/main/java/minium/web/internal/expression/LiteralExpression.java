@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.expression;
+
+/**
+ * Expression that is passed as a script argument, so that the generated javascript
+ * does not depend on its value.
+ */
+public class LiteralExpression extends BaseExpression {
+
+    private final Object value;
+
+    public LiteralExpression(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public String getJavascript(VariableGenerator varGenerator) {
+        return varGenerator.generate();
+    }
+
+    @Override
+    public Object[] getArgs() {
+        return new Object[] { value };
+    }
+
+}
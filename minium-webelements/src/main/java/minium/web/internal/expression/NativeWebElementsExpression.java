@@ -23,18 +23,20 @@ import java.util.List;
 
 import org.openqa.selenium.WebElement;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 
 public class NativeWebElementsExpression extends BaseExpression {
 
     private final List<? extends WebElement> nativeWebElements;
+    private volatile Object[] args;
 
     public NativeWebElementsExpression(WebElement ... nativeWebElements) {
         this(Lists.newArrayList(nativeWebElements));
     }
 
     public NativeWebElementsExpression(List<? extends WebElement> nativeWebElements) {
-        this.nativeWebElements = nativeWebElements;
+        this.nativeWebElements = ImmutableList.copyOf(nativeWebElements);
     }
 
     @Override
@@ -44,8 +46,11 @@ public class NativeWebElementsExpression extends BaseExpression {
 
     @Override
     public Object[] getArgs() {
-        List<WebElement> unwrappedNativedWebElements = from(nativeWebElements).transform(WebElementFunctions.unwrap()).toList();
-        return new Object[] { unwrappedNativedWebElements };
+        if (args == null) {
+            List<WebElement> unwrappedNativedWebElements = from(nativeWebElements).transform(WebElementFunctions.unwrap()).toList();
+            args = new Object[] { unwrappedNativedWebElements };
+        }
+        return args;
     }
 
 }
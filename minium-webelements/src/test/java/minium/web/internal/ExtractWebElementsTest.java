@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.Browser;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.drivers.MockWebDriver;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+public class ExtractWebElementsTest {
+
+    @Test
+    public void testExtractIsEvaluatedOnceAndCoerced() {
+        // given
+        final List<String> evaluatedExpressions = Lists.newArrayList();
+        MockWebDriver webDriver = new MockWebDriver() {
+            @Override
+            protected Object doExecuteScript(String script, Object... args) {
+                String expression = (String) args[0];
+                // parent size is probed together with the expression
+                if (expression.endsWith(".size()")) return 2;
+                evaluatedExpressions.add(expression);
+                return "{ \"text\" : [ \"Home\", \"About\" ], \"attr:href\" : [ \"/\", null ] }";
+            }
+        };
+        Browser<DefaultWebElements> browser = new WebDriverBrowser<>(webDriver, DefaultWebElements.class, WebModules.defaultModule(webDriver));
+        DefaultWebElements links = browser.root().find("a");
+
+        // when
+        Map<String, List<Object>> table = links.extract("text", "attr:href");
+
+        // then
+        assertThat(evaluatedExpressions, equalTo((List<String>) ImmutableList.of("$(\"a\").extract([\"text\",\"attr:href\"])")));
+        assertThat(table.get("text"), equalTo((List<Object>) ImmutableList.<Object>of("Home", "About")));
+        assertThat(table.get("attr:href"), equalTo((List<Object>) Arrays.<Object>asList("/", null)));
+    }
+}
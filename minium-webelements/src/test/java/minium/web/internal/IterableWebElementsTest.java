@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.Browser;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.drivers.DocumentWebElement;
+import minium.web.internal.drivers.MockWebDriver;
+import minium.web.internal.drivers.MockWebElement;
+
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+public class IterableWebElementsTest {
+
+    private MockWebDriver webDriver;
+    private Browser<DefaultWebElements> browser;
+    private DefaultWebElements root;
+
+    @Before
+    public void setup() {
+        webDriver = new MockWebDriver();
+        browser = new WebDriverBrowser<>(webDriver, DefaultWebElements.class);
+        root = browser.root();
+    }
+
+    @Test
+    public void testIteratedElementsAreBackedByMaterializedElements() {
+        // given
+        WebElement row1 = new MockWebElement();
+        WebElement row2 = new MockWebElement();
+        DefaultWebElements rows = root.find("tr");
+        webDriver.when(rows).thenReturn(row1, row2);
+
+        // when
+        List<DefaultWebElements> iterated = Lists.newArrayList(rows);
+        // no longer evaluated, iterated elements must keep their native elements
+        webDriver.reset();
+
+        // then
+        assertThat(iterated, Matchers.<DefaultWebElements>hasSize(2));
+        assertThat(nativeElement(iterated.get(0)), equalTo(row1));
+        assertThat(nativeElement(iterated.get(1)), equalTo(row2));
+    }
+
+    @Test
+    public void testIteratedElementIsEvaluatedAgainWhenRefreshed() {
+        // given
+        WebElement row1 = new MockWebElement();
+        WebElement row2 = new MockWebElement();
+        WebElement newRow2 = new MockWebElement();
+        DefaultWebElements rows = root.find("tr");
+        webDriver.when(rows).thenReturn(row1, row2);
+        DefaultWebElements secondRow = Iterables.get(rows, 1);
+
+        // when
+        webDriver.when(rows.eq(1)).thenReturn(newRow2);
+        boolean refreshed = secondRow.as(InternalWebElements.class).refresh();
+
+        // then
+        assertThat(refreshed, equalTo(true));
+        assertThat(nativeElement(secondRow), equalTo(newRow2));
+    }
+
+    @Test
+    public void testExpressionIsRebuiltWhenArgumentIsRefreshed() {
+        // given
+        WebElement row1 = new MockWebElement();
+        WebElement row2 = new MockWebElement();
+        WebElement newRow2 = new MockWebElement();
+        DefaultWebElements rows = root.find("tr");
+        webDriver.when(rows).thenReturn(row1, row2);
+        DefaultWebElements secondRow = Iterables.get(rows, 1);
+        DefaultWebElements otherRows = rows.not(secondRow);
+        List<Object> argsBefore = Arrays.asList(otherRows.as(ExpressionWebElements.class).getExpression().getArgs());
+
+        // when
+        webDriver.when(rows.eq(1)).thenReturn(newRow2);
+        secondRow.as(InternalWebElements.class).refresh();
+        List<Object> argsAfter = Arrays.asList(otherRows.as(ExpressionWebElements.class).getExpression().getArgs());
+
+        // then
+        assertThat(argsBefore, Matchers.<Object>hasItem(ImmutableList.of(row2)));
+        assertThat(argsAfter, Matchers.<Object>hasItem(ImmutableList.of(newRow2)));
+    }
+
+    protected WebElement nativeElement(DefaultWebElements elems) {
+        DocumentWebElement documentWebElement = Iterables.getOnlyElement(elems.as(InternalWebElements.class).wrappedNativeElements());
+        return documentWebElement.getWrappedWebElement();
+    }
+}
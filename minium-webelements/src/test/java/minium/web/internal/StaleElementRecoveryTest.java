@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.Browser;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.drivers.MockWebDriver;
+import minium.web.internal.drivers.MockWebElement;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+
+public class StaleElementRecoveryTest {
+
+    static class ClickCountingWebElement extends MockWebElement {
+        int clicks;
+
+        @Override
+        public void click() {
+            clicks++;
+        }
+    }
+
+    private MockWebDriver webDriver;
+    private Browser<DefaultWebElements> browser;
+    private DefaultWebElements root;
+
+    @Before
+    public void setup() {
+        webDriver = new MockWebDriver();
+        browser = new WebDriverBrowser<>(webDriver, DefaultWebElements.class);
+        root = browser.root();
+    }
+
+    @Test
+    public void testStaleElementIsEvaluatedAgainAndCommandRetried() {
+        // given
+        final DefaultWebElements button = root.find("button");
+        final ClickCountingWebElement newButton = new ClickCountingWebElement();
+        MockWebElement staleButton = new MockWebElement() {
+            @Override
+            public void click() {
+                // page re-rendered the button
+                webDriver.when(button).thenReturn(newButton);
+                throw new StaleElementReferenceException("stale");
+            }
+        };
+        webDriver.when(button).thenReturn(staleButton);
+
+        // when
+        button.click();
+
+        // then
+        assertThat(newButton.clicks, equalTo(1));
+    }
+
+    @Test
+    public void testRecoveredElementReplacesStaleOneInFrozenElements() {
+        // given
+        final DefaultWebElements button = root.find("button");
+        final ClickCountingWebElement newButton = new ClickCountingWebElement();
+        final ClickCountingWebElement staleButton = new ClickCountingWebElement() {
+            @Override
+            public void click() {
+                super.click();
+                webDriver.when(button).thenReturn(newButton);
+                throw new StaleElementReferenceException("stale");
+            }
+        };
+        webDriver.when(button).thenReturn(staleButton);
+        DefaultWebElements frozenButton = button.freeze();
+
+        // when
+        frozenButton.click();
+        frozenButton.click();
+
+        // then
+        assertThat(staleButton.clicks, equalTo(1));
+        assertThat(newButton.clicks, equalTo(2));
+    }
+
+    @Test(expected = StaleElementReferenceException.class)
+    public void testStaleElementIsNotRecoveredIfElementsChanged() {
+        // given
+        final DefaultWebElements buttons = root.find("button");
+        MockWebElement staleButton = new MockWebElement() {
+            @Override
+            public void click() {
+                webDriver.when(buttons).thenReturn(new MockWebElement(), new MockWebElement());
+                throw new StaleElementReferenceException("stale");
+            }
+        };
+        webDriver.when(buttons).thenReturn(staleButton);
+
+        // when
+        buttons.click();
+    }
+}
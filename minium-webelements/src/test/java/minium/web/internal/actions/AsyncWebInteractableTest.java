@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import minium.actions.HasConfiguration;
+import minium.actions.InteractionListener;
+import minium.actions.internal.BeforeInteractionEvent;
+import minium.actions.internal.DefaultInteractionListener;
+import minium.web.CoreWebElements.DefaultWebElements;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class AsyncWebInteractableTest extends BaseInteractableTest {
+
+    @Test
+    public void testClickCompletesWithElements() {
+        // when
+        DefaultWebElements result = interactable.async().click().join();
+
+        // then
+        verify(mockedWebElement).click();
+        assertThat(result.toString(), equalTo(interactable.toString()));
+    }
+
+    @Test
+    public void testInteractionsRunInBrowserThreadInOrder() {
+        // given
+        final Thread caller = Thread.currentThread();
+        final StringBuilder order = new StringBuilder();
+
+        // when
+        interactable.async().call(new Callable<Thread>() {
+            @Override
+            public Thread call() throws Exception {
+                Thread.sleep(100);
+                order.append("first;");
+                return Thread.currentThread();
+            }
+        });
+        CompletableFuture<Thread> second = interactable.async().call(new Callable<Thread>() {
+            @Override
+            public Thread call() {
+                order.append("second;");
+                return Thread.currentThread();
+            }
+        });
+
+        // then
+        assertThat(second.join(), not(equalTo(caller)));
+        assertThat(order.toString(), equalTo("first;second;"));
+    }
+
+    @Test
+    public void testSyncInteractionRunsAfterPendingAsyncInteractions() {
+        // given
+        final StringBuilder order = new StringBuilder();
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                order.append("click;");
+                return null;
+            }
+        }).when(mockedWebElement).click();
+
+        // when
+        CompletableFuture<Void> async = interactable.async().call(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                Thread.sleep(100);
+                order.append("async;");
+                return null;
+            }
+        });
+        interactable.click();
+
+        // then
+        assertThat(async.isDone(), equalTo(true));
+        assertThat(order.toString(), equalTo("async;click;"));
+    }
+
+    @Test
+    public void testSyncInteractionInsideAsyncTaskRunsImmediately() {
+        // when
+        interactable.async().call(new Callable<DefaultWebElements>() {
+            @Override
+            public DefaultWebElements call() {
+                return interactable.click();
+            }
+        }).join();
+
+        // then
+        verify(mockedWebElement).click();
+    }
+
+    @Test(timeout = 5000)
+    public void testAsyncInteractionInsideSyncInteractionRunsImmediately() {
+        // given
+        final StringBuilder order = new StringBuilder();
+        InteractionListener listener = new DefaultInteractionListener() {
+            @Override
+            protected void onBeforeEvent(BeforeInteractionEvent event) {
+                // would deadlock if it waited for the interaction that is calling this listener
+                interactable.async().call(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        order.append("async;");
+                        return null;
+                    }
+                }).join();
+            }
+        };
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                order.append("click;");
+                return null;
+            }
+        }).when(mockedWebElement).click();
+        interactable.as(HasConfiguration.class).configure().interactionListeners().add(listener);
+
+        // when
+        interactable.click();
+
+        // then
+        assertThat(order.toString(), equalTo("async;click;"));
+    }
+}
@@ -30,7 +30,7 @@ public class BaseInteractableTest {
 
     private MockWebDriver mockedWebDriver;
     protected MockWebElement mockedWebElement;
-    private WebDriverBrowser<DefaultWebElements> browser;
+    protected WebDriverBrowser<DefaultWebElements> browser;
     protected DefaultWebElements interactable;
     protected Mouse mouse;
     protected Keyboard keyboard;
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static minium.actions.internal.WaitPredicates.forExistence;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import minium.actions.internal.Waits;
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.Browser;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.WebModules;
+import minium.web.internal.drivers.MockWebDriver;
+
+import org.junit.Test;
+
+public class BrowserWaitTest {
+
+    @Test
+    public void testDefaultModuleDoesNotWaitInBrowser() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+
+        // when
+        Browser<DefaultWebElements> browser = new WebDriverBrowser<>(webDriver, DefaultWebElements.class, WebModules.defaultModule(webDriver));
+        DefaultWebElements elems = browser.root().find("a");
+
+        // then
+        assertThat(Waits.getInstance(elems), not(instanceOf(BrowserWait.class)));
+    }
+
+    @Test
+    public void testBrowserWaitModuleWaitsInBrowser() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+
+        // when
+        Browser<DefaultWebElements> browser = new WebDriverBrowser<>(webDriver, DefaultWebElements.class,
+                WebModules.combine(WebModules.defaultModule(webDriver), WebModules.browserWaitModule()));
+        DefaultWebElements elems = browser.root().find("a");
+
+        // then
+        assertThat(Waits.getInstance(elems), instanceOf(BrowserWait.class));
+        assertThat(((BrowserWait) Waits.getInstance(elems)).waitsInBrowser(elems, forExistence()), is(true));
+    }
+
+    @Test
+    public void testBrowserWaitModuleDoesNotAffectOtherBrowsers() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+        MockWebDriver otherWebDriver = new MockWebDriver();
+        new WebDriverBrowser<>(webDriver, DefaultWebElements.class, WebModules.combine(WebModules.defaultModule(webDriver), WebModules.browserWaitModule()));
+
+        // when
+        Browser<DefaultWebElements> otherBrowser = new WebDriverBrowser<>(otherWebDriver, DefaultWebElements.class, WebModules.defaultModule(otherWebDriver));
+        DefaultWebElements otherElems = otherBrowser.root().find("a");
+
+        // then
+        assertThat(Waits.getInstance(), not(instanceOf(BrowserWait.class)));
+        assertThat(Waits.getInstance(otherElems), not(instanceOf(BrowserWait.class)));
+    }
+}
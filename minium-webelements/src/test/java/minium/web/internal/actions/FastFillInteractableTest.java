@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import minium.actions.Interaction;
+import minium.actions.internal.BeforeInteractionEvent;
+import minium.actions.internal.DefaultInteractionListener;
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.drivers.MockWebDriver;
+import minium.web.internal.drivers.MockWebElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+public class FastFillInteractableTest {
+
+    private final List<String> fastFillExpressions = Lists.newArrayList();
+    private Object fastFillResult;
+    private MockWebDriver mockedWebDriver;
+    private MockWebElement mockedWebElement;
+    private MockWebElement nameWebElement;
+    private WebDriverBrowser<DefaultWebElements> browser;
+    private DefaultWebElements interactable;
+
+    @Before
+    public void setup() {
+        mockedWebDriver = new MockWebDriver() {
+            @Override
+            protected Object doExecuteScript(String script, Object... args) {
+                String expression = (String) args[0];
+                if (expression.contains(".fastFill")) {
+                    fastFillExpressions.add(expression);
+                    return fastFillResult;
+                }
+                // fields typed after a form fill are found inside the frozen form
+                if (expression.endsWith(".find(\"#name\").size()")) return 1;
+                if (expression.endsWith(".find(\"#name\")")) return ImmutableList.of(nameWebElement);
+                return super.doExecuteScript(script, args);
+            }
+        };
+        mockedWebElement = spy(new MockWebElement(mockedWebDriver));
+        nameWebElement = spy(new MockWebElement(mockedWebDriver));
+        browser = new WebDriverBrowser<>(mockedWebDriver, DefaultWebElements.class);
+
+        interactable = browser.root().find("input");
+
+        mockedWebDriver.when(interactable).thenReturn(mockedWebElement);
+    }
+
+    @Test
+    public void testFastFill() {
+        // given
+        fastFillResult = true;
+
+        // when
+        interactable.fastFill("Minium can!");
+
+        // then
+        assertThat(fastFillExpressions, contains(endsWith(".fastFill(\"Minium can!\", false)")));
+        verify(mockedWebElement, never()).sendKeys(any(CharSequence[].class));
+    }
+
+    @Test
+    public void testFastFillTypesFieldsWithKeyHandlers() {
+        // given
+        fastFillResult = false;
+
+        // when
+        interactable.fastFill("Minium can!");
+
+        // then
+        verify(mockedWebElement).clear();
+        verify(mockedWebElement).sendKeys("Minium can!");
+    }
+
+    @Test
+    public void testFillIsTypedUnlessFastFillIsConfigured() {
+        // given
+        fastFillResult = true;
+
+        // when
+        interactable.fill("Minium can!");
+        browser.configure().waitingPreset(null).fastFill(true);
+        interactable.type(" Really!");
+
+        // then
+        verify(mockedWebElement).sendKeys("Minium can!");
+        assertThat(fastFillExpressions, contains(endsWith(".fastFill(\" Really!\", true)")));
+    }
+
+    @Test
+    public void testFillFormTypesOnlyUnfilledFields() {
+        // given
+        fastFillResult = ImmutableList.of("#name");
+
+        // when
+        interactable.fillForm(ImmutableMap.of("#email", "minium@vilt.io", "#name", "Minium"));
+
+        // then
+        assertThat(fastFillExpressions, contains(endsWith(".fastFillAll({\"#email\":\"minium@vilt.io\",\"#name\":\"Minium\"})")));
+        verify(nameWebElement).sendKeys("Minium");
+    }
+
+    @Test
+    public void testFillFormTypesUnfilledFieldsWithListeners() {
+        // given
+        fastFillResult = ImmutableList.of("#name");
+        final List<Interaction> interactions = Lists.newArrayList();
+        browser.configure().interactionListeners().add(new DefaultInteractionListener() {
+            @Override
+            protected void onBeforeEvent(BeforeInteractionEvent event) {
+                interactions.add(event.getInteraction());
+            }
+        });
+
+        // when
+        interactable.fillForm(ImmutableMap.of("#email", "minium@vilt.io", "#name", "Minium"));
+
+        // then
+        assertThat(interactions, contains(instanceOf(FillFormInteraction.class), instanceOf(FillInteraction.class)));
+        verify(nameWebElement).sendKeys("Minium");
+    }
+}
@@ -15,12 +15,14 @@
  */
 package minium.web.internal.actions;
 
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import minium.Offsets;
 import minium.Offsets.HorizontalReference;
 import minium.Offsets.VerticalReference;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
 public class MouseInteractableTest extends BaseInteractableTest {
 
@@ -80,4 +82,37 @@ public class MouseInteractableTest extends BaseInteractableTest {
         verify(mouse).mouseUp(null);
     }
 
+    @Test
+    public void testGesture() {
+        interactable.gesture()
+            .moveTo()
+            .clickAndHold()
+            .moveTo(Offsets.at(HorizontalReference.RIGHT, VerticalReference.TOP))
+            .release()
+            .perform();
+
+        InOrder inOrder = inOrder(mouse);
+        inOrder.verify(mouse).mouseMove(mockedWebElement.getCoordinates());
+        inOrder.verify(mouse).mouseDown(null);
+        inOrder.verify(mouse).mouseMove(mockedWebElement.getCoordinates(), mockedWebElement.getSize().width, 0);
+        inOrder.verify(mouse).mouseUp(null);
+    }
+
+    @Test
+    public void testGestureClicksAtCurrentLocationOnDocumentRoot() {
+        interactable.gesture()
+            .moveTo()
+            .click(browser.root())
+            .perform();
+
+        InOrder inOrder = inOrder(mouse);
+        inOrder.verify(mouse).mouseMove(mockedWebElement.getCoordinates());
+        inOrder.verify(mouse).click(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGestureRejectsOffsetOnDocumentRoot() {
+        interactable.gesture()
+            .moveTo(browser.root(), Offsets.at(HorizontalReference.RIGHT, VerticalReference.TOP));
+    }
 }
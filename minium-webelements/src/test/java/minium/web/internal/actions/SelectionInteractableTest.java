@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.spy;
+
+import java.util.List;
+
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.drivers.MockWebDriver;
+import minium.web.internal.drivers.MockWebElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class SelectionInteractableTest {
+
+    private final List<String> selectExpressions = Lists.newArrayList();
+    private Object selectResult = 1;
+    private MockWebDriver mockedWebDriver;
+    private DefaultWebElements interactable;
+
+    @Before
+    public void setup() {
+        mockedWebDriver = new MockWebDriver() {
+            @Override
+            protected Object doExecuteScript(String script, Object... args) {
+                String expression = (String) args[0];
+                if (expression.contains(".selectOptions(")) {
+                    selectExpressions.add(expression);
+                    return selectResult;
+                }
+                return super.doExecuteScript(script, args);
+            }
+        };
+        WebDriverBrowser<DefaultWebElements> browser = new WebDriverBrowser<>(mockedWebDriver, DefaultWebElements.class);
+
+        interactable = browser.root().find("select");
+
+        mockedWebDriver.when(interactable).thenReturn(spy(new MockWebElement(mockedWebDriver)));
+    }
+
+    @Test
+    public void testSelectIsEvaluatedOnce() {
+        // when
+        interactable.select("Portugal");
+
+        // then
+        assertThat(selectExpressions, contains(endsWith(".selectOptions(\"text\", \"Portugal\", true)")));
+    }
+
+    @Test
+    public void testDeselectAllIsEvaluatedOnce() {
+        // when
+        interactable.deselectAll();
+
+        // then
+        assertThat(selectExpressions, contains(endsWith(".selectOptions(\"all\", null, false)")));
+    }
+
+    @Test
+    public void testSelectDisabledOptionFails() {
+        // given
+        selectResult = SelectionInteraction.DISABLED_OPTION;
+
+        try {
+            // when
+            interactable.select("Portugal");
+            fail("Selecting a disabled option should fail");
+        } catch (UnsupportedOperationException e) {
+            // then
+            assertThat(e.getMessage(), equalTo("You may not select a disabled option"));
+        }
+    }
+
+    @Test
+    public void testSelectAllOnSingleSelectFails() {
+        // given
+        selectResult = SelectionInteraction.MULTI_SELECT_REQUIRED;
+
+        try {
+            // when
+            interactable.selectAll();
+            fail("Selecting all options of a single select should fail");
+        } catch (UnsupportedOperationException e) {
+            // then
+            assertThat(e.getMessage(), equalTo("You may only select all options of a multi-select"));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.actions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.ExecutorService;
+
+import minium.actions.Interaction;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class SerialInteractionExecutorTest {
+
+    @Test
+    public void testInteractionWaitsForTasksRequestedBefore() throws Exception {
+        // given
+        final StringBuilder order = new StringBuilder();
+        ExecutorService executor = DefaultHasAsyncWebInteractable.newSerialExecutor();
+        // keeps the executor busy, so that the next task is still queued when the interaction is performed
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        SerialInteractionExecutor interactionExecutor = new SerialInteractionExecutor(executor);
+        Interaction interaction = mock(Interaction.class);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                order.append("sync;");
+                return null;
+            }
+        }).when(interaction).perform();
+
+        // when
+        interactionExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                order.append("async;");
+            }
+        });
+        interactionExecutor.run(interaction);
+
+        // then
+        assertThat(order.toString(), equalTo("async;sync;"));
+    }
+}
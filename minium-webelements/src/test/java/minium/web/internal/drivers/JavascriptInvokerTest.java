@@ -17,17 +17,32 @@ package minium.web.internal.drivers;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.hamcrest.Description;
@@ -36,7 +51,10 @@ import org.hamcrest.TypeSafeMatcher;
 import org.junit.Test;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 public class JavascriptInvokerTest {
@@ -121,6 +139,212 @@ public class JavascriptInvokerTest {
         assertThat((List<Integer>) result, equalTo(expectedResult));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvokeExpressions() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        JavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+
+        TestWebDriver wd = mock(TestWebDriver.class);
+        when(wd.executeScript(anyString(), anyVararg()))
+            // first time, we tell invoker it could not compute the result with the light script
+            .thenReturn(Lists.newArrayList("minium-undefined"))
+            // second time, we return all the results in a single batch response
+            .thenReturn(Lists.newArrayList("batch", Lists.newArrayList("number", 3L), Lists.newArrayList("array", 1, 2, 3), Lists.newArrayList("exception", "boom")));
+
+        // when
+        JavascriptInvocationBatch batch = new JavascriptInvocationBatch(invoker);
+        int sizeIndex = batch.add("$(args[0]).size()", "input");
+        int arrayIndex = batch.add("[1, 2, 3]");
+        int failedIndex = batch.add("$.fn.unknown()");
+        batch.flush(wd);
+
+        // then
+        verify(wd, times(2)).executeScript(anyString(), anyVararg());
+        assertThat(batch.<Long>get(sizeIndex), equalTo(3L));
+        assertThat((List<Integer>) batch.get(arrayIndex), equalTo((List<Integer>) Lists.newArrayList(1, 2, 3)));
+        try {
+            batch.get(failedIndex);
+            fail("Expected JavascriptInvocationFailedException");
+        } catch (JavascriptInvocationFailedException e) {
+            // expected
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCachedExpressionIsSentByHash() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String hash = invoker.hash("[1, 2, 3]");
+
+        List<Integer> expectedResult = Lists.newArrayList(1, 2, 3);
+        TestWebDriver wd = mock(TestWebDriver.class);
+        when(wd.executeScript(anyString(), anyVararg()))
+            // first time, expression is compiled and evaluated
+            .thenReturn(Lists.newArrayList("array", 1, 2, 3))
+            // second time, browser tells invoker it no longer has that expression cached
+            .thenReturn(Lists.newArrayList("minium-uncached"))
+            // third time, expression is compiled again and evaluated
+            .thenReturn(Lists.newArrayList("array", 1, 2, 3));
+
+        // when
+        invoker.invoke(wd, "[1, 2, 3]");
+        Object result = invoker.invoke(wd, "[1, 2, 3]");
+
+        // then
+        verify(wd, times(3)).executeScript(anyString(), anyVararg());
+        verify(wd, times(2)).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), eq("[1, 2, 3]"));
+        verify(wd, times(1)).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), isNull());
+        assertThat((List<Integer>) result, equalTo(expectedResult));
+    }
+
+    @Test
+    public void testCachedExpressionHashesAreKeptPerDocument() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String hash = invoker.hash("[1, 2, 3]");
+
+        TestWebDriver wd = mock(TestWebDriver.class);
+        TestWebDriver frameWd = mock(TestWebDriver.class);
+        when(wd.executeScript(anyString(), anyVararg())).thenReturn(Lists.newArrayList("array", 1, 2, 3));
+        when(frameWd.executeScript(anyString(), anyVararg())).thenReturn(Lists.newArrayList("array", 1, 2, 3));
+
+        // when
+        invoker.invoke(wd, "[1, 2, 3]");
+        invoker.invoke(frameWd, "[1, 2, 3]");
+        invoker.invoke(frameWd, "[1, 2, 3]");
+
+        // then
+        verify(wd, times(1)).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), eq("[1, 2, 3]"));
+        verify(frameWd, times(1)).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), eq("[1, 2, 3]"));
+        verify(frameWd, times(1)).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), isNull());
+    }
+
+    @Test
+    public void testCachedExpressionHashesAreForgottenInNewDocument() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String hash = invoker.hash("[4, 5]");
+
+        TestWebDriver wd = mock(TestWebDriver.class);
+        when(wd.executeScript(anyString(), anyVararg()))
+            .thenReturn(Lists.newArrayList("array", 1, 2, 3))
+            .thenReturn(Lists.newArrayList("array", 4, 5))
+            // page was reloaded, so minium is no longer defined
+            .thenReturn(Lists.newArrayList("minium-undefined"))
+            .thenReturn(Lists.newArrayList("array", 1, 2, 3))
+            .thenReturn(Lists.newArrayList("array", 4, 5));
+
+        // when
+        invoker.invoke(wd, "[1, 2, 3]");
+        invoker.invoke(wd, "[4, 5]");
+        invoker.invoke(wd, "[1, 2, 3]");
+        invoker.invoke(wd, "[4, 5]");
+
+        // then
+        verify(wd, times(5)).executeScript(anyString(), anyVararg());
+        verify(wd, times(2)).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), eq("[4, 5]"));
+        verify(wd, never()).executeScript(anyString(), eq(Collections.emptyList()), eq(hash), isNull());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testLazyModuleIsLoadedWhenRequired() {
+        // given
+        String positionResource = "minium/web/internal/lib/jquery.position.min.js";
+        List<String> jsResources = Collections.emptyList();
+        Map<String, List<String>> lazyJsResources = ImmutableMap.<String, List<String>>of(positionResource, ImmutableList.of("leftOf", "rightOf"));
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, lazyJsResources, cssResources);
+        String expression = "$(\"input\").leftOf($(\"label\")).size()";
+        String hash = invoker.hash(expression);
+        List<String> modules = ImmutableList.of(positionResource);
+
+        TestWebDriver wd = mock(TestWebDriver.class);
+        when(wd.executeScript(anyString(), anyVararg()))
+            // first time, we tell invoker that position module is not loaded yet
+            .thenReturn(Lists.newArrayList("minium-modules-undefined", positionResource))
+            // second time, module was loaded and expression was evaluated
+            .thenReturn(Lists.newArrayList("number", 1L));
+
+        // when
+        Object result = invoker.invoke(wd, expression);
+
+        // then
+        verify(wd, times(2)).executeScript(anyString(), anyVararg());
+        verify(wd).executeScript(eq(invoker.lightInvokerScript()), eq(modules), eq(hash), eq(expression));
+        verify(wd).executeScript(eq(invoker.moduleLoaderInvokerScript()), anyMap(), eq(modules), eq(hash), eq(expression));
+        assertThat(result, equalTo((Object) 1L));
+    }
+
+    @Test
+    public void testLazyModuleIsOnlyRequiredByChainedCalls() {
+        // given
+        String conditionalResource = "minium/web/internal/lib/jquery.conditional.min.js";
+        List<String> jsResources = Collections.emptyList();
+        Map<String, List<String>> lazyJsResources = ImmutableMap.<String, List<String>>of(conditionalResource, ImmutableList.of("and", "or"));
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, lazyJsResources, cssResources);
+
+        // then
+        assertThat(invoker.requiredModules(ImmutableList.of("$(\"input\").find(\"a\").and($(\"b\"))")), contains(conditionalResource));
+        assertThat(invoker.requiredModules(ImmutableList.of("$(args[0]).eval(args[1])"), new Object[] { null, "filters.or(defaults); rules.and(this);" }), hasSize(0));
+    }
+
+    @Test
+    public void testLazyModuleIsRequiredByLiteralArgument() {
+        // given
+        String debugResource = "minium/web/internal/lib/jquery.highlight.min.js";
+        List<String> jsResources = Collections.emptyList();
+        Map<String, List<String>> lazyJsResources = ImmutableMap.<String, List<String>>of(debugResource, ImmutableList.of("highlight"));
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, lazyJsResources, cssResources);
+
+        // then
+        assertThat(invoker.requiredModules(ImmutableList.of("$(args[0]).eval(args[1])"), new Object[] { null, "$(this).highlight && $(this).highlight();" }), contains(debugResource));
+        assertThat(invoker.requiredModules(ImmutableList.of("$(args[0]).eval(args[1])"), new Object[] { null, "$(this).hide();" }), hasSize(0));
+    }
+
+    @Test
+    public void testInvokeExpressionsInFrames() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        JavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        List<WebElement> frames = Lists.newArrayList(mock(WebElement.class), mock(WebElement.class), mock(WebElement.class));
+
+        TestWebDriver wd = mock(TestWebDriver.class);
+        when(wd.executeScript(anyString(), anyVararg()))
+            // first frame is cross-origin (or has no minium yet), second has elements and third has none
+            .thenReturn(Lists.newArrayList("batch",
+                    null,
+                    Lists.newArrayList(Lists.newArrayList("number", 2L), Lists.newArrayList("minium-frame-elements")),
+                    Lists.newArrayList(Lists.newArrayList("number", 0L), Lists.newArrayList("string", "text"))));
+
+        // when
+        List<List<Object>> results = invoker.invokeExpressionsInFrames(wd, frames,
+                Lists.newArrayList("$(\"input\").size()", "$(\"input\").first()"),
+                Lists.newArrayList(new Object[0], new Object[0]));
+
+        // then
+        verify(wd, times(1)).executeScript(anyString(), anyVararg());
+        assertThat(results, hasSize(3));
+        assertThat(results.get(0), nullValue());
+        assertThat(results.get(1).get(0), equalTo((Object) 2L));
+        assertThat(results.get(1).get(1), instanceOf(FrameElementsResultException.class));
+        assertThat(results.get(2).get(0), equalTo((Object) 0L));
+        assertThat(results.get(2).get(1), equalTo((Object) "text"));
+    }
+
     @Test
     public void testNoOneLineCommentsAndNewlines() {
         // given
@@ -135,6 +359,141 @@ public class JavascriptInvokerTest {
         // ensure it has no newlines
         assertThat(invoker.lightInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
         assertThat(invoker.fullInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.lightBatchInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.fullBatchInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.moduleLoaderInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.moduleLoaderBatchInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.preloadScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.lightFramesInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.lightElementsInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+        assertThat(invoker.lightWaitInvokerScript(), not(RegularExpressionFindMatcher.hasPattern("\\r?\\n")));
+    }
+
+    @Test
+    public void testWaitForExpressionSizeInBrowser() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String expression = "$(\"input\")";
+        String hash = invoker.hash(expression);
+
+        TestWebDriver wd = mock(TestWebDriver.class, RETURNS_DEEP_STUBS);
+        when(wd.executeAsyncScript(anyString(), anyVararg())).thenReturn(Lists.newArrayList("boolean", true));
+
+        // when
+        boolean satisfied = invoker.waitForExpressionSize(wd, expression, 0, true, 5000, 100);
+
+        // then
+        Map<String, Object> spec = ImmutableMap.<String, Object>of("size", 0, "negated", true, "timeout", 5000L, "interval", 100L);
+        verify(wd, never()).executeScript(anyString(), anyVararg());
+        verify(wd).executeAsyncScript(eq(invoker.lightWaitInvokerScript()), eq(Collections.emptyList()), eq(hash), eq(expression), eq(spec));
+        verify(wd.manage().timeouts(), never()).setScriptTimeout(anyLong(), any(TimeUnit.class));
+        assertThat(satisfied, equalTo(true));
+    }
+
+    @Test
+    public void testLongWaitForExpressionSizeTakesSeveralScripts() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String expression = "$(\"input\")";
+
+        TestWebDriver wd = mock(TestWebDriver.class, RETURNS_DEEP_STUBS);
+        when(wd.executeAsyncScript(anyString(), anyVararg())).thenReturn(Lists.newArrayList("boolean", false));
+
+        // when
+        boolean satisfied = invoker.waitForExpressionSize(wd, expression, 0, true, 25000, 100);
+
+        // then
+        Map<String, Object> spec = ImmutableMap.<String, Object>of("size", 0, "negated", true, "timeout", 10000L, "interval", 100L);
+        Map<String, Object> lastSpec = ImmutableMap.<String, Object>of("size", 0, "negated", true, "timeout", 5000L, "interval", 100L);
+        verify(wd, times(2)).executeAsyncScript(anyString(), any(), anyString(), any(), eq(spec));
+        verify(wd, times(1)).executeAsyncScript(anyString(), any(), anyString(), any(), eq(lastSpec));
+        verify(wd.manage().timeouts(), never()).setScriptTimeout(anyLong(), any(TimeUnit.class));
+        assertThat(satisfied, equalTo(false));
+    }
+
+    @Test
+    public void testExpressionElementsReusedWhileGenerationIsUnchanged() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String expression = "$(\"input\")";
+        String hash = invoker.hash(expression);
+        WebElement elem = mock(WebElement.class);
+
+        TestWebDriver wd = mock(TestWebDriver.class, RETURNS_DEEP_STUBS);
+        when(wd.executeScript(anyString(), anyVararg()))
+            .thenReturn(Lists.newArrayList("resolved", "doc:1", elem))
+            .thenReturn(Lists.newArrayList("minium-unchanged"));
+
+        // when
+        List<WebElement> resolved = invoker.invokeExpressionElements(wd, expression);
+        List<WebElement> reused = invoker.invokeExpressionElements(wd, expression);
+
+        // then
+        verify(wd).executeScript(invoker.lightElementsInvokerScript(), Collections.emptyList(), hash, expression, null);
+        verify(wd).executeScript(invoker.lightElementsInvokerScript(), Collections.emptyList(), hash, null, "doc:1");
+        assertThat(resolved, contains(elem));
+        assertThat(reused, contains(elem));
+    }
+
+    @Test
+    public void testExpressionElementsEvaluatedAgainWhenGenerationChanged() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String expression = "$(\":checkbox:checked\")";
+        String hash = invoker.hash(expression);
+        WebElement first = mock(WebElement.class);
+        WebElement second = mock(WebElement.class);
+
+        // checking another checkbox fires a change event, which changes the generation
+        TestWebDriver wd = mock(TestWebDriver.class, RETURNS_DEEP_STUBS);
+        when(wd.executeScript(anyString(), anyVararg()))
+            .thenReturn(Lists.newArrayList("resolved", "doc:1", first))
+            .thenReturn(Lists.newArrayList("resolved", "doc:2", second));
+
+        // when
+        List<WebElement> before = invoker.invokeExpressionElements(wd, expression);
+        List<WebElement> after = invoker.invokeExpressionElements(wd, expression);
+        invoker.invokeExpressionElements(wd, expression);
+
+        // then
+        verify(wd).executeScript(invoker.lightElementsInvokerScript(), Collections.emptyList(), hash, null, "doc:1");
+        verify(wd).executeScript(invoker.lightElementsInvokerScript(), Collections.emptyList(), hash, null, "doc:2");
+        assertThat(before, contains(first));
+        assertThat(after, contains(second));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWaitForExpressionElementsReusedWhileGenerationIsUnchanged() {
+        // given
+        List<String> jsResources = Collections.emptyList();
+        List<String> cssResources = Collections.emptyList();
+        DefaultJavascriptInvoker invoker = new DefaultJavascriptInvoker(JavascriptInvokerTest.class.getClassLoader(), jsResources, cssResources);
+        String expression = "$(\"input\")";
+        WebElement elem = mock(WebElement.class);
+
+        TestWebDriver wd = mock(TestWebDriver.class, RETURNS_DEEP_STUBS);
+        when(wd.executeAsyncScript(anyString(), anyVararg()))
+            .thenReturn(Lists.newArrayList("resolved", "doc:1", elem))
+            .thenReturn(Lists.newArrayList("minium-unchanged"));
+
+        // when
+        List<WebElement> resolved = invoker.waitForExpressionElements(wd, expression, 0, true, 5000, 100);
+        List<WebElement> reused = invoker.waitForExpressionElements(wd, expression, 0, true, 5000, 100);
+
+        // then
+        verify(wd).executeAsyncScript(eq(invoker.lightWaitInvokerScript()), eq(Collections.emptyList()), eq(invoker.hash(expression)), isNull(),
+                (Map<String, Object>) argThat(hasEntry("generation", (Object) "doc:1")));
+        verify(wd, never()).executeScript(anyString(), anyVararg());
+        assertThat(resolved, contains(elem));
+        assertThat(reused, contains(elem));
+    }
 }
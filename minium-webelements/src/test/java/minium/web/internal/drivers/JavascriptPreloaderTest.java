@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import minium.web.CoreWebElements.DefaultWebElements;
+import minium.web.actions.Browser;
+import minium.web.actions.WebDriverBrowser;
+import minium.web.internal.WebModules;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+public class JavascriptPreloaderTest {
+
+    @Test
+    public void testFallbackWhenNotSupported() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+        Browser<DefaultWebElements> browser = new WebDriverBrowser<>(webDriver, DefaultWebElements.class,
+                WebModules.combine(WebModules.defaultModule(webDriver), WebModules.javascriptPreloaderModule(new ChromeDevToolsJavascriptPreloader())));
+        DefaultWebElements textFld = browser.root().find(":text");
+
+        // when
+        boolean preloaded = new ChromeDevToolsJavascriptPreloader().preload(webDriver, "");
+        webDriver.when(textFld).thenReturn(new MockWebElement());
+
+        // then
+        assertThat(preloaded, equalTo(false));
+        assertThat(textFld, Matchers.<DefaultWebElements>iterableWithSize(1));
+    }
+
+    @Test
+    public void testChromeDevToolsPreload() throws Exception {
+        // given
+        Capabilities capabilities = mock(Capabilities.class);
+        when(capabilities.getBrowserName()).thenReturn(BrowserType.CHROME);
+        Response response = new Response();
+        response.setStatus(0);
+        HttpCommandExecutor executor = mock(HttpCommandExecutor.class);
+        when(executor.execute(any(Command.class))).thenReturn(response);
+        RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+        when(webDriver.getCapabilities()).thenReturn(capabilities);
+        when(webDriver.getCommandExecutor()).thenReturn(executor);
+        when(webDriver.getSessionId()).thenReturn(new SessionId("test"));
+
+        // when
+        boolean preloaded = new ChromeDevToolsJavascriptPreloader().preload(webDriver, "var a = 1;");
+
+        // then
+        ArgumentCaptor<Command> command = ArgumentCaptor.forClass(Command.class);
+        verify(executor).execute(command.capture());
+        assertThat(preloaded, equalTo(true));
+        assertThat(command.getValue().getName(), equalTo(ChromeDevToolsJavascriptPreloader.SEND_COMMAND));
+        assertThat(command.getValue().getParameters().get("cmd"), equalTo((Object) ChromeDevToolsJavascriptPreloader.ADD_SCRIPT_COMMAND));
+        assertThat(((Map<?, ?>) command.getValue().getParameters().get("params")).get("source"), equalTo((Object) "var a = 1;"));
+    }
+
+    @Test
+    public void testScriptIsPreloadedOncePerSession() throws Exception {
+        // given
+        Capabilities capabilities = mock(Capabilities.class);
+        when(capabilities.getBrowserName()).thenReturn(BrowserType.CHROME);
+        Response response = new Response();
+        response.setStatus(0);
+        HttpCommandExecutor executor = mock(HttpCommandExecutor.class);
+        when(executor.execute(any(Command.class))).thenReturn(response);
+        RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+        when(webDriver.getCapabilities()).thenReturn(capabilities);
+        when(webDriver.getCommandExecutor()).thenReturn(executor);
+        when(webDriver.getSessionId()).thenReturn(new SessionId("test"));
+        ChromeDevToolsJavascriptPreloader preloader = new ChromeDevToolsJavascriptPreloader();
+
+        // when
+        boolean firstPreloaded = preloader.preload(webDriver, "var a = 1;");
+        boolean secondPreloaded = preloader.preload(webDriver, "var a = 1;");
+
+        // then
+        verify(executor, times(1)).execute(any(Command.class));
+        assertThat(firstPreloaded, equalTo(true));
+        assertThat(secondPreloaded, equalTo(true));
+    }
+}
@@ -18,6 +18,7 @@ package minium.web.internal.drivers;
 import static org.mockito.Mockito.spy;
 
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +63,7 @@ public class MockWebDriver implements WebDriver, HasInputDevices, JavascriptExec
 
         public void thenReturn(WebElement ... nativeElems) {
             expressionToWebElements.put(expression, ImmutableList.copyOf(nativeElems));
+            generation++;
         }
     }
 
@@ -270,6 +272,10 @@ public class MockWebDriver implements WebDriver, HasInputDevices, JavascriptExec
     private MockedWindow mockedWindow = spy(new MockedWindow());
     private Expressionizer expressionizer = new Expressionizer.Composite().add(new ExpressionWebElementExpressionizer());
     private Map<String, List<WebElement>> expressionToWebElements = Maps.newHashMap();
+    // emulates compiled expressions cache in the browser
+    private Map<Object, Object> hashToExpression = Maps.newHashMap();
+    // emulates the DOM generation in the browser, which changes whenever mocked elements change
+    private int generation;
 
     @Override
     public Keyboard getKeyboard() {
@@ -346,7 +352,53 @@ public class MockWebDriver implements WebDriver, HasInputDevices, JavascriptExec
 
     @Override
     public final Object executeScript(String script, Object... args) {
-        Object obj = doExecuteScript(script, args);
+        // first argument contains the required jQuery extensions, which are always available here
+        Object[] scriptArgs = Arrays.copyOfRange(args, 1, args.length);
+        if (script.contains("evalCachedElements(")) return doExecuteElementsScript(script, scriptArgs);
+        return doExecuteExpressionScript(script, scriptArgs);
+    }
+
+    private Object doExecuteElementsScript(String script, Object... args) {
+        // expression hash and source are followed by the generation elements were last resolved in
+        if (resolveExpression(args[0], args[1]) == null) return getResults(ResponseType.MINIUM_UNCACHED);
+        String currentGeneration = "mock:" + generation;
+        if (currentGeneration.equals(args[2])) return getResults(ResponseType.MINIUM_UNCHANGED);
+
+        List<Object> expressionArgs = Lists.newArrayList(args[0], args[1]);
+        expressionArgs.addAll(Arrays.asList(args).subList(3, args.length));
+        List<?> response = (List<?>) doExecuteExpressionScript(script, expressionArgs.toArray());
+        if (!ResponseType.ARRAY.toString().equals(response.get(0))) return response;
+
+        List<Object> results = getResults(ResponseType.RESOLVED, currentGeneration);
+        results.addAll(response.subList(1, response.size()));
+        return results;
+    }
+
+    private Object doExecuteExpressionScript(String script, Object... args) {
+        if (args.length > 0 && args[0] instanceof List<?>) {
+            // batch invocation, each expression is evaluated with its own arguments
+            List<?> hashes = (List<?>) args[0];
+            List<?> expressions = (List<?>) args[1];
+            List<?> expressionsArgs = (List<?>) args[2];
+            for (int i = 0; i < hashes.size(); i++) {
+                if (resolveExpression(hashes.get(i), expressions.get(i)) == null) return getResults(ResponseType.MINIUM_UNCACHED);
+            }
+            List<Object> results = Lists.newArrayList();
+            results.add(ResponseType.BATCH.toString());
+            for (int i = 0; i < hashes.size(); i++) {
+                List<Object> expressionArgs = Lists.newArrayList();
+                expressionArgs.add(hashes.get(i));
+                expressionArgs.add(null);
+                expressionArgs.addAll((List<?>) expressionsArgs.get(i));
+                results.add(doExecuteExpressionScript(script, expressionArgs.toArray()));
+            }
+            return results;
+        }
+        Object expression = resolveExpression(args[0], args[1]);
+        if (expression == null) return getResults(ResponseType.MINIUM_UNCACHED);
+        List<Object> expressionArgs = Lists.newArrayList(expression);
+        expressionArgs.addAll(Arrays.asList(args).subList(2, args.length));
+        Object obj = doExecuteScript(script, expressionArgs.toArray());
         if (obj == null) {
             return getResults(ResponseType.NULL);
         } else if (obj instanceof List<?>) {
@@ -363,6 +415,11 @@ public class MockWebDriver implements WebDriver, HasInputDevices, JavascriptExec
         throw new IllegalStateException();
     }
 
+    private Object resolveExpression(Object hash, Object expression) {
+        if (expression != null) hashToExpression.put(hash, expression);
+        return hashToExpression.get(hash);
+    }
+
     private List<Object> getResults(ResponseType type, Object ... vals) {
         List<Object> results = Lists.newArrayList();
         results.add(type.toString());
@@ -399,5 +456,6 @@ public class MockWebDriver implements WebDriver, HasInputDevices, JavascriptExec
 
     public void reset() {
         expressionToWebElements.clear();
+        generation++;
     }
 }
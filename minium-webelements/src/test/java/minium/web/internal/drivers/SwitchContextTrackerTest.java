@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2015 The Minium Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package minium.web.internal.drivers;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import com.google.common.base.Function;
+
+public class SwitchContextTrackerTest {
+
+    @Test
+    public void testRedundantSwitchesAreSkipped() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+        WindowWebDriver window = new WindowWebDriver(webDriver);
+        FrameWebDriver frame = new FrameWebDriver(new DocumentWebElement(new MockWebElement(), window));
+        SwitchContextTracker switchContext = window.getSwitchContext();
+
+        // when
+        window.getTitle();
+        window.getTitle();
+        frame.getTitle();
+        frame.getTitle();
+        new WindowWebDriver(webDriver).getTitle();
+
+        // then
+        assertThat(switchContext.getPerformedSwitches(), equalTo(3L));
+        assertThat(switchContext.getSkippedSwitches(), equalTo(3L));
+    }
+
+    @Test
+    public void testNavigationInvalidatesContext() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+        WindowWebDriver window = new WindowWebDriver(webDriver);
+        SwitchContextTracker switchContext = window.getSwitchContext();
+
+        // when
+        window.get("http://localhost/");
+        window.getTitle();
+
+        // then
+        assertThat(switchContext.getPerformedSwitches(), equalTo(2L));
+        assertThat(switchContext.getSkippedSwitches(), equalTo(0L));
+    }
+
+    @Test
+    public void testContextLostWhileRetryingStaleElementInvalidatesContext() {
+        // given
+        MockWebDriver webDriver = new MockWebDriver();
+        final WindowWebDriver window = new WindowWebDriver(webDriver);
+        SwitchContextTracker switchContext = window.getSwitchContext();
+        MockWebElement staleElement = new MockWebElement() {
+            @Override
+            public void click() {
+                throw new StaleElementReferenceException("stale");
+            }
+        };
+        final MockWebElement recoveredElement = new MockWebElement() {
+            @Override
+            public void click() {
+                throw new NoSuchWindowException("window closed");
+            }
+        };
+        DocumentWebElement element = new DocumentWebElement(staleElement, window, new Function<DocumentWebElement, DocumentWebElement>() {
+            @Override
+            public DocumentWebElement apply(DocumentWebElement staleElem) {
+                return new DocumentWebElement(recoveredElement, window);
+            }
+        });
+
+        // when
+        try {
+            element.click();
+            fail("NoSuchWindowException expected");
+        } catch (NoSuchWindowException e) {
+            // expected
+        }
+
+        // then
+        assertThat(switchContext.isCurrent(window), equalTo(false));
+    }
+}
@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.everyItem;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.hasSize;
@@ -27,6 +28,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.Map;
 
 import minium.web.DocumentWebDriver;
 import minium.web.internal.drivers.DocumentWebElement;
@@ -35,6 +37,7 @@ import minium.web.internal.drivers.InternalDocumentWebDriver;
 import org.junit.Test;
 import org.openqa.selenium.WebElement;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 public class ExpressionTest {
@@ -167,6 +170,63 @@ public class ExpressionTest {
         assertThat(args, emptyArray());
     }
 
+    @Test
+    public void testJsonExpressionizerInlinesLiterals() {
+        // given
+        Expressionizer expressionizer = new JsonExpressionizer();
+        Expression expression = new FunctionInvocationExpression(new RootExpression(), "find", expressionizer.apply("div"));
+        VariableGenerator varGenerator = new VariableGenerator.Impl();
+
+        // when
+        String javascript = expression.getJavascript(varGenerator);
+        Object[] args = expression.getArgs();
+
+        // then
+        assertThat(varGenerator.usedVariables(), equalTo(0));
+        assertThat(javascript, equalTo("$(\"div\")"));
+        assertThat(args, emptyArray());
+    }
+
+    @Test
+    public void testJsonExpressionizerWithLiteralsAsArgs() {
+        // given
+        Expressionizer expressionizer = new JsonExpressionizer(null, true);
+        Expression fn1Expression = new FunctionInvocationExpression(new RootExpression(), "find", expressionizer.apply("input"));
+        Expression expression = new FunctionInvocationExpression(fn1Expression, "withValue", expressionizer.apply(ImmutableMap.of("value", 1)));
+        VariableGenerator varGenerator = new VariableGenerator.Impl();
+
+        // when
+        String javascript = expression.getJavascript(varGenerator);
+        Object[] args = expression.getArgs();
+
+        // then
+        assertThat(varGenerator.usedVariables(), equalTo(2));
+        assertThat(javascript, equalTo("$(args[0]).withValue(args[1])"));
+        assertThat(args, arrayWithSize(2));
+        assertThat(args[0], equalTo((Object) "input"));
+        assertThat(args[1], instanceOf(Map.class));
+    }
+
+    @Test
+    public void testExpressionTemplateIsMemoized() {
+        // given
+        Expressionizer expressionizer = new JsonExpressionizer(null, true);
+        Expression parentExpression = new FunctionInvocationExpression(new RootExpression(), "find", new BasicExpression("\"input\""));
+        Expression expression = new FunctionInvocationExpression(parentExpression, "withValue", expressionizer.apply("value"));
+
+        // when
+        String javascript = expression.getJavascript();
+        Object[] args = expression.getArgs();
+
+        // then
+        assertThat(javascript, equalTo("$(\"input\").withValue(args[0])"));
+        assertThat(expression.getJavascript(), sameInstance(javascript));
+        assertThat(expression.getArgs(), sameInstance(args));
+        assertThat(expression.toString(), sameInstance(javascript));
+        // fresh variable generators still get consistent templates
+        assertThat(expression.getJavascript(new VariableGenerator.Impl()), equalTo(javascript));
+    }
+
     protected DocumentWebElement createWrappedWebElement() {
         return new DocumentWebElement(createWebElement(), webDriver);
     }